@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -23,20 +24,47 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    // Mono/Flux 반환 API (starter-web 이 함께 있으므로 서버는 그대로 Servlet/Tomcat)
+    implementation(libs.spring.boot.starter.webflux)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     implementation(libs.springdoc.openapi.starter.webmvc.ui)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.reactor.test)
 }
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    sourceCompatibility = JavaVersion.VERSION_21
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
+}
+
+// benchmark (src/jmh/java, ./gradlew jmh -PjmhIncludes=<정규식> -PjmhProfilers=gc)
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    findProperty("jmhIncludes")?.let { includes.set(listOf(it.toString())) }
+    findProperty("jmhProfilers")?.let { profilers.set(it.toString().split(",")) }
+}
+
+// 충전/사용 한 건당 할당량이 ChargeAllocationBenchmark.ALLOCATION_BUDGETS 를 넘으면 실패 (check 에 포함)
+val jmhAllocationBudget by tasks.registering(JavaExec::class) {
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    description = "ChargeAllocationBenchmark 를 GC profiler 와 함께 실행하고 할당 예산을 넘으면 실패합니다."
+    classpath = files(tasks.named("jmhJar"))
+    mainClass.set("io.hhplus.tdd.benchmark.ChargeAllocationBenchmark")
+}
+tasks.named("check") {
+    dependsOn(jmhAllocationBudget)
 }
 
 // bundling tasks
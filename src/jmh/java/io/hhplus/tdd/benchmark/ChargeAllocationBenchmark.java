@@ -0,0 +1,153 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.AggregatingPointHistoryRepository;
+import io.hhplus.tdd.point.repository.ConcurrentLongBalanceMap;
+import io.hhplus.tdd.point.repository.InMemoryUserPointRepository;
+import io.hhplus.tdd.point.repository.MappedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.MeteredPointHistoryRepository;
+import io.hhplus.tdd.point.repository.MeteredUserPointRepository;
+import io.hhplus.tdd.point.repository.PointFlowRollup;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.service.LockingUserPointEngine;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.service.UserPointLockProvider;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.format.OutputFormat;
+import org.openjdk.jmh.runner.format.OutputFormatFactory;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전/사용 한 건당 할당량 (young GC 빈도는 할당 속도에 비례)
+ * - 메모리 잔액 저장소 + STRIPED Lock + LOCK 엔진 + 매핑 파일 거래 내역 (요약/흐름 합계, 지표 포함)
+ * - ./gradlew jmh -PjmhIncludes=ChargeAllocation -PjmhProfilers=gc 로 gc.alloc.rate.norm 확인
+ * - main 은 GC profiler 를 붙여 돌리고 예산(ALLOCATION_BUDGETS)을 넘으면 실패
+ *   ./gradlew check 가 jmhAllocationBudget 태스크로 실행하므로 예산을 넘으면 빌드가 실패함
+ * - HTTP/JSON 계층의 할당은 포함하지 않음
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+@State(Scope.Thread)
+public class ChargeAllocationBenchmark {
+
+    /**
+     * 벤치마크별 한 호출당 최대 할당량 (bytes)
+     * - chargeAndUse : 충전 1 + 사용 1, 반환하는 UserPoint 와 사용자 ID 박싱이 대부분
+     * - rejectedUse : 잔액 부족 사용 1, 거절 메시지 문자열과 stack trace 없는 예외
+     */
+    static final Map<String, Double> ALLOCATION_BUDGETS = Map.of(
+            "chargeAndUse", 320.0,
+            "rejectedUse", 256.0);
+
+    private static final int USER_COUNT = 1024;
+    // 충전한 적 없는 사용자 (잔액 0)
+    private static final long EMPTY_USER_ID = 1L;
+
+    private Path directory;
+    private PointHistoryRepository pointHistoryRepository;
+    private UserPointService userPointService;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        directory = Files.createTempDirectory("charge-allocation");
+        pointHistoryRepository = new MeteredPointHistoryRepository(
+                new AggregatingPointHistoryRepository(
+                        new MappedPointHistoryRepository(directory, 1 << 20), 31, ZoneId.of("Asia/Seoul"),
+                        new PointFlowRollup(1440, 720, 8)),
+                registry);
+        MeteredUserPointRepository userPointRepository = new MeteredUserPointRepository(
+                new InMemoryUserPointRepository(new ConcurrentLongBalanceMap()), registry);
+        LockingUserPointEngine engine = new LockingUserPointEngine(userPointRepository, pointHistoryRepository,
+                new UserPointLockProvider(UserPointLockProvider.Mode.STRIPED, 1024), PointMetrics.noop());
+        userPointService = new UserPointService(engine, pointHistoryRepository, PointMetrics.noop());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        ((AutoCloseable) pointHistoryRepository).close();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public UserPoint chargeAndUse() {
+        // 128 보다 큰 ID 를 써서 Long 캐시에 기대지 않음
+        long userId = 1_000 + (sequence++ & (USER_COUNT - 1));
+        userPointService.chargePoint(userId, 1L);
+        return userPointService.usePoint(userId, 1L);
+    }
+
+    @Benchmark
+    public Object rejectedUse() {
+        try {
+            return userPointService.usePoint(EMPTY_USER_ID, 1L);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ChargeAllocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .forks(1)
+                .build();
+        // 예산 비교 결과도 JMH 결과와 같은 출력으로 남김
+        OutputFormat output = OutputFormatFactory.createFormatInstance(System.out, VerboseMode.NORMAL);
+        StringBuilder exceeded = new StringBuilder();
+        for (RunResult runResult : new Runner(options, output).run()) {
+            String benchmark = runResult.getParams().getBenchmark();
+            String label = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            Result<?> allocated = runResult.getSecondaryResults().get("gc.alloc.rate.norm");
+            Double budget = ALLOCATION_BUDGETS.get(label);
+            if (allocated == null || budget == null) {
+                continue;
+            }
+            output.println(String.format("%s: %.1f B/op (예산 %.0f B/op)", label, allocated.getScore(), budget));
+            if (allocated.getScore() > budget) {
+                exceeded.append(String.format("%n  %s: %.1f B/op > %.0f B/op", label, allocated.getScore(), budget));
+            }
+        }
+        if (!exceeded.isEmpty()) {
+            throw new IllegalStateException("할당 예산 초과:" + exceeded);
+        }
+    }
+}
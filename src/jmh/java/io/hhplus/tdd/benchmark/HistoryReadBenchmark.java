@@ -0,0 +1,85 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.MappedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.TablePointHistoryRepository;
+import io.hhplus.tdd.point.repository.TableUserPointRepository;
+import io.hhplus.tdd.point.service.LockingUserPointEngine;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.service.UserPointLockProvider;
+import io.hhplus.tdd.point.service.UserPointService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 거래 내역 수에 따른 사용자별 내역 조회 시간
+ * - TABLE: 전체 목록을 훑는 PointHistoryTable 조회 / INDEXED: 사용자별 인덱스 조회
+ * - MAPPED: 메모리 매핑 파일의 사용자별 연결 목록 조회
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class HistoryReadBenchmark {
+
+    public enum Store {
+        TABLE,
+        INDEXED,
+        MAPPED
+    }
+
+    @Param({"10000", "100000", "1000000"})
+    public int historySize;
+
+    @Param({"TABLE", "INDEXED", "MAPPED"})
+    public Store store;
+
+    @Param({"1000"})
+    public int userCount;
+
+    private UserPointService userPointService;
+
+    @Setup
+    public void setUp() throws IOException {
+        ThrottledPointHistoryTable pointHistoryTable = new ThrottledPointHistoryTable(0, true);
+        PointHistoryRepository pointHistoryRepository = switch (store) {
+            case TABLE -> new TablePointHistoryRepository(pointHistoryTable);
+            case INDEXED -> new IndexedPointHistoryRepository(pointHistoryTable);
+            case MAPPED -> new MappedPointHistoryRepository(Files.createTempDirectory("point-history"), 1 << 20);
+        };
+        for (int i = 0; i < historySize; i++) {
+            TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            pointHistoryRepository.insert(i % userCount, 100L, type, i);
+        }
+        LockingUserPointEngine userPointEngine = new LockingUserPointEngine(
+                new TableUserPointRepository(new ThrottledUserPointTable(0, 0)), pointHistoryRepository, new UserPointLockProvider());
+        userPointService = new UserPointService(userPointEngine, pointHistoryRepository, PointMetrics.noop());
+    }
+
+    @Benchmark
+    public List<PointHistory> getTransactionHistory() {
+        return userPointService.getTransactionHistory(ThreadLocalRandom.current().nextLong(userCount));
+    }
+
+    @Benchmark
+    public PointHistoryPage getTransactionHistoryPage() {
+        return userPointService.getTransactionHistoryPage(
+                ThreadLocalRandom.current().nextLong(userCount), PointHistoryCondition.none(), 20);
+    }
+}
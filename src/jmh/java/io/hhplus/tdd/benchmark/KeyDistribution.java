@@ -0,0 +1,23 @@
+package io.hhplus.tdd.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크에서 요청할 사용자 ID 분포
+ */
+public enum KeyDistribution {
+    /** 모든 요청이 한 사용자에게 몰림 (최대 경합) */
+    SINGLE,
+    /** 전체 사용자에 고르게 분산 */
+    UNIFORM,
+    /** 소수 사용자에게 요청이 몰리는 Zipf 분포 */
+    ZIPFIAN;
+
+    long next(int userCount, ZipfianGenerator zipfian) {
+        return switch (this) {
+            case SINGLE -> 0L;
+            case UNIFORM -> ThreadLocalRandom.current().nextLong(userCount);
+            case ZIPFIAN -> zipfian.next(ThreadLocalRandom.current());
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.service.UserPointLockProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 Lock 획득/반납 비용 (Lock 생성/제거가 반복되는 상황 포함)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class LockProviderBenchmark {
+
+    @Param({"REFERENCE_COUNTED", "STRIPED"})
+    public UserPointLockProvider.Mode mode;
+
+    @Param({"1", "1000", "1000000"})
+    public int userCount;
+
+    private UserPointLockProvider lockProvider;
+
+    @Setup
+    public void setUp() {
+        lockProvider = new UserPointLockProvider(mode, 1024);
+    }
+
+    @Benchmark
+    public void lockUnlock() {
+        long userId = ThreadLocalRandom.current().nextLong(userCount);
+        lockProvider.lock(userId);
+        lockProvider.unlock(userId);
+    }
+}
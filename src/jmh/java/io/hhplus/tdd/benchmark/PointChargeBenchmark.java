@@ -0,0 +1,115 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.config.PointBalanceProperties;
+import io.hhplus.tdd.point.config.PointEngineConfig;
+import io.hhplus.tdd.point.config.PointEngineProperties;
+import io.hhplus.tdd.point.config.PointHistoryProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.BatchingPointHistoryRepository;
+import io.hhplus.tdd.point.repository.InMemoryUserPointRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.ShardedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.TablePointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.service.UserPointEngine;
+import io.hhplus.tdd.point.service.UserPointLockProvider;
+import io.hhplus.tdd.point.service.UserPointService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전/사용 처리량과 지연 시간
+ * - 엔진(LOCK / CAS / MAILBOX / SHARDED) x 사용자 분포(SINGLE / UNIFORM / ZIPFIAN) x 테이블 지연
+ * - 한 호출에서 같은 사용자에게 1 충전 후 1 사용 (잔액이 최대/최소를 벗어나지 않음)
+ * - 엔진끼리 비교할 수 있도록 모든 엔진이 같은 저장소 구성을 씀 (SHARDED 엔진이 받아들이는 구성)
+ *   - 잔액: memory 저장소 (ThrottledBalanceStore, 호출마다 tableDelayMicros 지연)
+ *   - 거래 내역: 사용자 ID 해시별 shard 로 나눈 저장소 (shard 수 = 코어 수)
+ *     운영의 sharded 구성은 shard 마다 mapped 저장소를 두지만, 여기서는 지연을 조절하도록 shard 마다 ThrottledPointHistoryTable 을 둠
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class PointChargeBenchmark {
+
+    @Param({"LOCK", "CAS", "MAILBOX", "SHARDED"})
+    public PointEngineProperties.Mode engine;
+
+    @Param({"SINGLE", "UNIFORM", "ZIPFIAN"})
+    public KeyDistribution distribution;
+
+    @Param({"0", "1000"})
+    public long tableDelayMicros;
+
+    @Param({"10000"})
+    public int userCount;
+
+    private UserPointEngine userPointEngine;
+    private UserPointService userPointService;
+    private ZipfianGenerator zipfian;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        int shards = Runtime.getRuntime().availableProcessors();
+        UserPointRepository userPointRepository = new InMemoryUserPointRepository(new ThrottledBalanceStore(tableDelayMicros, tableDelayMicros));
+        PointHistoryRepository pointHistoryRepository = new ShardedPointHistoryRepository(shards,
+                shard -> new TablePointHistoryRepository(new ThrottledPointHistoryTable(tableDelayMicros, false)));
+        PointEngineProperties properties = new PointEngineProperties(
+                engine,
+                new PointEngineProperties.Cas(Duration.ofMillis(100)),
+                new PointEngineProperties.Mailbox(shards, 10_000, 256),
+                new PointEngineProperties.Sharded(shards, userCount / shards + 1, false, 10_000));
+        PointBalanceProperties balanceProperties = new PointBalanceProperties(
+                PointBalanceProperties.Store.MEMORY,
+                new PointBalanceProperties.WriteBehind(Duration.ofMillis(100), 10_000),
+                new PointBalanceProperties.Memory(64, userCount),
+                new PointBalanceProperties.Cache(false, 100_000, Duration.ofMinutes(10)));
+        PointHistoryProperties historyProperties = new PointHistoryProperties(
+                PointHistoryProperties.Store.SHARDED,
+                PointHistoryProperties.Writer.DIRECT,
+                new PointHistoryProperties.Batching(10_000, 256, BatchingPointHistoryRepository.Durability.APPEND),
+                new PointHistoryProperties.Mapped(Path.of("data/history"), 1 << 20),
+                new PointHistoryProperties.Sharded(shards),
+                new PointHistoryProperties.Summary(0, ZoneId.of("Asia/Seoul")),
+                new PointHistoryProperties.Rollup(1440, 720, 8));
+        userPointEngine = new PointEngineConfig().userPointEngine(
+                userPointRepository, pointHistoryRepository, new UserPointLockProvider(), PointMetrics.noop(), properties,
+                balanceProperties, historyProperties);
+        userPointService = new UserPointService(userPointEngine, pointHistoryRepository, PointMetrics.noop());
+        zipfian = new ZipfianGenerator(userCount);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        if (userPointEngine instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Benchmark
+    public UserPoint chargeAndUse() {
+        long userId = distribution.next(userCount, zipfian);
+        userPointService.chargePoint(userId, 1L);
+        return userPointService.usePoint(userId, 1L);
+    }
+
+    @Benchmark
+    public UserPoint getUserPoint() {
+        return userPointService.getUserPoint(distribution.next(userCount, zipfian));
+    }
+}
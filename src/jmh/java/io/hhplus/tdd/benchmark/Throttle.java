@@ -0,0 +1,24 @@
+package io.hhplus.tdd.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테이블 대역의 지연 (원본 테이블처럼 0 ~ 최대값 사이 임의 시간)
+ */
+final class Throttle {
+
+    private Throttle() {
+    }
+
+    static void randomDelay(long maxMicros) {
+        if (maxMicros <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MICROSECONDS.sleep(ThreadLocalRandom.current().nextLong(maxMicros + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
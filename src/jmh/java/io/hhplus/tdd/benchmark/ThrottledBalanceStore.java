@@ -0,0 +1,39 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.BalanceStore;
+import io.hhplus.tdd.point.repository.ConcurrentLongBalanceMap;
+
+/**
+ * 지연 시간을 조절할 수 있는 잔액 저장소 대역
+ * - ConcurrentLongBalanceMap 에 보관하고, ThrottledUserPointTable 처럼 호출마다 0 ~ 최대 지연 사이 임의 시간 대기
+ * - 모든 엔진이 같은 잔액 저장소(memory)를 쓰면서도 저장소 지연의 영향을 함께 측정하기 위함
+ */
+public class ThrottledBalanceStore implements BalanceStore {
+
+    private final BalanceStore delegate = new ConcurrentLongBalanceMap();
+    private final long selectDelayMicros;
+    private final long updateDelayMicros;
+
+    public ThrottledBalanceStore(long selectDelayMicros, long updateDelayMicros) {
+        this.selectDelayMicros = selectDelayMicros;
+        this.updateDelayMicros = updateDelayMicros;
+    }
+
+    @Override
+    public UserPoint get(long userId) {
+        Throttle.randomDelay(selectDelayMicros);
+        return delegate.get(userId);
+    }
+
+    @Override
+    public void put(long userId, long point, long updateMillis) {
+        Throttle.randomDelay(updateDelayMicros);
+        delegate.put(userId, point, updateMillis);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+}
@@ -0,0 +1,55 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연 시간을 조절할 수 있는 PointHistoryTable 대역
+ * - PointHistoryTable 과 같은 공개 API, insert 마다 0 ~ insertDelayMicros 사이 임의 시간 대기
+ * - selectAllByUserId 는 원본처럼 전체 목록을 훑음
+ * - retain 이 false 면 ID 만 발급하고 내역은 보관하지 않음 (충전/사용 측정 중 메모리가 측정 시간에 비례해 늘지 않게)
+ */
+public class ThrottledPointHistoryTable extends PointHistoryTable {
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private final Lock tableLock = new ReentrantLock();
+    private final long insertDelayMicros;
+    private final boolean retain;
+    private long cursor = 1;
+
+    public ThrottledPointHistoryTable(long insertDelayMicros, boolean retain) {
+        this.insertDelayMicros = insertDelayMicros;
+        this.retain = retain;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        Throttle.randomDelay(insertDelayMicros);
+        tableLock.lock();
+        try {
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            if (retain) {
+                table.add(pointHistory);
+            }
+            return pointHistory;
+        } finally {
+            tableLock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        tableLock.lock();
+        try {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        } finally {
+            tableLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지연 시간을 조절할 수 있는 UserPointTable 대역
+ * - UserPointTable 과 같은 공개 API, 호출마다 0 ~ maxDelayMicros 사이 임의 시간 대기
+ * - 원본의 HashMap 대신 ConcurrentHashMap 을 사용해 측정 중 테이블 자체가 깨지지 않게 함
+ */
+public class ThrottledUserPointTable extends UserPointTable {
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+    private final long selectDelayMicros;
+    private final long updateDelayMicros;
+
+    public ThrottledUserPointTable(long selectDelayMicros, long updateDelayMicros) {
+        this.selectDelayMicros = selectDelayMicros;
+        this.updateDelayMicros = updateDelayMicros;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        Throttle.randomDelay(selectDelayMicros);
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        Throttle.randomDelay(updateDelayMicros);
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.benchmark;
+
+import java.util.Random;
+
+/**
+ * 0 ~ itemCount-1 사이 값을 Zipf 분포로 뽑는 생성기 (작은 값일수록 자주 나옴)
+ * - Gray et al. "Quickly Generating Billion-Record Synthetic Databases" 방식 (YCSB 와 동일)
+ */
+final class ZipfianGenerator {
+
+    static final double DEFAULT_THETA = 0.99;
+
+    private final long itemCount;
+    private final double theta;
+    private final double alpha;
+    private final double zetaN;
+    private final double eta;
+
+    ZipfianGenerator(long itemCount) {
+        this(itemCount, DEFAULT_THETA);
+    }
+
+    ZipfianGenerator(long itemCount, double theta) {
+        this.itemCount = itemCount;
+        this.theta = theta;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.zetaN = zeta(itemCount, theta);
+        double zeta2 = zeta(2, theta);
+        this.eta = (1 - Math.pow(2.0 / itemCount, 1 - theta)) / (1 - zeta2 / zetaN);
+    }
+
+    long next(Random random) {
+        double u = random.nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return Math.min(1, itemCount - 1);
+        }
+        return Math.min((long) (itemCount * Math.pow(eta * u - eta + 1, alpha)), itemCount - 1);
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 사용자 ID 를 노드에 배정하는 consistent hash ring (불변, 변경하면 새 ring 을 만듦)
+ * - 노드마다 virtualNodes 개의 점을 ring 에 찍고, 사용자 해시에서 시계 방향으로 처음 만나는 점의 노드가 담당
+ * - 노드를 추가/제거해도 그 노드와 맞닿은 구간의 사용자만 담당이 바뀜 (전체의 약 1/노드 수)
+ * - 같은 노드 목록이면 어느 인스턴스에서 만들어도 같은 배정 (해시는 JVM 과 무관한 FNV-1a + fmix64)
+ */
+public final class ConsistentHashRing {
+
+    private final Set<String> nodes;
+    private final int virtualNodes;
+    private final NavigableMap<Long, String> points = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("노드가 하나 이상 있어야 합니다.");
+        }
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("가상 노드 수는 1 이상이어야 합니다.");
+        }
+        this.nodes = new LinkedHashSet<>(nodes);
+        this.virtualNodes = virtualNodes;
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                // 해시가 겹치면 정렬상 앞선 노드가 차지 (어느 인스턴스에서나 같은 결과)
+                points.merge(hash(node + "#" + i), node, (existing, added) -> existing.compareTo(added) <= 0 ? existing : added);
+            }
+        }
+    }
+
+    /**
+     * 사용자를 담당하는 노드
+     */
+    public String ownerOf(long userId) {
+        Map.Entry<Long, String> point = points.ceilingEntry(mix(userId));
+        return point != null ? point.getValue() : points.firstEntry().getValue();
+    }
+
+    public ConsistentHashRing withNode(String node) {
+        List<String> added = new ArrayList<>(nodes);
+        added.add(node);
+        return new ConsistentHashRing(added, virtualNodes);
+    }
+
+    public ConsistentHashRing withoutNode(String node) {
+        List<String> removed = new ArrayList<>(nodes);
+        removed.remove(node);
+        return new ConsistentHashRing(removed, virtualNodes);
+    }
+
+    public List<String> nodes() {
+        return List.copyOf(nodes);
+    }
+
+    public int virtualNodes() {
+        return virtualNodes;
+    }
+
+    public boolean contains(String node) {
+        return nodes.contains(node);
+    }
+
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * murmur3 fmix64 (연속된 사용자 ID 도 ring 전체에 고르게 퍼지도록)
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 클러스터 구성 API(/cluster/**) 앞에서 공유 비밀값을 확인하는 필터
+ * - PointNodeClient.SECRET_HEADER 가 없거나 point.cluster.secret 과 다르면 401 (노드 추가/제거, ring 적용, 이관 모두)
+ */
+public class PointClusterAuthFilter extends OncePerRequestFilter {
+
+    private final PointNodeClient nodeClient;
+    private final ObjectMapper objectMapper;
+
+    public PointClusterAuthFilter(PointNodeClient nodeClient, ObjectMapper objectMapper) {
+        this.nodeClient = nodeClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (nodeClient.isTrusted(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse("401", "클러스터 비밀값이 없거나 맞지 않습니다."));
+    }
+}
@@ -0,0 +1,294 @@
+package io.hhplus.tdd.point.cluster;
+
+import io.hhplus.tdd.point.dto.ClusterMembership;
+import io.hhplus.tdd.point.dto.UserPointHandOff;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.UserPendingWork;
+import io.hhplus.tdd.point.service.UserPointLockProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 여러 인스턴스에 사용자를 나눠 담당시키는 클러스터 구성과 담당 이관
+ * - 각 노드는 같은 노드 목록으로 만든 ConsistentHashRing 을 들고 요청마다 담당 노드를 계산
+ * - 노드 추가/제거는 요청받은 노드가 변경 전후의 모든 노드에 두 단계로 새 ring 을 알림
+ *   - 준비(prepareRing): 각 노드가 자기가 담당하다 빠질 사용자를 막고(fence) 새 담당 노드로 이관, 이관 응답을 받으면 반환
+ *     (변경 전 ring 에서 담당이 아니던 사용자는 예전에 넘겨준 낡은 사본이므로 보내지 않음)
+ *   - 적용(applyRing): 모든 노드가 준비를 마친 뒤 ring 을 바꾸고 막은 사용자를 풂
+ *   - 준비에 실패한 노드가 있으면 준비한 노드들에 변경 전 ring 을 다시 적용해 되돌림 (제거하는 노드에 연결할 수 없는 경우는 건너뜀)
+ * - 막힌 사용자의 요청은 어느 노드로 오든 ring 이 바뀔 때까지 503 (이관 후 옛 담당 노드에 쓰인 변경이 사라지지 않음)
+ * - 막기 전에 필터를 통과해 처리 중인 요청은 이관 전에 끝나길 기다림 (요청 처리 중에는 read lock, 막은 뒤 write lock 한 번)
+ *   응답 뒤에도 이어서 처리되는 사용자 작업(UserPendingWork, reactive 변경 등)도 drainTimeout 안에 끝나길 기다리고,
+ *   끝나지 않으면 이관하지 않고 준비 실패로 처리
+ * - 이관은 잔액을 덮어쓰고, 받는 노드에 이미 있는 앞부분 거래 내역은 건너뛰고 나머지만 기록
+ *   (예전에 이 노드가 담당하다 넘겨준 사용자가 돌아오는 경우 내역이 중복되지 않음)
+ * - 이관은 사용자 Lock 으로 잔액/내역을 읽으므로 LOCK 엔진에서만 사용
+ */
+public class PointClusterService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointClusterService.class);
+
+    private final String self;
+    private final PointNodeClient nodeClient;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserPointLockProvider lockProvider;
+    private final List<UserPendingWork> pendingWorks;
+    private final Duration drainTimeout;
+    private volatile ConsistentHashRing ring;
+
+    // ring 변경과 이관은 한 번에 하나씩
+    private final Lock membershipLock = new ReentrantLock();
+    // 이관 중이라 요청을 받지 않는 사용자
+    private final Set<Long> fenced = ConcurrentHashMap.newKeySet();
+    // 사용자 요청 처리 중에는 read lock, 막은 뒤 write lock 으로 처리 중인 요청이 끝나길 기다림
+    private final ReadWriteLock requestLock = new ReentrantReadWriteLock();
+
+    public PointClusterService(String self, ConsistentHashRing ring, PointNodeClient nodeClient,
+                               UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                               UserPointLockProvider lockProvider, List<UserPendingWork> pendingWorks, Duration drainTimeout) {
+        this.self = self;
+        this.ring = ring;
+        this.nodeClient = nodeClient;
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.lockProvider = lockProvider;
+        this.pendingWorks = pendingWorks;
+        this.drainTimeout = drainTimeout;
+    }
+
+    public String self() {
+        return self;
+    }
+
+    /**
+     * 사용자를 담당하는 노드
+     */
+    public String ownerOf(long userId) {
+        return ring.ownerOf(userId);
+    }
+
+    public ClusterMembership membership() {
+        return new ClusterMembership(self, ring.nodes());
+    }
+
+    /**
+     * 이 노드에서 사용자 요청 처리를 시작 (성공하면 끝난 뒤 반드시 exit 호출)
+     * @return 이관 중이라 막힌 사용자면 false
+     */
+    public boolean enter(long userId) {
+        requestLock.readLock().lock();
+        if (fenced.contains(userId)) {
+            requestLock.readLock().unlock();
+            return false;
+        }
+        return true;
+    }
+
+    public void exit() {
+        requestLock.readLock().unlock();
+    }
+
+    /**
+     * 노드를 추가하고 모든 노드에 알림 (각 노드가 새 노드로 담당 사용자를 이관한 뒤 반환)
+     * @throws IllegalStateException 이관을 준비하지 못해 변경을 되돌린 경우
+     */
+    public ClusterMembership addNode(String node) {
+        membershipLock.lock();
+        try {
+            if (!ring.contains(node)) {
+                broadcast(ring, ring.withNode(node));
+            }
+            return membership();
+        } finally {
+            membershipLock.unlock();
+        }
+    }
+
+    /**
+     * 노드를 제거하고 모든 노드에 알림 (제거된 노드가 살아 있으면 담당하던 사용자를 모두 이관한 뒤 반환)
+     * @throws IllegalStateException 이관을 준비하지 못해 변경을 되돌린 경우
+     */
+    public ClusterMembership removeNode(String node) {
+        membershipLock.lock();
+        try {
+            if (ring.contains(node)) {
+                broadcast(ring, ring.withoutNode(node));
+            }
+            return membership();
+        } finally {
+            membershipLock.unlock();
+        }
+    }
+
+    /**
+     * 다른 노드가 알린 ring 으로 바뀔 준비: 담당에서 빠질 사용자를 막고 새 담당 노드로 이관
+     * @return 이관한 사용자 수
+     * @throws IllegalStateException 이관 응답을 받지 못한 경우 (막은 사용자는 applyRing 때까지 그대로)
+     */
+    public int prepareRing(List<String> nodes) {
+        membershipLock.lock();
+        try {
+            return prepare(new ConsistentHashRing(nodes, ring.virtualNodes()));
+        } finally {
+            membershipLock.unlock();
+        }
+    }
+
+    /**
+     * 다른 노드가 알린 ring 을 적용하고 막은 사용자를 풂
+     */
+    public void applyRing(List<String> nodes) {
+        membershipLock.lock();
+        try {
+            commit(new ConsistentHashRing(nodes, ring.virtualNodes()));
+        } finally {
+            membershipLock.unlock();
+        }
+    }
+
+    /**
+     * 다른 노드가 이관한 사용자의 잔액과 거래 내역을 반영
+     */
+    public void importUsers(List<UserPointHandOff> handOffs) {
+        for (UserPointHandOff handOff : handOffs) {
+            UserPoint userPoint = handOff.userPoint();
+            lockProvider.lock(userPoint.id());
+            try {
+                int known = pointHistoryRepository.selectAllByUserId(userPoint.id()).size();
+                List<CompletableFuture<Void>> written = new ArrayList<>();
+                for (PointHistory pointHistory : handOff.histories().subList(Math.min(known, handOff.histories().size()), handOff.histories().size())) {
+                    written.add(pointHistoryRepository.insert(pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis()));
+                }
+                CompletableFuture.allOf(written.toArray(CompletableFuture[]::new)).join();
+                userPointRepository.insertOrUpdate(userPoint.id(), userPoint.point());
+            } finally {
+                lockProvider.unlock(userPoint.id());
+            }
+        }
+        log.info("담당 사용자 {} 명 이관받음", handOffs.size());
+    }
+
+    private void broadcast(ConsistentHashRing before, ConsistentHashRing after) {
+        Set<String> targets = new LinkedHashSet<>(before.nodes());
+        targets.addAll(after.nodes());
+        targets.remove(self);
+        List<String> prepared = new ArrayList<>();
+        try {
+            for (String node : targets) {
+                try {
+                    nodeClient.prepareRing(node, after.nodes());
+                    prepared.add(node);
+                } catch (ResourceAccessException e) {
+                    if (after.contains(node)) {
+                        throw e;
+                    }
+                    log.warn("제거하는 노드에 연결할 수 없어 이관 없이 진행: node={}", node, e);
+                }
+            }
+            prepare(after);
+        } catch (RestClientException | IllegalStateException e) {
+            log.warn("ring 변경 준비에 실패해 되돌림: nodes={}", after.nodes(), e);
+            notifyApply(prepared, before);
+            commit(before);
+            throw new IllegalStateException("담당 사용자를 이관하지 못해 노드 변경을 되돌렸습니다.", e);
+        }
+        notifyApply(targets, after);
+        commit(after);
+    }
+
+    private void notifyApply(Collection<String> nodes, ConsistentHashRing ring) {
+        for (String node : nodes) {
+            try {
+                nodeClient.applyRing(node, ring.nodes());
+            } catch (RestClientException e) {
+                log.warn("ring 적용을 알리지 못함: node={}", node, e);
+            }
+        }
+    }
+
+    private int prepare(ConsistentHashRing after) {
+        ConsistentHashRing before = ring;
+        List<Long> moving = new ArrayList<>();
+        for (long userId : pointHistoryRepository.selectUserIds()) {
+            if (before.ownerOf(userId).equals(self) && !after.ownerOf(userId).equals(self)) {
+                moving.add(userId);
+            }
+        }
+        fenced.addAll(moving);
+        // 막기 전에 통과한 요청이 끝나길 기다림
+        requestLock.writeLock().lock();
+        requestLock.writeLock().unlock();
+        awaitPendingWork(moving);
+
+        Map<String, List<UserPointHandOff>> handOffsByNode = new LinkedHashMap<>();
+        for (long userId : moving) {
+            handOffsByNode.computeIfAbsent(after.ownerOf(userId), node -> new ArrayList<>()).add(export(userId));
+        }
+        for (Map.Entry<String, List<UserPointHandOff>> entry : handOffsByNode.entrySet()) {
+            try {
+                nodeClient.handOff(entry.getKey(), entry.getValue());
+            } catch (RestClientException e) {
+                throw new IllegalStateException("담당 사용자를 이관하지 못함: node=" + entry.getKey(), e);
+            }
+        }
+        log.info("ring 변경 준비: nodes={}, 이관한 사용자 {} 명", after.nodes(), moving.size());
+        return moving.size();
+    }
+
+    /**
+     * 옮길 사용자의 응답 뒤 작업이 끝나길 기다림 (막은 뒤라 새 작업은 들어오지 않음)
+     * @throws IllegalStateException drainTimeout 안에 끝나지 않은 경우
+     */
+    private void awaitPendingWork(List<Long> userIds) {
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        try {
+            for (long userId : userIds) {
+                for (UserPendingWork pendingWork : pendingWorks) {
+                    Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+                    if (!pendingWork.awaitUser(userId, remaining)) {
+                        throw new IllegalStateException("이관할 사용자의 처리 중인 작업이 끝나지 않음: userId=" + userId);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이관할 사용자의 작업을 기다리는 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private void commit(ConsistentHashRing after) {
+        ring = after;
+        fenced.clear();
+        log.info("ring 적용: nodes={}", after.nodes());
+    }
+
+    private UserPointHandOff export(long userId) {
+        lockProvider.lock(userId);
+        try {
+            return new UserPointHandOff(userPointRepository.selectById(userId), pointHistoryRepository.selectAllByUserId(userId));
+        } finally {
+            lockProvider.unlock(userId);
+        }
+    }
+}
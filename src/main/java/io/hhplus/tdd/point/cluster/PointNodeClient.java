@@ -0,0 +1,125 @@
+package io.hhplus.tdd.point.cluster;
+
+import io.hhplus.tdd.point.dto.UserPointHandOff;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 다른 노드 호출 (요청 전달, ring 변경 통지, 담당 사용자 이관)
+ * - 보내는 요청에는 FORWARDED_HEADER 를 붙여 받은 노드가 다시 전달하지 않게 함 (ring 이 잠시 어긋나도 순환하지 않음)
+ * - 보내는 요청에는 SECRET_HEADER 로 공유 비밀값을 붙임 (받는 노드는 /cluster/** 요청과 전달 표시를 이 값으로 확인)
+ */
+public class PointNodeClient {
+
+    public static final String FORWARDED_HEADER = "X-Point-Forwarded-By";
+    public static final String SECRET_HEADER = "X-Point-Cluster-Secret";
+
+    // 전달하지 않는 hop-by-hop / 다시 계산되는 헤더
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            "host", "connection", "content-length", "transfer-encoding", "keep-alive", "upgrade", "te", "trailer");
+
+    private final RestClient restClient;
+    private final String self;
+    private final String secret;
+    private final byte[] secretBytes;
+
+    public PointNodeClient(RestClient restClient, String self, String secret) {
+        this.restClient = restClient;
+        this.self = self;
+        this.secret = secret;
+        this.secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 요청에 이 클러스터의 공유 비밀값이 붙어 있는지 (내용과 상관없이 일정한 시간에 비교)
+     */
+    public boolean isTrusted(HttpServletRequest request) {
+        String header = request.getHeader(SECRET_HEADER);
+        return header != null && MessageDigest.isEqual(secretBytes, header.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 받은 요청을 그대로 담당 노드에 보내고 응답 상태/본문을 흘려 보냄 (NDJSON 스트리밍도 모아 두지 않음)
+     * @throws org.springframework.web.client.RestClientException 담당 노드에 연결할 수 없는 경우
+     */
+    public void forward(String node, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String query = request.getQueryString();
+        URI uri = URI.create(node + request.getRequestURI() + (query == null ? "" : "?" + query));
+        byte[] body = request.getInputStream().readAllBytes();
+        RestClient.RequestBodySpec spec = restClient.method(HttpMethod.valueOf(request.getMethod()))
+                .uri(uri)
+                .headers(headers -> {
+                    for (String name : Collections.list(request.getHeaderNames())) {
+                        if (!SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                            headers.put(name, Collections.list(request.getHeaders(name)));
+                        }
+                    }
+                    headers.set(FORWARDED_HEADER, self);
+                    headers.set(SECRET_HEADER, secret);
+                });
+        if (body.length > 0) {
+            spec.body(body);
+        }
+        spec.exchange((clientRequest, clientResponse) -> {
+            response.setStatus(clientResponse.getStatusCode().value());
+            String contentType = clientResponse.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            clientResponse.getBody().transferTo(response.getOutputStream());
+            response.flushBuffer();
+            return clientResponse.getStatusCode().value();
+        });
+    }
+
+    /**
+     * 노드에 새 ring 구성을 준비시킴 (받은 노드는 자기 담당에서 빠질 사용자를 막고 새 담당 노드로 이관한 뒤 응답)
+     */
+    public void prepareRing(String node, List<String> nodes) {
+        put(node + "/cluster/ring/prepare", nodes);
+    }
+
+    /**
+     * 노드에 새 ring 구성을 적용시킴 (받은 노드는 ring 을 바꾸고 막은 사용자를 풂)
+     */
+    public void applyRing(String node, List<String> nodes) {
+        put(node + "/cluster/ring", nodes);
+    }
+
+    /**
+     * 담당이 바뀐 사용자의 잔액과 거래 내역을 새 담당 노드로 보냄
+     */
+    public void handOff(String node, List<UserPointHandOff> handOffs) {
+        restClient.post()
+                .uri(URI.create(node + "/cluster/handoff"))
+                .header(FORWARDED_HEADER, self)
+                .header(SECRET_HEADER, secret)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(handOffs)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private void put(String uri, List<String> nodes) {
+        restClient.put()
+                .uri(URI.create(uri))
+                .header(FORWARDED_HEADER, self)
+                .header(SECRET_HEADER, secret)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(nodes)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,101 @@
+package io.hhplus.tdd.point.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자 단위 포인트 API 요청을 담당 노드로 보내는 필터 (UserPointService 앞단)
+ * - /point/{userId}/**, /reactive/point/{userId}/** 요청의 담당 노드가 자신이 아니면 그대로 전달하고 응답을 돌려줌
+ * - 비동기 요청 상태 조회(/point/operations/{userId}-{순번})도 요청 ID 의 사용자 담당 노드로 전달 (접수한 노드가 상태를 보관)
+ * - 다른 노드가 전달한 요청(공유 비밀값이 맞는 경우만)은 ring 과 상관없이 직접 처리 (ring 변경 중에도 요청이 노드 사이를 돌지 않음)
+ * - 이관 중이라 막힌 사용자의 요청은 전달 여부와 상관없이 503
+ * - 여러 사용자를 다루는 요청(/point/bulk, /point/histories)은 받은 노드에서 처리
+ */
+public class PointRoutingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointRoutingFilter.class);
+
+    private static final Pattern USER_PATH = Pattern.compile("^/(?:reactive/)?point/(-?\\d{1,19})(?:/.*)?$");
+    private static final Pattern OPERATION_PATH = Pattern.compile("^/point/operations/(-?\\d{1,19})-\\d+$");
+
+    private final PointClusterService clusterService;
+    private final PointNodeClient nodeClient;
+    private final ObjectMapper objectMapper;
+
+    public PointRoutingFilter(PointClusterService clusterService, PointNodeClient nodeClient, ObjectMapper objectMapper) {
+        this.clusterService = clusterService;
+        this.nodeClient = nodeClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long userId = userId(request);
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        boolean forwarded = request.getHeader(PointNodeClient.FORWARDED_HEADER) != null && nodeClient.isTrusted(request);
+        String owner = clusterService.ownerOf(userId);
+        if (forwarded || owner.equals(clusterService.self())) {
+            if (!clusterService.enter(userId)) {
+                unavailable(response, "담당 노드를 옮기는 중입니다. 잠시 후 다시 시도해 주세요.");
+                return;
+            }
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                clusterService.exit();
+            }
+            return;
+        }
+        try {
+            nodeClient.forward(owner, request, response);
+        } catch (RestClientException e) {
+            log.warn("담당 노드로 요청을 전달하지 못함: owner={}, uri={}", owner, request.getRequestURI(), e);
+            unavailable(response, "담당 노드에 연결할 수 없습니다.");
+        }
+    }
+
+    private void unavailable(HttpServletResponse response, String message) throws IOException {
+        if (!response.isCommitted()) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), new ErrorResponse("503", message));
+        }
+    }
+
+    /**
+     * @return 사용자 단위 요청이면 사용자 ID, 아니면 null
+     */
+    private Long userId(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Matcher matcher = USER_PATH.matcher(path);
+        if (!matcher.matches()) {
+            matcher = OPERATION_PATH.matcher(path);
+            if (!matcher.matches()) {
+                return null;
+            }
+        }
+        try {
+            return Long.parseLong(matcher.group(1));
+        } catch (NumberFormatException e) {
+            // long 범위를 벗어난 ID 는 컨트롤러가 400 으로 처리
+            return null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 잔액 저장소 설정 (point.balance.*)
+ * @param store 잔액 저장소 종류
+ * @param writeBehind write-behind 저장소 설정
+ * @param memory memory 저장소 설정
+ * @param cache 잔액 조회 캐시 설정
+ */
+@ConfigurationProperties(prefix = "point.balance")
+public record PointBalanceProperties(
+        @DefaultValue("table") Store store,
+        @DefaultValue WriteBehind writeBehind,
+        @DefaultValue Memory memory,
+        @DefaultValue Cache cache
+) {
+
+    public enum Store {
+        /** UserPointTable 직접 사용 */
+        TABLE,
+        /** 메모리에서 처리 후 UserPointTable 에 비동기 반영 */
+        WRITE_BEHIND,
+        /** UserPointTable 없이 long 키 잔액 맵에만 보관 */
+        MEMORY
+    }
+
+    /**
+     * @param flushInterval 테이블 반영 주기 (테이블이 메모리보다 늦을 수 있는 최대 시간)
+     * @param maxDirtyEntries 이 수 이상 밀리면 주기를 기다리지 않고 반영
+     */
+    public record WriteBehind(
+            @DefaultValue("100ms") Duration flushInterval,
+            @DefaultValue("10000") int maxDirtyEntries
+    ) {
+    }
+
+    /**
+     * @param segments lock 을 나누는 segment 수
+     * @param expectedUsers 예상 사용자 수 (처음부터 이만큼 칸을 잡아 배열 확장을 줄임)
+     */
+    public record Memory(
+            @DefaultValue("64") int segments,
+            @DefaultValue("1024") int expectedUsers
+    ) {
+    }
+
+    /**
+     * @param enabled 잔액 조회를 캐시로 먼저 처리할지 여부 (충전/사용 시 함께 갱신)
+     * @param maxSize 최대 항목 수 (넘으면 가장 오래 안 쓴 항목 제거)
+     * @param ttl 항목 유지 시간
+     */
+    public record Cache(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("100000") int maxSize,
+            @DefaultValue("10m") Duration ttl
+    ) {
+    }
+}
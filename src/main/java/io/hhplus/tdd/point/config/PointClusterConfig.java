@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.cluster.ConsistentHashRing;
+import io.hhplus.tdd.point.cluster.PointClusterAuthFilter;
+import io.hhplus.tdd.point.cluster.PointClusterService;
+import io.hhplus.tdd.point.cluster.PointNodeClient;
+import io.hhplus.tdd.point.cluster.PointRoutingFilter;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.UserPendingWork;
+import io.hhplus.tdd.point.service.UserPointLockProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+/**
+ * 여러 인스턴스 구성 (point.cluster.enabled=true 일 때만)
+ * - 사용자 단위 포인트 API 앞에 담당 노드로 전달하는 필터를 둠
+ * - 이관은 사용자 Lock 을 잡고 잔액 저장소를 직접 읽고 쓰므로 LOCK 엔진에서만 사용
+ *   (cas, sharded 는 잔액을 메모리에 따로 들고 있고, mailbox 는 사용자 Lock 을 쓰지 않음)
+ * - /cluster/** 앞에 공유 비밀값 확인 필터를 둠
+ * - 이관 전에 응답 뒤에도 이어서 처리되는 사용자 작업(UserPendingWork 빈)이 끝나길 기다림
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PointClusterProperties.class)
+public class PointClusterConfig {
+
+    @Bean
+    public PointNodeClient pointNodeClient(RestClient.Builder restClientBuilder, PointClusterProperties properties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) properties.connectTimeout().toMillis());
+        requestFactory.setReadTimeout((int) properties.readTimeout().toMillis());
+        if (properties.secret().isBlank()) {
+            throw new IllegalStateException("point.cluster 를 쓰려면 point.cluster.secret 을 설정해야 합니다.");
+        }
+        return new PointNodeClient(restClientBuilder.requestFactory(requestFactory).build(), properties.self(), properties.secret());
+    }
+
+    @Bean
+    public PointClusterService pointClusterService(PointNodeClient pointNodeClient, UserPointRepository userPointRepository,
+                                                   PointHistoryRepository pointHistoryRepository, UserPointLockProvider userPointLockProvider,
+                                                   List<UserPendingWork> userPendingWorks, PointClusterProperties properties,
+                                                   PointEngineProperties engineProperties) {
+        if (engineProperties.mode() != PointEngineProperties.Mode.LOCK) {
+            throw new IllegalStateException("point.cluster 는 point.engine.mode 가 lock 일 때만 사용할 수 있습니다.");
+        }
+        List<String> nodes = properties.nodes().isEmpty() ? List.of(properties.self()) : properties.nodes();
+        return new PointClusterService(
+                properties.self(),
+                new ConsistentHashRing(nodes, properties.virtualNodes()),
+                pointNodeClient,
+                userPointRepository,
+                pointHistoryRepository,
+                userPointLockProvider,
+                userPendingWorks,
+                properties.drainTimeout());
+    }
+
+    @Bean
+    public FilterRegistrationBean<PointRoutingFilter> pointRoutingFilter(PointClusterService pointClusterService, PointNodeClient pointNodeClient,
+                                                                         ObjectMapper objectMapper) {
+        FilterRegistrationBean<PointRoutingFilter> registration =
+                new FilterRegistrationBean<>(new PointRoutingFilter(pointClusterService, pointNodeClient, objectMapper));
+        registration.addUrlPatterns("/point/*", "/reactive/point/*");
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<PointClusterAuthFilter> pointClusterAuthFilter(PointNodeClient pointNodeClient, ObjectMapper objectMapper) {
+        FilterRegistrationBean<PointClusterAuthFilter> registration =
+                new FilterRegistrationBean<>(new PointClusterAuthFilter(pointNodeClient, objectMapper));
+        registration.addUrlPatterns("/cluster/*");
+        return registration;
+    }
+}
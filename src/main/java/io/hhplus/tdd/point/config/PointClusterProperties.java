@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 여러 인스턴스 구성 설정 (point.cluster.*)
+ * @param enabled true 면 사용자별 담당 노드를 consistent hash 로 정하고 다른 노드 담당 요청은 전달
+ * @param self 이 노드의 주소 (다른 노드가 호출할 수 있는 base URL)
+ * @param secret 노드끼리 공유하는 비밀값 (/cluster/** 요청과 노드 간 전달 요청에 필요, 비어 있으면 시작 시 실패)
+ * @param nodes 시작 시 ring 에 넣을 노드 주소 목록 (비어 있으면 self 만)
+ * @param virtualNodes 노드마다 ring 에 찍는 점의 수 (클수록 담당 사용자 수가 고르게 나뉨)
+ * @param connectTimeout 다른 노드 연결 제한 시간
+ * @param readTimeout 다른 노드 응답 제한 시간
+ * @param drainTimeout 이관 전에 옮길 사용자의 남은 작업을 기다리는 최대 시간 (넘으면 노드 변경을 되돌림, readTimeout 보다 짧게)
+ */
+@ConfigurationProperties(prefix = "point.cluster")
+public record PointClusterProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("http://localhost:8080") String self,
+        @DefaultValue("") String secret,
+        @DefaultValue List<String> nodes,
+        @DefaultValue("160") int virtualNodes,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("10s") Duration readTimeout,
+        @DefaultValue("5s") Duration drainTimeout
+) {
+}
@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.CasUserPointEngine;
+import io.hhplus.tdd.point.service.LockingUserPointEngine;
+import io.hhplus.tdd.point.service.MailboxUserPointEngine;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.service.ShardedUserPointEngine;
+import io.hhplus.tdd.point.service.UserPointEngine;
+import io.hhplus.tdd.point.service.UserPointLockProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 포인트 충전/사용 엔진 구성
+ * - point.engine.mode 설정에 따라 Lock 기반 / CAS 기반 / mailbox 기반 / sharded 엔진을 선택
+ * - sharded 엔진은 shard 안에서 거래 내역 기록 요청과 잔액 저장을 하므로 지연이 있는 저장소와 함께 쓰면 시작 시 실패
+ *   - point.history.store 는 sharded, point.history.sharded.shards 는 point.engine.sharded.shards 와 같아야 함
+ *   - point.balance.store 는 write-behind 또는 memory
+ */
+@Configuration
+@EnableConfigurationProperties(PointEngineProperties.class)
+public class PointEngineConfig {
+
+    @Bean
+    public PointMetrics pointMetrics(MeterRegistry meterRegistry) {
+        return new PointMetrics(meterRegistry);
+    }
+
+    @Bean
+    public UserPointEngine userPointEngine(
+            UserPointRepository userPointRepository,
+            PointHistoryRepository pointHistoryRepository,
+            UserPointLockProvider userPointLockProvider,
+            PointMetrics pointMetrics,
+            PointEngineProperties properties,
+            PointBalanceProperties balanceProperties,
+            PointHistoryProperties historyProperties
+    ) {
+        if (properties.mode() == PointEngineProperties.Mode.SHARDED) {
+            validateSharded(properties.sharded(), balanceProperties, historyProperties);
+        }
+        return switch (properties.mode()) {
+            case LOCK -> new LockingUserPointEngine(userPointRepository, pointHistoryRepository, userPointLockProvider, pointMetrics);
+            case CAS -> new CasUserPointEngine(userPointRepository, pointHistoryRepository, properties.cas().flushInterval());
+            case MAILBOX -> new MailboxUserPointEngine(
+                    userPointRepository,
+                    pointHistoryRepository,
+                    properties.mailbox().shards(),
+                    properties.mailbox().capacity(),
+                    properties.mailbox().maxBatchSize());
+            case SHARDED -> new ShardedUserPointEngine(
+                    userPointRepository,
+                    pointHistoryRepository,
+                    properties.sharded().shards(),
+                    properties.sharded().expectedUsersPerShard(),
+                    properties.sharded().workers() ? properties.sharded().capacity() : 0);
+        };
+    }
+
+    private static void validateSharded(PointEngineProperties.Sharded sharded, PointBalanceProperties balanceProperties,
+                                        PointHistoryProperties historyProperties) {
+        if (historyProperties.store() != PointHistoryProperties.Store.SHARDED
+                || historyProperties.sharded().shards() != sharded.shards()) {
+            throw new IllegalStateException("point.engine.mode 가 sharded 이면 point.history.store 는 sharded, "
+                    + "point.history.sharded.shards 는 point.engine.sharded.shards(" + sharded.shards() + ") 와 같아야 합니다.");
+        }
+        if (balanceProperties.store() == PointBalanceProperties.Store.TABLE) {
+            throw new IllegalStateException("point.engine.mode 가 sharded 이면 point.balance.store 는 write-behind 또는 memory 여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 충전/사용 엔진 설정 (point.engine.*)
+ * @param mode 엔진 종류
+ * @param cas CAS 엔진 설정
+ * @param mailbox mailbox 엔진 설정
+ * @param sharded sharded 엔진 설정
+ */
+@ConfigurationProperties(prefix = "point.engine")
+public record PointEngineProperties(
+        @DefaultValue("lock") Mode mode,
+        @DefaultValue Cas cas,
+        @DefaultValue Mailbox mailbox,
+        @DefaultValue Sharded sharded
+) {
+
+    public enum Mode {
+        /** 사용자별 Lock 안에서 조회-반영-내역 기록 */
+        LOCK,
+        /** 메모리 잔액을 compare-and-set 으로 변경하고 저장소에는 비동기 반영 */
+        CAS,
+        /** 사용자 ID 해시별 대기열을 전용 worker 가 묶어서 처리 */
+        MAILBOX,
+        /** 사용자 ID 해시별 shard 가 잔액을 직접 보관하고 shard 단위 Lock 또는 전용 worker 로 처리 */
+        SHARDED
+    }
+
+    /**
+     * @param flushInterval 저장소 반영 주기 (저장소가 메모리보다 늦을 수 있는 최대 시간)
+     */
+    public record Cas(
+            @DefaultValue("100ms") Duration flushInterval
+    ) {
+    }
+
+    /**
+     * @param shards 대기열(worker 스레드) 수
+     * @param capacity shard 별 대기열 크기 (가득 차면 호출자가 대기)
+     * @param maxBatchSize worker 가 한 번에 꺼내 처리하는 최대 명령 수
+     */
+    public record Mailbox(
+            @DefaultValue("8") int shards,
+            @DefaultValue("10000") int capacity,
+            @DefaultValue("256") int maxBatchSize
+    ) {
+    }
+
+    /**
+     * @param shards shard 수 (코어 수 정도, point.history.sharded.shards 와 같아야 함 - shard 마다 자기 거래 내역 segment 에만 기록)
+     * @param expectedUsersPerShard shard 하나의 잔액 맵 초기 크기
+     * @param workers true 면 shard 마다 전용 worker 스레드가 대기열을 처리, false 면 호출 스레드가 shard Lock 을 잡고 처리
+     * @param capacity worker 대기열 크기 (가득 차면 호출자가 대기)
+     */
+    public record Sharded(
+            @DefaultValue("8") int shards,
+            @DefaultValue("1024") int expectedUsersPerShard,
+            @DefaultValue("false") boolean workers,
+            @DefaultValue("10000") int capacity
+    ) {
+    }
+}
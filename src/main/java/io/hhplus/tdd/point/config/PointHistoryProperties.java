@@ -0,0 +1,100 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.repository.BatchingPointHistoryRepository.Durability;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.ZoneId;
+
+/**
+ * 포인트 거래 내역 저장소 설정 (point.history.*)
+ * @param store 거래 내역 저장소 종류
+ * @param writer 거래 내역 기록 방식
+ * @param batching batching writer 설정
+ * @param mapped mapped 저장소 설정
+ * @param sharded sharded 저장소 설정
+ * @param summary 사용자별 누적 합계 설정
+ * @param rollup 전체 사용자의 분/시간 단위 합계 설정
+ */
+@ConfigurationProperties(prefix = "point.history")
+public record PointHistoryProperties(
+        @DefaultValue("indexed") Store store,
+        @DefaultValue("direct") Writer writer,
+        @DefaultValue Batching batching,
+        @DefaultValue Mapped mapped,
+        @DefaultValue Sharded sharded,
+        @DefaultValue Summary summary,
+        @DefaultValue Rollup rollup
+) {
+
+    public enum Store {
+        /** PointHistoryTable 만 사용 (조회 시 전체 내역 탐색) */
+        TABLE,
+        /** PointHistoryTable + 사용자별 인덱스 */
+        INDEXED,
+        /** 메모리 매핑 파일의 고정 길이 칸 (heap 밖에 보관) */
+        MAPPED,
+        /** 사용자 ID 해시별 shard 마다 mapped 저장소를 따로 둠 (mapped.directory 아래 shard-NN) */
+        SHARDED
+    }
+
+    public enum Writer {
+        /** 요청 스레드에서 바로 기록 */
+        DIRECT,
+        /** 대기열에 넣고 전용 스레드가 모아서 기록 */
+        BATCHING
+    }
+
+    /**
+     * @param capacity 대기열 크기 (가득 차면 호출자가 대기)
+     * @param maxBatchSize writer 가 한 번에 꺼내는 최대 건수
+     * @param durability ack 시점
+     */
+    public record Batching(
+            @DefaultValue("10000") int capacity,
+            @DefaultValue("256") int maxBatchSize,
+            @DefaultValue("append") Durability durability
+    ) {
+    }
+
+    /**
+     * @param directory 매핑 파일 디렉터리 (열 때 비움)
+     * @param slotsPerSegment 파일 하나의 칸 수 (칸 하나 40 bytes)
+     */
+    public record Mapped(
+            @DefaultValue("data/history") Path directory,
+            @DefaultValue("1048576") int slotsPerSegment
+    ) {
+    }
+
+    /**
+     * @param shards shard 수 (sharded 엔진을 쓰면 point.engine.sharded.shards 와 같아야 함)
+     */
+    public record Sharded(
+            @DefaultValue("8") int shards
+    ) {
+    }
+
+    /**
+     * @param dailyBuckets 사용자마다 보관할 최근 일별 합계 일수 (0 이면 타입별 합계만, 사용자마다 일수 x 40 bytes 를 미리 잡으므로 필요할 때만 켬)
+     * @param zone 일별 합계의 날짜 기준 시간대
+     */
+    public record Summary(
+            @DefaultValue("0") int dailyBuckets,
+            @DefaultValue("Asia/Seoul") ZoneId zone
+    ) {
+    }
+
+    /**
+     * @param minutes 분 단위 합계를 보관할 최근 분 수
+     * @param hours 시간 단위 합계를 보관할 최근 시간 수
+     * @param stripes 동시에 기록하는 스레드가 나눠 쓰는 칸 묶음 수 (조회 시 합산)
+     */
+    public record Rollup(
+            @DefaultValue("1440") int minutes,
+            @DefaultValue("720") int hours,
+            @DefaultValue("8") int stripes
+    ) {
+    }
+}
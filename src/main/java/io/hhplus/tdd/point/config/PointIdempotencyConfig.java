@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.service.PointIdempotencyStore;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Idempotency-Key 저장소 구성 (지표는 MeterBinder 로 등록)
+ */
+@Configuration
+@EnableConfigurationProperties(PointIdempotencyProperties.class)
+public class PointIdempotencyConfig {
+
+    @Bean
+    public PointIdempotencyStore pointIdempotencyStore(PointIdempotencyProperties properties) {
+        return new PointIdempotencyStore(properties.maxKeys(), properties.ttl(), properties.segments());
+    }
+}
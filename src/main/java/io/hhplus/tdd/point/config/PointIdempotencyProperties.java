@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 중복 요청 처리 설정 (point.idempotency.*)
+ * @param maxKeys 보관할 최대 키 수 (넘으면 오래된 키부터 제거)
+ * @param ttl 키를 보관하는 시간 (지나면 같은 키도 새 요청으로 처리)
+ * @param segments 키 저장소를 나누는 segment 수 (segment 마다 Lock)
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record PointIdempotencyProperties(
+        @DefaultValue("100000") int maxKeys,
+        @DefaultValue("1h") Duration ttl,
+        @DefaultValue("16") int segments
+) {
+}
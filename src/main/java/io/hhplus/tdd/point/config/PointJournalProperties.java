@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 포인트 저널 설정 (point.journal.*)
+ * @param enabled 거래 내역을 저널에 기록하고 시작 시 복구할지 여부
+ * @param path 저널 파일 경로
+ * @param capacity 대기열 크기 (가득 차면 호출자가 대기)
+ * @param maxBatchSize fsync 한 번에 묶는 최대 건수
+ * @param segmentRecords 저널 파일(segment) 하나에 담는 레코드 수 (레코드 하나 29 bytes)
+ * @param snapshot 잔액 스냅샷 설정
+ */
+@ConfigurationProperties(prefix = "point.journal")
+public record PointJournalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/point.journal") Path path,
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("1024") int maxBatchSize,
+        @DefaultValue("1048576") long segmentRecords,
+        @DefaultValue Snapshot snapshot
+) {
+
+    /**
+     * @param enabled 잔액 스냅샷을 주기적으로 저장하고 시작 시 스냅샷 + tail 로 잔액을 복구할지 여부
+     * @param path 스냅샷 파일 경로
+     * @param interval 스냅샷 주기
+     * @param replayFullHistory 시작 시 거래 내역을 저널 처음부터 다시 기록할지 여부
+     *                          (false 면 tail 만, 스냅샷 이전 거래 내역은 저널에만 남아 내역 조회에는 보이지 않고 누적 합계에만 반영)
+     * @param deleteCoveredSegments 스냅샷을 쓴 뒤 스냅샷에 포함된 저널 segment 를 지울지 여부
+     *                              (지운 거래 내역은 내역 조회와 누적 합계에서 사라지고 잔액만 스냅샷으로 남음)
+     */
+    public record Snapshot(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("data/point.snapshot") Path path,
+            @DefaultValue("1m") Duration interval,
+            @DefaultValue("false") boolean replayFullHistory,
+            @DefaultValue("false") boolean deleteCoveredSegments
+    ) {
+    }
+}
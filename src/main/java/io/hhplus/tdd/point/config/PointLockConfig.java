@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.service.UserPointLockProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자별 Lock 구성
+ * - point.lock.mode 설정에 따라 Lock 관리 방식을 선택
+ */
+@Configuration
+@EnableConfigurationProperties(PointLockProperties.class)
+public class PointLockConfig {
+
+    @Bean
+    public UserPointLockProvider userPointLockProvider(PointLockProperties properties) {
+        return new UserPointLockProvider(properties.mode(), properties.stripes());
+    }
+}
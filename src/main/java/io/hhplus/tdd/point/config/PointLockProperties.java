@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.service.UserPointLockProvider.Mode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자별 Lock 설정 (point.lock.*)
+ * @param mode Lock 관리 방식
+ * @param stripes STRIPED 모드의 Lock 수 (2의 거듭제곱으로 올림)
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record PointLockProperties(
+        @DefaultValue("reference-counted") Mode mode,
+        @DefaultValue("1024") int stripes
+) {
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.service.PointOperationService;
+import io.hhplus.tdd.point.service.UserPointService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 비동기 충전/사용 요청 처리 구성 (종료 시 접수한 요청을 처리한 뒤 dispatcher 정리)
+ */
+@Configuration
+@EnableConfigurationProperties(PointOperationProperties.class)
+public class PointOperationConfig {
+
+    @Bean(destroyMethod = "close")
+    public PointOperationService pointOperationService(UserPointService userPointService, PointOperationProperties properties) {
+        return new PointOperationService(userPointService, properties.workers(), properties.capacity(),
+                properties.retention(), properties.maxRetained());
+    }
+}
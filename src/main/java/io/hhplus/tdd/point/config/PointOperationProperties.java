@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비동기 충전/사용 요청 처리 설정 (point.operation.*)
+ * @param workers 엔진 호출을 시작하는 dispatcher 스레드 수 (호출 스레드에서 바로 처리하는 lock 엔진은 이 수만큼 동시에 처리)
+ * @param capacity 처리 중(같은 사용자의 앞 요청 대기 포함)일 수 있는 최대 요청 수 (넘으면 503)
+ * @param retention 처리가 끝난 요청의 상태를 보관하는 시간
+ * @param maxRetained 처리가 끝난 요청의 상태를 보관하는 최대 건수
+ */
+@ConfigurationProperties(prefix = "point.operation")
+public record PointOperationProperties(
+        @DefaultValue("4") int workers,
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("10m") Duration retention,
+        @DefaultValue("100000") int maxRetained
+) {
+}
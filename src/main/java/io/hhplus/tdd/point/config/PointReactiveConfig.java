@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.service.ReactiveUserPointService;
+import io.hhplus.tdd.point.service.UserPointService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * non-blocking 포인트 API 구성
+ * - 테이블 호출 전용 bounded elastic scheduler 를 두고 종료 시 함께 정리
+ */
+@Configuration
+@EnableConfigurationProperties(PointReactiveProperties.class)
+public class PointReactiveConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler pointBlockingScheduler(PointReactiveProperties properties) {
+        return Schedulers.newBoundedElastic(properties.threadCap(), properties.queuedTaskCap(), "point-blocking");
+    }
+
+    @Bean
+    public ReactiveUserPointService reactiveUserPointService(UserPointService userPointService, Scheduler pointBlockingScheduler,
+                                                             PointReactiveProperties properties) {
+        return new ReactiveUserPointService(userPointService, pointBlockingScheduler, properties.historyPageSize());
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * non-blocking 포인트 API 설정 (point.reactive.*)
+ * @param threadCap 테이블 호출을 실행하는 bounded elastic scheduler 의 최대 스레드 수
+ * @param queuedTaskCap 스레드가 모두 바쁠 때 대기할 수 있는 최대 작업 수 (넘으면 요청 실패)
+ * @param historyPageSize 거래 내역 스트리밍 시 한 번에 읽는 건수
+ */
+@ConfigurationProperties(prefix = "point.reactive")
+public record PointReactiveProperties(
+        @DefaultValue("64") int threadCap,
+        @DefaultValue("100000") int queuedTaskCap,
+        @DefaultValue("100") int historyPageSize
+) {
+}
@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.journal.JournaledPointHistoryRepository;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.journal.PointSnapshotter;
+import io.hhplus.tdd.point.repository.AggregatingPointHistoryRepository;
+import io.hhplus.tdd.point.repository.BatchingPointHistoryRepository;
+import io.hhplus.tdd.point.repository.CachingUserPointRepository;
+import io.hhplus.tdd.point.repository.ConcurrentLongBalanceMap;
+import io.hhplus.tdd.point.repository.InMemoryUserPointRepository;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.MappedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.MeteredPointHistoryRepository;
+import io.hhplus.tdd.point.repository.MeteredUserPointRepository;
+import io.hhplus.tdd.point.repository.PointFlowRollup;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.ShardedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.TablePointHistoryRepository;
+import io.hhplus.tdd.point.repository.TableUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointCache;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.WriteBehindUserPointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Optional;
+
+/**
+ * 포인트 저장소 구성
+ * - point.balance.store 설정에 따라 잔액 저장소 구현을 선택
+ * - point.balance.cache.enabled 면 잔액 저장소 앞에 read-through 캐시를 둠 (캐시 지표는 MeterBinder 로 등록)
+ * - point.history.store / writer 설정에 따라 거래 내역 저장소와 기록 방식을 선택
+ * - point.journal.enabled 면 거래 내역을 저널에 함께 기록하고, 시작 시 저널로 거래 내역과 잔액을 복구
+ *   (복구 기록이 느린 table / indexed 거래 내역 저장소와는 함께 쓸 수 없음)
+ * - point.journal.snapshot.enabled 면 잔액 스냅샷을 주기적으로 저장하고, 시작 시 스냅샷 + tail 로 잔액을 복구
+ *   (기본은 tail 거래 내역만 저장소에 다시 기록하고, 스냅샷 이전 거래 내역은 저널에서 읽어 누적 합계에만 더함)
+ * - 거래 내역 저장소는 기록할 때마다 사용자별 누적 합계와 전체 분/시간 단위 합계를 갱신하는 Aggregating 저장소로 감쌈
+ *   (복구가 끝난 뒤 합계를 채움)
+ * - 선택한 저장소는 호출 시간을 기록하는 Metered 저장소로 감쌈
+ */
+@Configuration
+@EnableConfigurationProperties({PointBalanceProperties.class, PointHistoryProperties.class, PointJournalProperties.class})
+public class PointRepositoryConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.balance.cache", name = "enabled", havingValue = "true")
+    public UserPointCache userPointCache(PointBalanceProperties properties) {
+        return new UserPointCache(properties.cache().maxSize(), properties.cache().ttl());
+    }
+
+    @Bean
+    public UserPointRepository userPointRepository(UserPointTable userPointTable, PointBalanceProperties properties,
+                                                   Optional<UserPointCache> userPointCache, MeterRegistry meterRegistry) {
+        UserPointRepository repository = switch (properties.store()) {
+            case TABLE -> new TableUserPointRepository(userPointTable);
+            case WRITE_BEHIND -> new WriteBehindUserPointRepository(
+                    userPointTable,
+                    properties.writeBehind().flushInterval(),
+                    properties.writeBehind().maxDirtyEntries());
+            case MEMORY -> new InMemoryUserPointRepository(new ConcurrentLongBalanceMap(
+                    properties.memory().segments(),
+                    properties.memory().expectedUsers()));
+        };
+        if (userPointCache.isPresent()) {
+            repository = new CachingUserPointRepository(repository, userPointCache.get());
+        }
+        return new MeteredUserPointRepository(repository, meterRegistry);
+    }
+
+    @Bean
+    public PointFlowRollup pointFlowRollup(PointHistoryProperties properties) {
+        return new PointFlowRollup(properties.rollup().minutes(), properties.rollup().hours(), properties.rollup().stripes());
+    }
+
+    @Bean
+    public PointHistoryRepository pointHistoryRepository(PointHistoryTable pointHistoryTable, PointHistoryProperties properties,
+                                                         PointJournalProperties journalProperties, UserPointRepository userPointRepository,
+                                                         PointFlowRollup pointFlowRollup, MeterRegistry meterRegistry) {
+        PointHistoryRepository repository = switch (properties.store()) {
+            case TABLE -> new TablePointHistoryRepository(pointHistoryTable);
+            case INDEXED -> new IndexedPointHistoryRepository(pointHistoryTable);
+            case MAPPED -> new MappedPointHistoryRepository(
+                    properties.mapped().directory(),
+                    properties.mapped().slotsPerSegment());
+            case SHARDED -> new ShardedPointHistoryRepository(
+                    properties.sharded().shards(),
+                    shard -> new MappedPointHistoryRepository(
+                            properties.mapped().directory().resolve("shard-%02d".formatted(shard)),
+                            properties.mapped().slotsPerSegment()));
+        };
+        PointHistoryRepository writer = switch (properties.writer()) {
+            case DIRECT -> repository;
+            case BATCHING -> new BatchingPointHistoryRepository(
+                    repository,
+                    properties.batching().capacity(),
+                    properties.batching().maxBatchSize(),
+                    properties.batching().durability());
+        };
+        JournaledPointHistoryRepository journaled = null;
+        if (journalProperties.enabled()) {
+            // 복구는 빈 시작 단계에서 한 건씩 다시 기록하므로, 건마다 지연이 있는 PointHistoryTable 위에서는 시작이 끝나지 않음
+            if (properties.store() == PointHistoryProperties.Store.TABLE || properties.store() == PointHistoryProperties.Store.INDEXED) {
+                throw new IllegalStateException("point.journal 은 point.history.store 가 mapped 또는 sharded 일 때만 사용할 수 있습니다.");
+            }
+            PointJournal journal = new PointJournal(
+                    journalProperties.path(),
+                    journalProperties.capacity(),
+                    journalProperties.maxBatchSize(),
+                    journalProperties.segmentRecords());
+            PointJournalProperties.Snapshot snapshot = journalProperties.snapshot();
+            PointSnapshotter snapshotter = snapshot.enabled()
+                    ? new PointSnapshotter(journal, snapshot.path(), snapshot.interval(), snapshot.deleteCoveredSegments())
+                    : null;
+            journaled = new JournaledPointHistoryRepository(writer, journal, snapshotter);
+            journaled.recover(userPointRepository, snapshot.replayFullHistory());
+            writer = journaled;
+        }
+        AggregatingPointHistoryRepository aggregating = new AggregatingPointHistoryRepository(
+                writer,
+                properties.summary().dailyBuckets(),
+                properties.summary().zone(),
+                pointFlowRollup);
+        if (journaled != null) {
+            // tail 만 다시 기록했으면 스냅샷 이전 거래 내역은 저널에서 읽어 합계에만 더함
+            journaled.forEachUnreplayed(record ->
+                    aggregating.addRecovered(record.userId(), record.amount(), record.type(), record.updateMillis()));
+        }
+        return new MeteredPointHistoryRepository(aggregating, meterRegistry);
+    }
+}
@@ -0,0 +1,121 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.cluster.PointClusterService;
+import io.hhplus.tdd.point.dto.ClusterMembership;
+import io.hhplus.tdd.point.dto.UserPointHandOff;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클러스터 구성 API 컨트롤러 (point.cluster.enabled=true 일 때만)
+ * - 노드 추가/제거는 아무 노드에나 요청하면 모든 노드에 전파되고, 담당 사용자 이관까지 끝난 뒤 응답
+ * - /cluster/ring/prepare, /cluster/ring, /cluster/handoff 는 노드끼리 호출하는 내부 API
+ * - 모든 요청에 point.cluster.secret 값을 X-Point-Cluster-Secret 헤더로 붙여야 함 (PointClusterAuthFilter)
+ */
+@RestController
+@RequestMapping("/cluster")
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+@Tag(name = "Cluster", description = "클러스터 구성 API")
+public class PointClusterController {
+
+    private final PointClusterService pointClusterService;
+
+    public PointClusterController(PointClusterService pointClusterService) {
+        this.pointClusterService = pointClusterService;
+    }
+
+    /**
+     * 클러스터 구성 조회
+     */
+    @GetMapping("/nodes")
+    @Operation(summary = "클러스터 구성 조회", description = "이 노드의 주소와 ring 에 속한 노드 목록을 조회합니다.")
+    public ClusterMembership membership() {
+        return pointClusterService.membership();
+    }
+
+    /**
+     * 노드 추가
+     */
+    @PostMapping("/nodes")
+    @Operation(summary = "노드 추가", description = "노드를 ring 에 추가하고 새 노드가 담당할 사용자를 이관합니다.")
+    public ResponseEntity<ClusterMembership> addNode(
+            @Parameter(description = "추가할 노드 주소", example = "{\"node\": \"http://localhost:8081\"}")
+            @RequestBody Map<String, String> request) {
+
+        String node = request.get("node");
+        if (node == null || node.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(pointClusterService.addNode(node));
+    }
+
+    /**
+     * 노드 제거
+     */
+    @DeleteMapping("/nodes")
+    @Operation(summary = "노드 제거", description = "노드를 ring 에서 제거하고 그 노드가 담당하던 사용자를 이관합니다.")
+    public ResponseEntity<ClusterMembership> removeNode(
+            @Parameter(description = "제거할 노드 주소", example = "http://localhost:8081")
+            @RequestParam String node) {
+
+        List<String> nodes = pointClusterService.membership().nodes();
+        if (nodes.contains(node) && nodes.size() == 1) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(pointClusterService.removeNode(node));
+    }
+
+    /**
+     * 새 ring 준비 (노드 간 내부 호출)
+     */
+    @PutMapping("/ring/prepare")
+    @Operation(summary = "ring 준비 (내부)", description = "다른 노드가 알린 노드 목록에서 담당이 빠질 사용자를 막고 새 담당 노드로 이관합니다.")
+    public ResponseEntity<Void> prepareRing(@RequestBody List<String> nodes) {
+        if (nodes.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        pointClusterService.prepareRing(nodes);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 새 ring 적용 (노드 간 내부 호출)
+     */
+    @PutMapping("/ring")
+    @Operation(summary = "ring 적용 (내부)", description = "다른 노드가 알린 노드 목록을 적용하고 이관 중이던 사용자를 풉니다.")
+    public ResponseEntity<Void> applyRing(@RequestBody List<String> nodes) {
+        if (nodes.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        pointClusterService.applyRing(nodes);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 담당 사용자 이관받기 (노드 간 내부 호출)
+     */
+    @PostMapping("/handoff")
+    @Operation(summary = "담당 사용자 이관 (내부)", description = "다른 노드가 보낸 사용자 잔액과 거래 내역을 반영합니다.")
+    public ResponseEntity<Void> handOff(@RequestBody List<UserPointHandOff> handOffs) {
+        pointClusterService.importUsers(handOffs);
+        return ResponseEntity.ok().build();
+    }
+}
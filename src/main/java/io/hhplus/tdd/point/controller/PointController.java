@@ -1,29 +1,46 @@
 package io.hhplus.tdd.point.controller;
 
+import io.hhplus.tdd.point.dto.PointAmountRequest;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
 import io.hhplus.tdd.point.entity.UserPoint;
 import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.service.PointIdempotencyStore;
 import io.hhplus.tdd.point.service.UserPointService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * 포인트 관련 REST API 컨트롤러
+ * - 충전/사용은 Idempotency-Key 헤더가 있으면 같은 키의 재시도에 처음 결과를 그대로 돌려줌 (다시 반영하지 않음)
  */
 @RestController
 @RequestMapping("/point")
 @Tag(name = "Point", description = "포인트 관리 API")
 public class PointController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_SIZE = 10_000;
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final UserPointService userPointService;
+    private final PointIdempotencyStore idempotencyStore;
 
-    public PointController(UserPointService userPointService) {
+    public PointController(UserPointService userPointService, PointIdempotencyStore idempotencyStore) {
         this.userPointService = userPointService;
+        this.idempotencyStore = idempotencyStore;
     }
     /**
      * 사용자 포인트 조회
@@ -50,6 +67,45 @@ public class PointController {
         return ResponseEntity.ok(history);
     }
 
+    /**
+     * 포인트 거래 내역 페이지 조회
+     */
+    @GetMapping("/{userId}/histories/page")
+    @Operation(summary = "포인트 거래 내역 페이지 조회", description = "사용자의 포인트 거래 내역을 최신순으로 커서 기반 페이지 단위로 조회합니다.")
+    public ResponseEntity<PointHistoryPage> historyPage(
+            @Parameter(description = "사용자 ID", example = "1")
+            @PathVariable long userId,
+            @Parameter(description = "이전 페이지의 nextCursor", example = "42")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "조회 시작 시각 (밀리초, 포함)", example = "1703123456789")
+            @RequestParam(required = false) Long from,
+            @Parameter(description = "조회 종료 시각 (밀리초, 미포함)", example = "1703209856789")
+            @RequestParam(required = false) Long to,
+            @Parameter(description = "거래 타입", example = "CHARGE")
+            @RequestParam(required = false) TransactionType type) {
+
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        PointHistoryCondition condition = new PointHistoryCondition(cursor, from, to, type);
+        PointHistoryPage page = userPointService.getTransactionHistoryPage(userId, condition, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * 포인트 거래 내역 요약 조회
+     */
+    @GetMapping("/{userId}/summary")
+    @Operation(summary = "포인트 거래 내역 요약 조회", description = "사용자의 거래 타입별 합계, 건수, 첫/마지막 거래 시각과 최근 일별 합계를 조회합니다.")
+    public ResponseEntity<PointHistorySummary> summary(
+            @Parameter(description = "사용자 ID", example = "1")
+            @PathVariable long userId) {
+        return ResponseEntity.ok(userPointService.getTransactionSummary(userId));
+    }
+
     /**
      * 포인트 충전
      */
@@ -59,15 +115,20 @@ public class PointController {
             @Parameter(description = "사용자 ID", example = "1")
             @PathVariable long userId,
             @Parameter(description = "충전할 금액", example = "10000")
-            @RequestBody Map<String, Long> request) {
+            @RequestBody PointAmountRequest request,
+            @Parameter(description = "재시도 중복 방지 키 (최대 255자)", example = "3f2a9c4e-charge-1")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         
-        Long chargeAmount = request.get("amount");
-        if (chargeAmount == null || chargeAmount <= 0) {
+        long chargeAmount = request.amount();
+        if (chargeAmount <= 0) {
             return ResponseEntity.badRequest().build();
         }
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(userPointService.chargePoint(userId, chargeAmount));
+        }
         
-        UserPoint chargedUserPoint = userPointService.chargePoint(userId, chargeAmount);
-        return ResponseEntity.ok(chargedUserPoint);
+        return idempotent(idempotencyKey, userId, TransactionType.CHARGE, chargeAmount,
+                () -> userPointService.chargePoint(userId, chargeAmount));
     }
 
     /**
@@ -79,14 +140,59 @@ public class PointController {
             @Parameter(description = "사용자 ID", example = "1")
             @PathVariable long userId,
             @Parameter(description = "사용할 금액", example = "5000")
-            @RequestBody Map<String, Long> request) {
+            @RequestBody PointAmountRequest request,
+            @Parameter(description = "재시도 중복 방지 키 (최대 255자)", example = "3f2a9c4e-use-1")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         
-        Long useAmount = request.get("amount");
-        if (useAmount == null || useAmount <= 0) {
+        long useAmount = request.amount();
+        if (useAmount <= 0) {
             return ResponseEntity.badRequest().build();
         }
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(userPointService.usePoint(userId, useAmount));
+        }
         
-        UserPoint usedUserPoint = userPointService.usePoint(userId, useAmount);
-        return ResponseEntity.ok(usedUserPoint);
+        return idempotent(idempotencyKey, userId, TransactionType.USE, useAmount,
+                () -> userPointService.usePoint(userId, useAmount));
+    }
+
+    /**
+     * 포인트 일괄 충전/사용
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "포인트 일괄 충전/사용", description = "여러 사용자의 포인트 충전/사용 요청을 한 번에 처리하고 건별 결과를 요청 순서대로 반환합니다.")
+    public ResponseEntity<List<PointOperationResult>> applyPoints(
+            @Parameter(description = "충전/사용 요청 목록 (최대 10,000건)")
+            @RequestBody List<PointOperation> operations) {
+
+        if (operations == null || operations.isEmpty() || operations.size() > MAX_BULK_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        for (PointOperation operation : operations) {
+            if (operation == null || operation.type() == null || operation.amount() <= 0) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        List<PointOperationResult> results = userPointService.applyPoints(operations);
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * 키 저장소를 거쳐 실행 (잘못된 키는 400, 다른 요청에 쓰인 키는 422, 처리 중인 키가 가득 차면 503)
+     * - 키가 없는 요청은 호출하는 쪽에서 바로 실행 (Supplier 람다를 만들지 않음)
+     */
+    private ResponseEntity<UserPoint> idempotent(String idempotencyKey, long userId, TransactionType type, long amount,
+                                                 Supplier<UserPoint> operation) {
+        if (!PointIdempotencyStore.isValidKey(idempotencyKey)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(idempotencyStore.execute(idempotencyKey, userId, type, amount, operation));
+        } catch (PointIdempotencyStore.KeyReusedException e) {
+            return ResponseEntity.unprocessableEntity().build();
+        } catch (PointIdempotencyStore.StoreFullException e) {
+            return ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.dto.PointFlowBucket;
+import io.hhplus.tdd.point.repository.PointFlowRollup;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 전체 사용자 포인트 흐름(분/시간 단위 충전/사용 합계) 조회 API 컨트롤러
+ * - 거래 내역을 기록할 때마다 갱신해 둔 PointFlowRollup 만 읽음 (거래 내역을 훑지 않음)
+ */
+@RestController
+@RequestMapping("/point/flow")
+@Tag(name = "Point", description = "포인트 관리 API")
+public class PointFlowController {
+
+    private static final int DEFAULT_BUCKETS = 60;
+
+    private final PointFlowRollup pointFlowRollup;
+
+    public PointFlowController(PointFlowRollup pointFlowRollup) {
+        this.pointFlowRollup = pointFlowRollup;
+    }
+
+    /**
+     * 포인트 흐름 조회
+     */
+    @GetMapping
+    @Operation(summary = "포인트 흐름 조회", description = "전체 사용자의 충전/사용 금액과 건수를 분 또는 시간 단위 구간별로 조회합니다.")
+    public ResponseEntity<List<PointFlowBucket>> flow(
+            @Parameter(description = "구간 단위", example = "MINUTE")
+            @RequestParam(defaultValue = "MINUTE") PointFlowRollup.Resolution resolution,
+            @Parameter(description = "조회 시작 시각 (밀리초, 포함, 없으면 종료 시각 60 구간 전)", example = "1703123456789")
+            @RequestParam(required = false) Long from,
+            @Parameter(description = "조회 종료 시각 (밀리초, 미포함, 없으면 현재)", example = "1703209856789")
+            @RequestParam(required = false) Long to) {
+
+        long toMillis = to != null ? to : System.currentTimeMillis();
+        long fromMillis = from != null ? from : toMillis - DEFAULT_BUCKETS * resolution.millis();
+        if (fromMillis >= toMillis) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(pointFlowRollup.query(resolution, fromMillis, toMillis));
+    }
+}
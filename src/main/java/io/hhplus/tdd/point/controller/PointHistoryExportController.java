@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 포인트 거래 내역 내보내기 API 컨트롤러
+ * - 거래 내역을 모아 두지 않고 응답 스트림에 한 건씩 바로 기록
+ */
+@RestController
+@RequestMapping("/point/histories")
+@Tag(name = "Point", description = "포인트 관리 API")
+public class PointHistoryExportController {
+
+    private static final String CSV_HEADER = "id,userId,amount,type,updateMillis";
+
+    private final UserPointService userPointService;
+    private final ObjectMapper objectMapper;
+
+    public PointHistoryExportController(UserPointService userPointService, ObjectMapper objectMapper) {
+        this.userPointService = userPointService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 포인트 거래 내역 내보내기
+     */
+    @GetMapping("/export")
+    @Operation(summary = "포인트 거래 내역 내보내기", description = "거래 내역을 사용자별 시간순으로 NDJSON 또는 CSV 로 스트리밍합니다.")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "사용자 ID 목록 (없으면 전체 사용자)", example = "1,2,3")
+            @RequestParam(required = false) List<Long> userIds,
+            @Parameter(description = "조회 시작 시각 (밀리초, 포함)", example = "1703123456789")
+            @RequestParam(required = false) Long from,
+            @Parameter(description = "조회 종료 시각 (밀리초, 미포함)", example = "1703209856789")
+            @RequestParam(required = false) Long to,
+            @Parameter(description = "거래 타입", example = "CHARGE")
+            @RequestParam(required = false) TransactionType type,
+            @Parameter(description = "내보내기 형식", example = "NDJSON")
+            @RequestParam(defaultValue = "NDJSON") PointHistoryExportFormat format) {
+
+        List<Long> targetUserIds = userIds != null ? userIds : userPointService.getHistoryUserIds();
+        PointHistoryCondition condition = new PointHistoryCondition(null, from, to, type);
+
+        StreamingResponseBody body = outputStream -> {
+            switch (format) {
+                case NDJSON -> writeNdjson(outputStream, targetUserIds, condition);
+                case CSV -> writeCsv(outputStream, targetUserIds, condition);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType()))
+                .body(body);
+    }
+
+    private void writeNdjson(OutputStream outputStream, List<Long> userIds, PointHistoryCondition condition) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            userPointService.exportTransactionHistories(userIds, condition, pointHistory -> {
+                try {
+                    generator.writeObject(pointHistory);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(OutputStream outputStream, List<Long> userIds, PointHistoryCondition condition) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        userPointService.exportTransactionHistories(userIds, condition, pointHistory -> {
+            try {
+                writeCsvRow(writer, pointHistory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, PointHistory pointHistory) throws IOException {
+        writer.write(Long.toString(pointHistory.id()));
+        writer.write(',');
+        writer.write(Long.toString(pointHistory.userId()));
+        writer.write(',');
+        writer.write(Long.toString(pointHistory.amount()));
+        writer.write(',');
+        writer.write(pointHistory.type().name());
+        writer.write(',');
+        writer.write(Long.toString(pointHistory.updateMillis()));
+        writer.write('\n');
+    }
+}
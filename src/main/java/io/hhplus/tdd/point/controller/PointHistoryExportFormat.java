@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.controller;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 거래 내역 내보내기 형식
+ * - NDJSON : 한 줄에 거래 내역 JSON 하나
+ * - CSV : 헤더 + 한 줄에 거래 내역 하나
+ */
+@Schema(description = "거래 내역 내보내기 형식")
+public enum PointHistoryExportFormat {
+    @Schema(description = "newline-delimited JSON") NDJSON("application/x-ndjson"),
+    @Schema(description = "CSV") CSV("text/csv");
+
+    private final String contentType;
+
+    PointHistoryExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+}
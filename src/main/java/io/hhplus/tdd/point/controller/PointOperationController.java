@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.dto.PointAmountRequest;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationStatus;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.service.PointOperationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 비동기 포인트 충전/사용 API 컨트롤러
+ * - 요청을 검증하고 접수만 한 뒤 202 와 요청 ID 를 바로 반환 (처리 결과는 상태 조회로 확인)
+ * - 상태 조회에 waitMillis 를 주면 처리가 끝날 때까지 응답을 미룸 (요청 스레드는 반환)
+ */
+@RestController
+@RequestMapping("/point")
+@Tag(name = "Point", description = "포인트 관리 API")
+public class PointOperationController {
+
+    private static final long MAX_WAIT_MILLIS = 30_000;
+
+    private final PointOperationService pointOperationService;
+
+    public PointOperationController(PointOperationService pointOperationService) {
+        this.pointOperationService = pointOperationService;
+    }
+
+    /**
+     * 포인트 충전 접수
+     */
+    @PostMapping("/{userId}/charge/async")
+    @Operation(summary = "포인트 충전 접수 (비동기)", description = "충전 요청을 접수하고 처리 결과를 조회할 요청 ID 를 반환합니다.")
+    public ResponseEntity<PointOperationStatus> chargePoint(
+            @Parameter(description = "사용자 ID", example = "1")
+            @PathVariable long userId,
+            @Parameter(description = "충전할 금액", example = "10000")
+            @RequestBody PointAmountRequest request) {
+        return submit(userId, request.amount(), TransactionType.CHARGE);
+    }
+
+    /**
+     * 포인트 사용 접수
+     */
+    @PostMapping("/{userId}/use/async")
+    @Operation(summary = "포인트 사용 접수 (비동기)", description = "사용 요청을 접수하고 처리 결과를 조회할 요청 ID 를 반환합니다.")
+    public ResponseEntity<PointOperationStatus> usePoint(
+            @Parameter(description = "사용자 ID", example = "1")
+            @PathVariable long userId,
+            @Parameter(description = "사용할 금액", example = "5000")
+            @RequestBody PointAmountRequest request) {
+        return submit(userId, request.amount(), TransactionType.USE);
+    }
+
+    /**
+     * 비동기 요청 상태 조회
+     */
+    @GetMapping("/operations/{operationId}")
+    @Operation(summary = "비동기 요청 상태 조회", description = "접수한 충전/사용 요청의 처리 상태를 조회합니다. waitMillis 를 주면 처리가 끝나거나 시간이 지날 때까지 기다립니다.")
+    public CompletableFuture<ResponseEntity<PointOperationStatus>> status(
+            @Parameter(description = "요청 ID", example = "1-42")
+            @PathVariable String operationId,
+            @Parameter(description = "처리가 끝날 때까지 기다릴 최대 시간 (밀리초, 0 ~ 30000)", example = "5000")
+            @RequestParam(defaultValue = "0") long waitMillis) {
+
+        if (waitMillis < 0 || waitMillis > MAX_WAIT_MILLIS) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+
+        CompletableFuture<PointOperationStatus> status = pointOperationService.awaitStatus(operationId, Duration.ofMillis(waitMillis));
+        if (status == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+        return status.thenApply(ResponseEntity::ok);
+    }
+
+    private ResponseEntity<PointOperationStatus> submit(long userId, long amount, TransactionType type) {
+        if (amount <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            PointOperationStatus status = pointOperationService.submit(new PointOperation(userId, amount, type));
+            return ResponseEntity.accepted()
+                    .location(URI.create("/point/operations/" + status.operationId()))
+                    .body(status);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.dto.PointAmountRequest;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.service.ReactiveUserPointService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 포인트 API 의 non-blocking 버전 (Mono/Flux 반환)
+ * - 요청 스레드는 작업을 예약하고 바로 반환되며, 응답은 결과가 준비되면 비동기로 기록
+ * - 거래 내역은 NDJSON 으로 한 건씩 흘려보냄
+ */
+@RestController
+@RequestMapping("/reactive/point")
+@Tag(name = "Point (Reactive)", description = "포인트 관리 API (non-blocking)")
+public class ReactivePointController {
+
+    private final ReactiveUserPointService reactiveUserPointService;
+
+    public ReactivePointController(ReactiveUserPointService reactiveUserPointService) {
+        this.reactiveUserPointService = reactiveUserPointService;
+    }
+
+    /**
+     * 사용자 포인트 조회
+     */
+    @GetMapping("/{userId}")
+    @Operation(summary = "사용자 포인트 조회 (non-blocking)", description = "특정 사용자의 포인트 정보를 조회합니다.")
+    public Mono<UserPoint> getUserPoint(
+            @Parameter(description = "사용자 ID", example = "1")
+            @PathVariable long userId) {
+        return reactiveUserPointService.getUserPoint(userId);
+    }
+
+    /**
+     * 포인트 거래 내역 스트리밍
+     */
+    @GetMapping(value = "/{userId}/histories", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "포인트 거래 내역 스트리밍 (non-blocking)", description = "사용자의 포인트 거래 내역을 최신순으로 NDJSON 스트리밍합니다.")
+    public Flux<PointHistory> history(
+            @Parameter(description = "사용자 ID", example = "1")
+            @PathVariable long userId) {
+        return reactiveUserPointService.streamTransactionHistory(userId);
+    }
+
+    /**
+     * 포인트 충전
+     */
+    @PostMapping("/{userId}/charge")
+    @Operation(summary = "포인트 충전 (non-blocking)", description = "사용자의 포인트를 충전합니다.")
+    public Mono<ResponseEntity<UserPoint>> chargePoint(
+            @Parameter(description = "사용자 ID", example = "1")
+            @PathVariable long userId,
+            @Parameter(description = "충전할 금액", example = "10000")
+            @RequestBody PointAmountRequest request) {
+
+        long chargeAmount = request.amount();
+        if (chargeAmount <= 0) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        return reactiveUserPointService.chargePoint(userId, chargeAmount).map(ResponseEntity::ok);
+    }
+
+    /**
+     * 포인트 사용
+     */
+    @PostMapping("/{userId}/use")
+    @Operation(summary = "포인트 사용 (non-blocking)", description = "사용자의 포인트를 사용합니다.")
+    public Mono<ResponseEntity<UserPoint>> usePoint(
+            @Parameter(description = "사용자 ID", example = "1")
+            @PathVariable long userId,
+            @Parameter(description = "사용할 금액", example = "5000")
+            @RequestBody PointAmountRequest request) {
+
+        long useAmount = request.amount();
+        if (useAmount <= 0) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        return reactiveUserPointService.usePoint(userId, useAmount).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "클러스터 구성")
+public record ClusterMembership(
+        @Schema(description = "응답한 노드", example = "http://localhost:8080") String self,
+        @Schema(description = "ring 에 속한 노드 목록", example = "[\"http://localhost:8080\", \"http://localhost:8081\"]") List<String> nodes
+) {
+}
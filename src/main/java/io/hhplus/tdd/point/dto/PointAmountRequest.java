@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 포인트 충전/사용 요청 본문
+ * - Map 대신 long 필드 하나로 받음 (본문마다 Map 과 박싱된 Long 을 만들지 않음)
+ * - amount 가 없거나 null 이면 0 이 되어 컨트롤러에서 400 으로 처리
+ */
+@Schema(description = "포인트 충전/사용 요청")
+public record PointAmountRequest(
+        @Schema(description = "금액 (양수)", example = "10000") long amount
+) {
+}
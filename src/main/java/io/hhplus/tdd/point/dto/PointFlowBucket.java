@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "한 구간(분/시간)의 전체 사용자 포인트 흐름")
+public record PointFlowBucket(
+        @Schema(description = "구간 시작 시각 (밀리초)", example = "1703123400000") long startMillis,
+        @Schema(description = "충전 금액 합계", example = "120000") long chargedAmount,
+        @Schema(description = "충전 건수", example = "12") long chargeCount,
+        @Schema(description = "사용 금액 합계", example = "35000") long usedAmount,
+        @Schema(description = "사용 건수", example = "7") long useCount
+) {
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+/**
+ * 거래 내역 페이지 조회 조건 (null 인 조건은 적용하지 않음)
+ * @param cursor 이전 페이지 마지막 거래 내역 ID (이 ID 보다 과거 내역부터 조회)
+ * @param from 조회 시작 시각 (밀리초, 포함)
+ * @param to 조회 종료 시각 (밀리초, 미포함)
+ * @param type 거래 타입
+ */
+public record PointHistoryCondition(
+        Long cursor,
+        Long from,
+        Long to,
+        TransactionType type
+) {
+
+    public static PointHistoryCondition none() {
+        return new PointHistoryCondition(null, null, null, null);
+    }
+
+    public boolean matches(PointHistory pointHistory) {
+        return (cursor == null || pointHistory.id() < cursor)
+                && (from == null || pointHistory.updateMillis() >= from)
+                && (to == null || pointHistory.updateMillis() < to)
+                && (type == null || pointHistory.type() == type);
+    }
+}
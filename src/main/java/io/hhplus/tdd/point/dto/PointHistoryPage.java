@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "포인트 거래 내역 페이지")
+public record PointHistoryPage(
+        @Schema(description = "거래 내역 (최신순)") List<PointHistory> items,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "42") Long nextCursor
+) {
+}
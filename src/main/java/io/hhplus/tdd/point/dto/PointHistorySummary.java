@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "사용자 거래 내역 요약")
+public record PointHistorySummary(
+        @Schema(description = "사용자 ID", example = "1") long userId,
+        @Schema(description = "충전 합계") Totals charge,
+        @Schema(description = "사용 합계") Totals use,
+        @Schema(description = "일별 합계 (최신순, 거래가 있는 날만, 최근 point.history.summary.daily-buckets 일)") List<Daily> daily
+) {
+
+    @Schema(description = "거래 타입별 합계")
+    public record Totals(
+            @Schema(description = "금액 합계", example = "25000") long amount,
+            @Schema(description = "건수", example = "3") long count,
+            @Schema(description = "첫 거래 시각 (밀리초, 거래가 없으면 null)", example = "1703123456789") Long firstMillis,
+            @Schema(description = "마지막 거래 시각 (밀리초, 거래가 없으면 null)", example = "1703209856789") Long lastMillis
+    ) {
+    }
+
+    @Schema(description = "하루 합계")
+    public record Daily(
+            @Schema(description = "날짜 (point.history.summary.zone 기준)", example = "2023-12-21") LocalDate date,
+            @Schema(description = "충전 금액 합계", example = "10000") long chargedAmount,
+            @Schema(description = "충전 건수", example = "1") long chargeCount,
+            @Schema(description = "사용 금액 합계", example = "5000") long usedAmount,
+            @Schema(description = "사용 건수", example = "1") long useCount
+    ) {
+    }
+}
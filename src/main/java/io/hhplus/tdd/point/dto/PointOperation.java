@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "포인트 충전/사용 요청 한 건")
+public record PointOperation(
+        @Schema(description = "사용자 ID", example = "1") long userId,
+        @Schema(description = "금액 (양수)", example = "1000") long amount,
+        @Schema(description = "거래 타입", example = "CHARGE") TransactionType type
+) {
+}
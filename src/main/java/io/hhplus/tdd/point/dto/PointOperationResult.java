@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "포인트 충전/사용 요청 한 건의 처리 결과")
+public record PointOperationResult(
+        @Schema(description = "사용자 ID", example = "1") long userId,
+        @Schema(description = "금액", example = "1000") long amount,
+        @Schema(description = "거래 타입", example = "CHARGE") TransactionType type,
+        @Schema(description = "성공 여부", example = "true") boolean success,
+        @Schema(description = "처리 후 사용자 포인트 (실패 시 null)") UserPoint userPoint,
+        @Schema(description = "실패 사유 (성공 시 null)", example = "잔액이 부족합니다. 현재 잔액: 0, 사용 금액: 1000") String message
+) {
+
+    public static PointOperationResult success(PointOperation operation, UserPoint userPoint) {
+        return new PointOperationResult(operation.userId(), operation.amount(), operation.type(), true, userPoint, null);
+    }
+
+    public static PointOperationResult failure(PointOperation operation, String message) {
+        return new PointOperationResult(operation.userId(), operation.amount(), operation.type(), false, null, message);
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "비동기 포인트 충전/사용 요청의 처리 상태")
+public record PointOperationStatus(
+        @Schema(description = "요청 ID", example = "1-42") String operationId,
+        @Schema(description = "처리 상태", example = "SUCCEEDED") State state,
+        @Schema(description = "사용자 ID", example = "1") long userId,
+        @Schema(description = "금액", example = "1000") long amount,
+        @Schema(description = "거래 타입", example = "CHARGE") TransactionType type,
+        @Schema(description = "처리 후 사용자 포인트 (성공 시에만)") UserPoint userPoint,
+        @Schema(description = "실패 사유 (실패 시에만)", example = "잔액이 부족합니다. 현재 잔액: 0, 사용 금액: 1000") String message
+) {
+
+    public enum State {
+        PENDING, SUCCEEDED, FAILED
+    }
+
+    public static PointOperationStatus pending(String operationId, PointOperation operation) {
+        return new PointOperationStatus(operationId, State.PENDING, operation.userId(), operation.amount(), operation.type(), null, null);
+    }
+
+    public static PointOperationStatus succeeded(String operationId, PointOperation operation, UserPoint userPoint) {
+        return new PointOperationStatus(operationId, State.SUCCEEDED, operation.userId(), operation.amount(), operation.type(), userPoint, null);
+    }
+
+    public static PointOperationStatus failed(String operationId, PointOperation operation, String message) {
+        return new PointOperationStatus(operationId, State.FAILED, operation.userId(), operation.amount(), operation.type(), null, message);
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "담당 노드가 바뀐 사용자의 잔액과 거래 내역")
+public record UserPointHandOff(
+        @Schema(description = "잔액") UserPoint userPoint,
+        @Schema(description = "거래 내역 (기록된 순서)") List<PointHistory> histories
+) {
+}
@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point.entity;
+
+/**
+ * 충전/사용 전 잔액 검증 결과 (예외를 만들지 않고 결과만 돌려줌)
+ * - 일괄 처리처럼 거절을 결과로 돌려주는 곳은 message 만 사용
+ * - 단건 충전/사용처럼 예외로 알려야 하는 곳은 exception 사용 (stack trace 를 채우지 않음)
+ */
+public enum BalanceCheck {
+    OK,
+    INSUFFICIENT_BALANCE,
+    EXCEEDS_MAX_POINT;
+
+    /**
+     * 잔액 검증 거절 (업무 규칙 위반이므로 stack trace 를 만들지 않음)
+     */
+    public static final class RejectedException extends IllegalArgumentException {
+
+        private final BalanceCheck check;
+
+        private RejectedException(BalanceCheck check, String message) {
+            super(message);
+            this.check = check;
+        }
+
+        public BalanceCheck check() {
+            return check;
+        }
+
+        @Override
+        public Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    public boolean isOk() {
+        return this == OK;
+    }
+
+    /**
+     * 거절 사유 (OK 면 null)
+     * @param point 검증한 현재 잔액
+     * @param amount 충전/사용 금액
+     */
+    public String message(long point, long amount) {
+        return switch (this) {
+            case OK -> null;
+            case INSUFFICIENT_BALANCE -> "잔액이 부족합니다. 현재 잔액: " + point + ", 사용 금액: " + amount;
+            case EXCEEDS_MAX_POINT -> "최대 잔고는 10,000,000 포인트 입니다.";
+        };
+    }
+
+    /**
+     * 거절 사유를 담은 예외 (OK 면 IllegalStateException)
+     */
+    public RejectedException exception(long point, long amount) {
+        if (this == OK) {
+            throw new IllegalStateException("거절되지 않은 검증 결과입니다.");
+        }
+        return new RejectedException(this, message(point, amount));
+    }
+}
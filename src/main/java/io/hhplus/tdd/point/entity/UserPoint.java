@@ -28,6 +28,29 @@ public record UserPoint(
     public long addPoint(long amount) {
         return point + amount;
     }
+
+    /**
+     * 충전/사용을 반영한 포인트 (updateMillis 는 그대로 유지)
+     * @throws IllegalArgumentException 최대 포인트를 초과하거나 잔액이 부족한 경우
+     */
+    public UserPoint apply(TransactionType type, long amount) {
+        BalanceCheck check = check(type, amount);
+        if (!check.isOk()) {
+            throw check.exception(point, amount);
+        }
+        return new UserPoint(id, type == TransactionType.CHARGE ? addPoint(amount) : point - amount, updateMillis);
+    }
+
+    /**
+     * 충전/사용 가능 여부 (예외도 새 UserPoint 도 만들지 않음)
+     * - 충전은 최대 포인트 초과, 사용은 잔액 부족이면 거절
+     */
+    public BalanceCheck check(TransactionType type, long amount) {
+        if (type == TransactionType.CHARGE) {
+            return amount > MAX_POINT - point ? BalanceCheck.EXCEEDS_MAX_POINT : BalanceCheck.OK;
+        }
+        return point >= amount ? BalanceCheck.OK : BalanceCheck.INSUFFICIENT_BALANCE;
+    }
     
     public boolean hasSufficientBalance(long amount) {
         return point >= amount;
@@ -35,9 +58,7 @@ public record UserPoint(
     
     public void validateSufficientBalance(long amount) {
         if (!hasSufficientBalance(amount)) {
-            throw new IllegalArgumentException(
-                String.format("잔액이 부족합니다. 현재 잔액: %d, 사용 금액: %d", point, amount)
-            );
+            throw BalanceCheck.INSUFFICIENT_BALANCE.exception(point, amount);
         }
     }
     
@@ -0,0 +1,9 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+
+/**
+ * 저널에 기록되는 충전/사용 한 건
+ */
+public record JournalRecord(long userId, long amount, TransactionType type, long updateMillis) {
+}
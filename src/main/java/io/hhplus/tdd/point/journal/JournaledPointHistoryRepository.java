@@ -0,0 +1,138 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * 거래 내역을 저널에 먼저 남기는 저장소
+ * - insert 는 저널 fsync 와 감싼 저장소 기록이 모두 끝나야 완료 (엔진이 이 future 를 기다린 뒤 응답)
+ * - 잔액은 거래 내역의 누적(충전 +, 사용 -)과 같으므로 저널에는 거래 내역만 기록
+ * - recover 로 재시작 시 저널을 다시 읽어 거래 내역과 사용자별 잔액을 복구
+ * - 스냅샷을 함께 쓰면 잔액은 스냅샷 + 이후 저널(tail)로 복구
+ * - tail 만 다시 기록한 경우 스냅샷 이전 거래 내역은 저널에만 남으므로 forEachUnreplayed 로 읽음
+ */
+public class JournaledPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JournaledPointHistoryRepository.class);
+
+    private final PointHistoryRepository delegate;
+    private final PointJournal journal;
+    private final PointSnapshotter snapshotter;
+    // recover 가 감싼 저장소에 다시 기록하기 시작한 저널 레코드 번호
+    private long replayedFrom;
+
+    public JournaledPointHistoryRepository(PointHistoryRepository delegate, PointJournal journal) {
+        this(delegate, journal, null);
+    }
+
+    /**
+     * @param snapshotter 잔액 스냅샷 (없으면 null)
+     */
+    public JournaledPointHistoryRepository(PointHistoryRepository delegate, PointJournal journal, PointSnapshotter snapshotter) {
+        this.delegate = delegate;
+        this.journal = journal;
+        this.snapshotter = snapshotter;
+    }
+
+    /**
+     * 저널의 모든 레코드를 감싼 저장소에 다시 기록하고 사용자별 최종 잔액을 저장
+     * - 요청을 받기 전에 한 번만 호출 (저널에 다시 쓰지 않음)
+     * - 잔액은 사용자마다 한 번만 저장
+     * @return 감싼 저장소에 다시 기록한 거래 내역 수
+     */
+    public long recover(UserPointRepository userPointRepository) {
+        return recover(userPointRepository, true);
+    }
+
+    /**
+     * 사용자별 최종 잔액을 저장하고 거래 내역을 감싼 저장소에 다시 기록
+     * - 스냅샷이 있으면 잔액은 스냅샷 + tail 로 복구
+     * @param replayFullHistory false 면 스냅샷 이후(tail)의 거래 내역만 다시 기록 (이전 내역은 저널에만 남음)
+     *                          true 여도 이미 지운 저널 segment 의 거래 내역은 기록하지 못함
+     * @return 감싼 저장소에 다시 기록한 거래 내역 수
+     */
+    public long recover(UserPointRepository userPointRepository, boolean replayFullHistory) {
+        if (snapshotter == null) {
+            Map<Long, Long> balances = new HashMap<>();
+            long count = journal.replay(record -> {
+                reinsert(record);
+                long signedAmount = record.type() == TransactionType.CHARGE ? record.amount() : -record.amount();
+                balances.merge(record.userId(), signedAmount, Long::sum);
+            });
+            balances.forEach(userPointRepository::insertOrUpdate);
+            log.info("저널 복구 완료: 거래 내역 {} 건, 사용자 {} 명", count, balances.size());
+            return count;
+        }
+        long snapshotMark = snapshotter.restore();
+        replayedFrom = replayFullHistory ? journal.firstRecord() : snapshotMark;
+        long count = journal.replay(replayedFrom, this::reinsert);
+        snapshotter.forEachBalance(userPointRepository::insertOrUpdate);
+        log.info("스냅샷/저널 복구 완료: 스냅샷 mark {}, 거래 내역 {} 건", snapshotMark, count);
+        return count;
+    }
+
+    /**
+     * recover 가 감싼 저장소에 다시 기록하지 않은 (스냅샷 이전) 저널 레코드를 순서대로 전달
+     * - 누적 합계처럼 지난 거래 내역 전체가 필요한 곳을 채울 때 사용 (recover 이후, 요청을 받기 전에 호출)
+     * @return 전달한 레코드 수
+     */
+    public long forEachUnreplayed(Consumer<JournalRecord> action) {
+        return journal.replay(journal.firstRecord(), replayedFrom, action);
+    }
+
+    @Override
+    public CompletableFuture<Void> insert(long userId, long amount, TransactionType type, long updateMillis) {
+        CompletableFuture<Void> journaled = journal.append(userId, amount, type, updateMillis);
+        CompletableFuture<Void> written = delegate.insert(userId, amount, type, updateMillis);
+        return CompletableFuture.allOf(journaled, written);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryCondition condition, int limit) {
+        return delegate.selectPageByUserId(userId, condition, limit);
+    }
+
+    @Override
+    public void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+        delegate.forEachByUserId(userId, condition, action);
+    }
+
+    @Override
+    public List<Long> selectUserIds() {
+        return delegate.selectUserIds();
+    }
+
+    private void reinsert(JournalRecord record) {
+        delegate.insert(record.userId(), record.amount(), record.type(), record.updateMillis()).join();
+    }
+
+    /**
+     * 감싼 저장소를 먼저 종료(밀린 기록 반영)한 뒤 마지막 스냅샷을 쓰고 저널을 닫음
+     */
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (snapshotter != null) {
+            snapshotter.close();
+        }
+        journal.close();
+    }
+}
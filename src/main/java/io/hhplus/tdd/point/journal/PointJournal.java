@@ -0,0 +1,475 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 충전/사용 기록을 파일 끝에 이어 쓰는 저널 (write-ahead log)
+ * - 레코드는 고정 길이 바이너리: userId(8) amount(8) updateMillis(8) type(1) crc32c(4) = 29 bytes
+ * - 전용 writer 스레드가 대기 중인 레코드를 모아 한 번에 쓰고 fsync 한 번으로 함께 ack (group commit)
+ *   요청마다 fsync 하지 않으므로 동시 요청이 많을수록 fsync 한 번에 더 많은 레코드가 묶임
+ * - 열 때 끝부분이 잘리거나 crc 가 맞지 않는 레코드(쓰다 만 레코드)는 잘라냄
+ * - 파일은 segmentRecords 건마다 새 segment(경로.첫 레코드 번호 20자리)로 넘어가고,
+ *   스냅샷이 포함한 앞쪽 segment 는 deleteSegmentsBefore 로 지울 수 있음 (레코드 번호는 지워도 그대로)
+ * - 묶음 기록이 중간에 실패하면 묶음 시작 위치로 잘라내 레코드 번호가 어긋나지 않게 함
+ *   잘라내지도 못하면 저널을 실패 상태로 두고 이후 기록을 모두 거부
+ * - 적재는 read lock, 종료는 write lock 으로 묶어 종료 이후에 대기열에 남는 레코드가 없도록 함
+ */
+public class PointJournal implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointJournal.class);
+
+    static final int RECORD_SIZE = 29;
+    static final long DEFAULT_SEGMENT_RECORDS = 1L << 20;
+    private static final int PAYLOAD_SIZE = RECORD_SIZE - Integer.BYTES;
+
+    private record PendingRecord(JournalRecord record, CompletableFuture<Void> synced) {
+    }
+
+    /**
+     * 저널 파일 하나 (firstRecord 번째 레코드부터 담음)
+     */
+    private record Segment(long firstRecord, Path path, FileChannel channel) {
+
+        private long endRecord() throws IOException {
+            return firstRecord + channel.size() / RECORD_SIZE;
+        }
+    }
+
+    private final Path path;
+    private final long segmentRecords;
+    // 새 segment 추가는 writer 만, 앞쪽 segment 삭제는 segmentLock write lock 을 잡고 함
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    // 읽는 중인 segment 가 삭제되지 않도록 replay 는 read lock
+    private final ReentrantReadWriteLock segmentLock = new ReentrantReadWriteLock();
+    private volatile Segment active;
+    private final BlockingQueue<PendingRecord> queue;
+    private final int maxBatchSize;
+    private final ByteBuffer writeBuffer;
+    private final Thread writer;
+    private final AtomicLong syncCount = new AtomicLong();
+    private final AtomicLong durableRecordCount = new AtomicLong();
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+    // 실패한 묶음을 잘라내지 못한 원인 (null 이면 정상)
+    private volatile IOException failure;
+
+    public PointJournal(Path path, int capacity, int maxBatchSize) {
+        this(path, capacity, maxBatchSize, DEFAULT_SEGMENT_RECORDS);
+    }
+
+    /**
+     * @param segmentRecords segment 하나에 담는 레코드 수 (넘으면 다음 묶음부터 새 segment 에 씀)
+     */
+    public PointJournal(Path path, int capacity, int maxBatchSize, long segmentRecords) {
+        this.path = path;
+        this.segmentRecords = segmentRecords;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            if (Files.isRegularFile(path)) {
+                // segment 로 나누기 전의 단일 저널 파일은 첫 segment 로 사용
+                Files.move(path, segmentPath(0));
+            }
+            List<Long> firstRecords = listSegments(parent);
+            if (firstRecords.isEmpty()) {
+                firstRecords = List.of(0L);
+            }
+            for (long firstRecord : firstRecords) {
+                Path segmentPath = segmentPath(firstRecord);
+                FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                if (!segments.isEmpty() && segments.get(segments.size() - 1).endRecord() != firstRecord) {
+                    channel.close();
+                    throw new IllegalStateException("저널 segment 가 이어지지 않습니다: " + segmentPath);
+                }
+                segments.add(new Segment(firstRecord, segmentPath, channel));
+            }
+            active = segments.get(segments.size() - 1);
+            FileChannel channel = active.channel();
+            long validSize = validSize(channel);
+            if (validSize < channel.size()) {
+                log.warn("저널 끝의 손상된 레코드 제거: path={}, {} -> {} bytes", active.path(), channel.size(), validSize);
+                channel.truncate(validSize);
+            }
+            channel.position(validSize);
+            durableRecordCount.set(active.endRecord());
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 파일을 열 수 없습니다: " + path, e);
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.writeBuffer = ByteBuffer.allocateDirect(maxBatchSize * RECORD_SIZE);
+        this.writer = new Thread(this::drainLoop, "point-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 레코드 추가 (fsync 까지 끝나면 완료되는 future 반환)
+     */
+    public CompletableFuture<Void> append(long userId, long amount, TransactionType type, long updateMillis) {
+        PendingRecord pending = new PendingRecord(new JournalRecord(userId, amount, type, updateMillis), new CompletableFuture<>());
+        // 대기열이 가득 차 put 이 기다리는 동안에도 writer 는 계속 비우므로 close 는 적재가 끝날 때까지만 대기
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("종료된 저널에는 쓸 수 없습니다.");
+            }
+            if (failure != null) {
+                throw new IllegalStateException("기록에 실패한 저널에는 쓸 수 없습니다.", failure);
+            }
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("저널 대기열 적재 중 인터럽트되었습니다.", e);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        return pending.synced();
+    }
+
+    /**
+     * 저널에 기록된 레코드를 처음부터 순서대로 전달
+     * @return 전달한 레코드 수
+     */
+    public long replay(Consumer<JournalRecord> action) {
+        return replay(0, action);
+    }
+
+    /**
+     * from 번째 레코드부터 순서대로 전달 (0 부터 시작)
+     * @return 전달한 레코드 수
+     */
+    public long replay(long from, Consumer<JournalRecord> action) {
+        return replay(from, Long.MAX_VALUE, action);
+    }
+
+    /**
+     * from 번째부터 to 번째 직전까지의 레코드를 순서대로 전달 (0 부터 시작)
+     * - 이미 삭제된 segment 의 레코드는 건너뜀 (firstRecord 부터 전달)
+     * @return 전달한 레코드 수
+     */
+    public long replay(long from, long to, Consumer<JournalRecord> action) {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 1024);
+        long count = 0;
+        segmentLock.readLock().lock();
+        try {
+            for (Segment segment : segments) {
+                long start = Math.max(from, segment.firstRecord());
+                long end = Math.min(to, segment.endRecord());
+                if (start < end) {
+                    count += read(segment, start, end, buffer, action);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 읽을 수 없습니다.", e);
+        } finally {
+            segmentLock.readLock().unlock();
+        }
+        return count;
+    }
+
+    /**
+     * 남아 있는 가장 앞 레코드 번호 (앞쪽 segment 를 지웠으면 0 보다 큼)
+     */
+    public long firstRecord() {
+        return segments.get(0).firstRecord();
+    }
+
+    /**
+     * 지금까지 파일에 기록된 레코드 수 (지운 segment 포함, 다음에 쓸 레코드 번호)
+     */
+    public long recordCount() {
+        try {
+            return active.endRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 크기를 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * record 번째 이전 레코드만 담은 segment 를 삭제 (쓰고 있는 segment 는 남김)
+     * - 스냅샷이 포함한 레코드(mark 이전)만 지워야 재시작 시 잔액을 복구할 수 있음
+     * @return 삭제한 segment 수
+     */
+    public int deleteSegmentsBefore(long record) {
+        segmentLock.writeLock().lock();
+        try {
+            int deleted = 0;
+            while (segments.size() > 1 && segments.get(1).firstRecord() <= record) {
+                Segment oldest = segments.remove(0);
+                oldest.channel().close();
+                Files.deleteIfExists(oldest.path());
+                deleted++;
+            }
+            if (deleted > 0) {
+                log.info("스냅샷에 포함된 저널 segment 삭제: {} 개, 남은 첫 레코드 {}", deleted, firstRecord());
+            }
+            return deleted;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 segment 를 삭제할 수 없습니다.", e);
+        } finally {
+            segmentLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 남아 있는 segment 수
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * fsync 까지 끝난 레코드 수 (재시작해도 남아 있음이 보장되는 범위)
+     */
+    public long durableRecordCount() {
+        return durableRecordCount.get();
+    }
+
+    /**
+     * 실패한 묶음을 잘라내지 못해 더 이상 기록할 수 없는 상태인지
+     */
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * 지금까지 수행한 fsync 횟수
+     */
+    public long syncCount() {
+        return syncCount.get();
+    }
+
+    @Override
+    public void close() throws InterruptedException, IOException {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (writer.isAlive()) {
+            // 같은 파일에 두 스레드가 쓰지 않도록 직접 기록하지 않음
+            // 파일을 닫으면 writer 의 남은 묶음은 실패로 완료됨
+            log.warn("저널 writer 가 제한 시간 안에 끝나지 않았습니다: 대기 {} 건", queue.size());
+        } else {
+            // writer 가 예외로 먼저 끝났으면 남은 레코드를 직접 기록
+            List<PendingRecord> batch = new ArrayList<>(maxBatchSize);
+            while (queue.drainTo(batch, maxBatchSize) > 0) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+        for (Segment segment : segments) {
+            segment.channel().close();
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingRecord> batch = new ArrayList<>(maxBatchSize);
+        while (!closed || !queue.isEmpty()) {
+            PendingRecord first;
+            try {
+                first = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, maxBatchSize - 1);
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<PendingRecord> batch) {
+        if (failure != null) {
+            failAll(batch, failure);
+            return;
+        }
+        FileChannel channel = active.channel();
+        long start;
+        try {
+            start = channel.position();
+        } catch (IOException e) {
+            log.warn("저널 기록 실패: {} 건", batch.size(), e);
+            failAll(batch, e);
+            return;
+        }
+        try {
+            writeBuffer.clear();
+            for (PendingRecord pending : batch) {
+                encode(pending.record(), writeBuffer);
+            }
+            writeBuffer.flip();
+            while (writeBuffer.hasRemaining()) {
+                channel.write(writeBuffer);
+            }
+            channel.force(false);
+            syncCount.incrementAndGet();
+            durableRecordCount.addAndGet(batch.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("저널 기록 실패: {} 건", batch.size(), e);
+            discardFrom(channel, start);
+            failAll(batch, e);
+            return;
+        }
+        for (PendingRecord pending : batch) {
+            pending.synced().complete(null);
+        }
+        if (durableRecordCount.get() - active.firstRecord() >= segmentRecords) {
+            roll();
+        }
+    }
+
+    /**
+     * 실패한 묶음이 일부만 쓰였을 수 있으므로 묶음 시작 위치로 잘라냄
+     * - 잘라내지 못하면 파일 크기로 계산하는 레코드 번호가 어긋나므로 저널을 실패 상태로 둠
+     */
+    private void discardFrom(FileChannel channel, long start) {
+        try {
+            if (channel.size() > start) {
+                channel.truncate(start);
+                channel.force(false);
+            }
+            channel.position(start);
+        } catch (IOException e) {
+            log.error("실패한 저널 묶음을 잘라낼 수 없어 이후 기록을 거부합니다: path={}", active.path(), e);
+            failure = e;
+        }
+    }
+
+    private static void failAll(List<PendingRecord> batch, Throwable cause) {
+        for (PendingRecord pending : batch) {
+            pending.synced().completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * 다음 묶음부터 새 segment 에 씀 (writer 스레드에서만 호출)
+     */
+    private void roll() {
+        long firstRecord = durableRecordCount.get();
+        Path segmentPath = segmentPath(firstRecord);
+        try {
+            FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Segment segment = new Segment(firstRecord, segmentPath, channel);
+            segments.add(segment);
+            active = segment;
+        } catch (IOException e) {
+            // 이미 ack 한 기록에는 영향이 없으므로 지금 segment 에 계속 쓰고 다음 묶음에서 다시 시도
+            log.warn("저널 segment 를 새로 만들 수 없음: path={}", segmentPath, e);
+        }
+    }
+
+    private Path segmentPath(long firstRecord) {
+        return path.resolveSibling("%s.%020d".formatted(path.getFileName(), firstRecord));
+    }
+
+    private List<Long> listSegments(Path directory) throws IOException {
+        String prefix = path.getFileName() + ".";
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.length() == prefix.length() + 20
+                            && name.substring(prefix.length()).chars().allMatch(Character::isDigit))
+                    .map(name -> Long.parseLong(name.substring(prefix.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * segment 안의 start 번째부터 end 번째 직전까지의 레코드를 전달
+     */
+    private static long read(Segment segment, long start, long end, ByteBuffer buffer, Consumer<JournalRecord> action) throws IOException {
+        long position = (start - segment.firstRecord()) * RECORD_SIZE;
+        long limit = (end - segment.firstRecord()) * RECORD_SIZE;
+        long count = 0;
+        while (position < limit) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), limit - position));
+            int read = segment.channel().read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            buffer.flip();
+            while (buffer.remaining() >= RECORD_SIZE) {
+                action.accept(decode(buffer));
+                position += RECORD_SIZE;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long validSize(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        long size = channel.size();
+        long position = 0;
+        while (position + RECORD_SIZE <= size) {
+            buffer.clear();
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    return position;
+                }
+            }
+            buffer.flip();
+            if (!checksumMatches(buffer)) {
+                return position;
+            }
+            position += RECORD_SIZE;
+        }
+        return position;
+    }
+
+    private static void encode(JournalRecord record, ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putLong(record.userId());
+        buffer.putLong(record.amount());
+        buffer.putLong(record.updateMillis());
+        buffer.put((byte) record.type().ordinal());
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(start).limit(start + PAYLOAD_SIZE));
+        buffer.putInt((int) crc.getValue());
+    }
+
+    private static JournalRecord decode(ByteBuffer buffer) {
+        long userId = buffer.getLong();
+        long amount = buffer.getLong();
+        long updateMillis = buffer.getLong();
+        TransactionType type = TransactionType.values()[buffer.get()];
+        buffer.getInt();
+        return new JournalRecord(userId, amount, type, updateMillis);
+    }
+
+    private static boolean checksumMatches(ByteBuffer record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record.duplicate().limit(record.position() + PAYLOAD_SIZE));
+        return (int) crc.getValue() == record.getInt(record.position() + PAYLOAD_SIZE);
+    }
+}
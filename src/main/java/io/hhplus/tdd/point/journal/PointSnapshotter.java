@@ -0,0 +1,275 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32C;
+
+/**
+ * 저널을 접어 만든 사용자별 잔액 스냅샷을 주기적으로 파일에 저장
+ * - 스냅샷 = 저널 앞부분(high-water mark 직전까지)을 모두 반영한 잔액, 사용자마다 한 건 (log compaction)
+ * - 잔액 저장소를 읽지 않고 fsync 가 끝난 저널 레코드만 접으므로 요청 처리와 경합하지 않고 잔액과 mark 가 항상 일치
+ * - 파일 형식: magic(4) mark(8) count(8) [userId(8) point(8)] x count crc32c(4)
+ * - 임시 파일에 쓰고 fsync 후 이름을 바꿔 교체 (쓰다 만 스냅샷이 남지 않음)
+ * - 재시작 시 스냅샷을 읽고 mark 이후 저널(tail)만 접어 잔액을 복구
+ * - deleteCoveredSegments 면 스냅샷을 쓴 뒤 mark 이전 레코드만 담은 저널 segment 를 지움
+ *   (그 거래 내역은 더 이상 복구할 수 없고 잔액은 스냅샷으로만 복구)
+ */
+public class PointSnapshotter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotter.class);
+
+    private static final int MAGIC = 0x50534E31;
+    private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES * 2;
+    private static final int ENTRY_SIZE = Long.BYTES * 2;
+
+    private final PointJournal journal;
+    private final Path path;
+    private final boolean deleteCoveredSegments;
+    private final Map<Long, Long> balances = new HashMap<>();
+    private long mark;
+
+    // 주기 스냅샷과 복구/종료 스냅샷이 겹치지 않도록 한 번에 하나씩
+    private final Lock snapshotLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+
+    public PointSnapshotter(PointJournal journal, Path path, Duration interval) {
+        this(journal, path, interval, false);
+    }
+
+    /**
+     * @param deleteCoveredSegments 스냅샷을 쓴 뒤 스냅샷이 포함한 저널 segment 를 지울지 여부
+     */
+    public PointSnapshotter(PointJournal journal, Path path, Duration interval, boolean deleteCoveredSegments) {
+        this.journal = journal;
+        this.path = path;
+        this.deleteCoveredSegments = deleteCoveredSegments;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 스냅샷 파일을 읽고 그 이후 저널을 접어 현재 잔액을 복구
+     * - 스냅샷이 없거나 손상됐거나 저널보다 앞서 있으면 저널 처음부터 접음
+     * @return 스냅샷이 포함하고 있던 저널 레코드 수 (high-water mark)
+     * @throws IllegalStateException 스냅샷 mark 이전의 저널 segment 가 지워져 잔액을 접을 수 없는 경우
+     */
+    public long restore() {
+        snapshotLock.lock();
+        try {
+            balances.clear();
+            mark = 0;
+            if (Files.exists(path) && !read()) {
+                balances.clear();
+                mark = 0;
+            }
+            if (mark > journal.recordCount()) {
+                log.warn("스냅샷이 저널보다 앞서 있어 무시: path={}, mark={}, journal={}", path, mark, journal.recordCount());
+                balances.clear();
+                mark = 0;
+            }
+            if (mark < journal.firstRecord()) {
+                throw new IllegalStateException("스냅샷 없이 잔액을 복구할 수 없습니다: 저널이 %d 번째 레코드부터 남아 있음, path=%s"
+                        .formatted(journal.firstRecord(), path));
+            }
+            long snapshotMark = mark;
+            catchUp();
+            return snapshotMark;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 스냅샷 이후 fsync 된 저널을 접어 스냅샷 파일을 새로 씀 (바뀐 것이 없으면 쓰지 않음)
+     */
+    public void snapshot() {
+        snapshotLock.lock();
+        try {
+            long previousMark = mark;
+            catchUp();
+            if (mark == previousMark && Files.exists(path)) {
+                return;
+            }
+            write();
+            if (deleteCoveredSegments) {
+                journal.deleteSegmentsBefore(mark);
+            }
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * 복구/스냅샷 시점의 사용자별 잔액을 전달
+     */
+    public void forEachBalance(BiConsumer<Long, Long> action) {
+        snapshotLock.lock();
+        try {
+            balances.forEach(action);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 접은 저널 레코드 수
+     */
+    public long mark() {
+        snapshotLock.lock();
+        try {
+            return mark;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * 주기 스냅샷을 멈추고 마지막 스냅샷을 씀 (저널보다 먼저 닫아야 함)
+     */
+    @Override
+    public void close() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        snapshot();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.warn("스냅샷 저장 실패: path={}", path, e);
+        }
+    }
+
+    private void catchUp() {
+        long to = journal.durableRecordCount();
+        mark += journal.replay(mark, to, record -> {
+            long signedAmount = record.type() == TransactionType.CHARGE ? record.amount() : -record.amount();
+            balances.merge(record.userId(), signedAmount, Long::sum);
+        });
+    }
+
+    private void write() {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        CRC32C crc = new CRC32C();
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(temporary,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                buffer.putInt(MAGIC).putLong(mark).putLong(balances.size());
+                for (Map.Entry<Long, Long> balance : balances.entrySet()) {
+                    if (buffer.remaining() < ENTRY_SIZE) {
+                        flush(channel, buffer, crc);
+                    }
+                    buffer.putLong(balance.getKey()).putLong(balance.getValue());
+                }
+                flush(channel, buffer, crc);
+                buffer.putInt((int) crc.getValue()).flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 쓸 수 없습니다: " + path, e);
+        }
+        log.info("스냅샷 저장: path={}, mark={}, 사용자 {} 명", path, mark, balances.size());
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, CRC32C crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * @return 스냅샷이 온전하면 true (balances, mark 를 채움)
+     */
+    private boolean read() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long payloadEnd = size - Integer.BYTES;
+            if (payloadEnd < HEADER_SIZE) {
+                log.warn("손상된 스냅샷 무시: path={}, size={}", path, size);
+                return false;
+            }
+            CRC32C crc = new CRC32C();
+            ByteBuffer header = readFully(channel, ByteBuffer.allocate(HEADER_SIZE), 0);
+            crc.update(header.duplicate());
+            long count = header.getInt(0) == MAGIC ? header.getLong(Integer.BYTES + Long.BYTES) : -1;
+            if (count < 0 || payloadEnd != HEADER_SIZE + count * ENTRY_SIZE) {
+                log.warn("손상된 스냅샷 무시: path={}, size={}", path, size);
+                return false;
+            }
+            mark = header.getLong(Integer.BYTES);
+            // 항목 경계에 맞춘 크기로 읽으므로 한 번 읽은 조각에 항목이 잘려 들어오지 않음
+            ByteBuffer buffer = ByteBuffer.allocateDirect(ENTRY_SIZE * 4096);
+            long position = HEADER_SIZE;
+            while (position < payloadEnd) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), payloadEnd - position));
+                readFully(channel, buffer, position);
+                crc.update(buffer.duplicate());
+                position += buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    balances.put(buffer.getLong(), buffer.getLong());
+                }
+            }
+            int stored = readFully(channel, ByteBuffer.allocate(Integer.BYTES), payloadEnd).getInt();
+            if ((int) crc.getValue() != stored) {
+                log.warn("crc 가 맞지 않는 스냅샷 무시: path={}", path);
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("스냅샷을 읽을 수 없어 무시: path={}", path, e);
+            return false;
+        }
+    }
+
+    /**
+     * position 부터 buffer 가 가득 찰 때까지 읽고 읽기 모드로 바꿔 반환
+     */
+    private static ByteBuffer readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int start = buffer.position();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position() - start) < 0) {
+                throw new EOFException("스냅샷이 예상보다 짧습니다.");
+            }
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 이미 기록이 확인된 insert 결과 (바로 기록하는 저장소가 insert 마다 새 future 를 만들지 않도록 하나를 공유)
+ * - 처음부터 완료 상태라 complete/cancel 은 아무것도 바꾸지 못하고, 상태를 덮어쓰는 obtrude 는 막음
+ * - 이어 붙인 단계(thenApply 등)와 copy 는 일반 CompletableFuture 로 만들어지므로 호출자가 자유롭게 다룰 수 있음
+ */
+final class AcknowledgedFuture extends CompletableFuture<Void> {
+
+    static final CompletableFuture<Void> INSTANCE = new AcknowledgedFuture();
+
+    private AcknowledgedFuture() {
+        super.complete(null);
+    }
+
+    @Override
+    public void obtrudeValue(Void value) {
+        throw new UnsupportedOperationException("공유하는 ack future 의 상태는 바꿀 수 없습니다.");
+    }
+
+    @Override
+    public void obtrudeException(Throwable ex) {
+        throw new UnsupportedOperationException("공유하는 ack future 의 상태는 바꿀 수 없습니다.");
+    }
+}
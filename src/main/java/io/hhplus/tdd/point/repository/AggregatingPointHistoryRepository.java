@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 거래 내역을 기록할 때마다 사용자별 누적 합계(PointHistoryAggregate)를 함께 갱신하는 저장소
+ * - 요약 조회는 거래 내역을 훑지 않고 누적 합계만 읽음 (O(1), 일별 합계는 O(dailyBuckets))
+ * - 감싼 저장소의 기록이 ack 된 뒤 합계에 더하고, 반환한 future 는 합계까지 반영된 뒤 완료
+ * - PointFlowRollup 을 주면 전체 사용자의 분/시간 단위 합계에도 함께 더함
+ * - 만들 때 감싼 저장소에 이미 있는 거래 내역(복구된 저널, 매핑 파일)으로 합계를 채움
+ * - 감싼 저장소에 다시 기록하지 않은 지난 거래 내역(스냅샷 이전 저널)은 addRecovered 로 합계에만 더함
+ */
+public class AggregatingPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private final PointHistoryRepository delegate;
+    private final int dailyBuckets;
+    private final ZoneId zone;
+    private final PointFlowRollup rollup;
+    private final Map<Long, UserAggregate> aggregates = new ConcurrentHashMap<>();
+
+    public AggregatingPointHistoryRepository(PointHistoryRepository delegate, int dailyBuckets, ZoneId zone) {
+        this(delegate, dailyBuckets, zone, null);
+    }
+
+    public AggregatingPointHistoryRepository(PointHistoryRepository delegate, int dailyBuckets, ZoneId zone, PointFlowRollup rollup) {
+        this.delegate = delegate;
+        this.dailyBuckets = dailyBuckets;
+        this.zone = zone;
+        this.rollup = rollup;
+        seed();
+    }
+
+    @Override
+    public CompletableFuture<Void> insert(long userId, long amount, TransactionType type, long updateMillis) {
+        CompletableFuture<Void> written = delegate.insert(userId, amount, type, updateMillis);
+        if (written.isDone() && !written.isCompletedExceptionally()) {
+            // 이미 ack 된 경우(바로 기록하는 저장소)는 바로 더하고 받은 future 를 그대로 반환 (future, 람다를 새로 만들지 않음)
+            record(userId, amount, type, updateMillis);
+            return written;
+        }
+        return written.thenRun(() -> record(userId, amount, type, updateMillis));
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryCondition condition, int limit) {
+        return delegate.selectPageByUserId(userId, condition, limit);
+    }
+
+    @Override
+    public void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+        delegate.forEachByUserId(userId, condition, action);
+    }
+
+    @Override
+    public PointHistorySummary summarizeByUserId(long userId) {
+        UserAggregate aggregate = aggregates.get(userId);
+        if (aggregate == null) {
+            return new PointHistoryAggregate(0, zone).toSummary(userId);
+        }
+        return aggregate.toSummary(userId);
+    }
+
+    @Override
+    public List<Long> selectUserIds() {
+        return delegate.selectUserIds();
+    }
+
+    /**
+     * 감싼 저장소에는 없는 지난 거래 내역을 합계에만 더함 (요청을 받기 전에 호출)
+     */
+    public void addRecovered(long userId, long amount, TransactionType type, long updateMillis) {
+        record(userId, amount, type, updateMillis);
+    }
+
+    /**
+     * 누적 합계와 흐름 합계는 메모리에만 있어 따로 정리할 것이 없으므로 감싼 저장소만 닫음
+     * (저널/batching writer 가 남은 기록을 마저 쓰고 매핑 파일을 닫음)
+     */
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void seed() {
+        for (long userId : delegate.selectUserIds()) {
+            delegate.forEachByUserId(userId, PointHistoryCondition.none(),
+                    pointHistory -> record(userId, pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis()));
+        }
+    }
+
+    private void record(long userId, long amount, TransactionType type, long updateMillis) {
+        aggregate(userId).add(amount, type, updateMillis);
+        if (rollup != null) {
+            rollup.add(amount, type, updateMillis);
+        }
+    }
+
+    private UserAggregate aggregate(long userId) {
+        UserAggregate aggregate = aggregates.get(userId);
+        return aggregate != null ? aggregate : aggregates.computeIfAbsent(userId, id -> new UserAggregate(new PointHistoryAggregate(dailyBuckets, zone)));
+    }
+
+    /**
+     * 사용자 한 명의 누적 합계와 Lock (같은 사용자의 기록이 여러 스레드에서 ack 될 수 있음)
+     */
+    private record UserAggregate(PointHistoryAggregate aggregate, Lock lock) {
+
+        private UserAggregate(PointHistoryAggregate aggregate) {
+            this(aggregate, new ReentrantLock());
+        }
+
+        private void add(long amount, TransactionType type, long updateMillis) {
+            lock.lock();
+            try {
+                aggregate.add(amount, type, updateMillis);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private PointHistorySummary toSummary(long userId) {
+            lock.lock();
+            try {
+                return aggregate.toSummary(userId);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 사용자 ID(long) → (잔액, 변경 시각) 저장소
+ * - 항목마다 객체를 만들지 않는 구현을 위한 인터페이스 (잔액 저장소는 UserPointRepository 로 감싸 사용)
+ */
+public interface BalanceStore {
+
+    /**
+     * 사용자 잔액 조회
+     * @return 저장된 적이 없으면 null
+     */
+    UserPoint get(long userId);
+
+    /**
+     * 사용자 잔액 저장 (항목 객체를 만들지 않음)
+     */
+    void put(long userId, long point, long updateMillis);
+
+    /**
+     * 저장된 사용자 수
+     */
+    int size();
+}
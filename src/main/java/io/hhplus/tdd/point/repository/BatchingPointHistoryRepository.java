@@ -0,0 +1,162 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 거래 내역을 대기열에 넣고 전용 writer 스레드가 모아서 기록하는 저장소
+ * - 대기열은 고정 크기 링 버퍼(ArrayBlockingQueue), 가득 차면 호출자가 빈 자리가 날 때까지 대기 (backpressure)
+ * - writer 는 한 번에 최대 maxBatchSize 건을 꺼내 delegate 에 순서대로 기록
+ * - Durability.ENQUEUE: 대기열에 들어가면 바로 ack / Durability.APPEND: delegate 에 기록된 뒤 ack
+ * - 조회는 delegate 에 위임하므로 ENQUEUE 모드에서는 대기 중인 내역이 잠시 보이지 않을 수 있음
+ * - 적재는 read lock, 종료는 write lock 으로 묶어 종료 이후에 대기열에 남는 내역이 없도록 함
+ */
+public class BatchingPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingPointHistoryRepository.class);
+
+    public enum Durability {
+        /** 대기열 적재 후 ack */
+        ENQUEUE,
+        /** 저장소 기록 후 ack */
+        APPEND
+    }
+
+    private record PendingHistory(
+            long userId,
+            long amount,
+            TransactionType type,
+            long updateMillis,
+            CompletableFuture<Void> appended
+    ) {
+    }
+
+    private final PointHistoryRepository delegate;
+    private final BlockingQueue<PendingHistory> queue;
+    private final int maxBatchSize;
+    private final Durability durability;
+    private final Thread writer;
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    public BatchingPointHistoryRepository(PointHistoryRepository delegate, int capacity, int maxBatchSize, Durability durability) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.durability = durability;
+        this.writer = new Thread(this::drainLoop, "point-history-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public CompletableFuture<Void> insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PendingHistory pending = new PendingHistory(userId, amount, type, updateMillis, new CompletableFuture<>());
+        // 대기열이 가득 차 put 이 기다리는 동안에도 writer 는 계속 비우므로 close 는 적재가 끝날 때까지만 대기
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("종료된 저장소에는 쓸 수 없습니다.");
+            }
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("거래 내역 대기열 적재 중 인터럽트되었습니다.", e);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        return durability == Durability.APPEND ? pending.appended() : AcknowledgedFuture.INSTANCE;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryCondition condition, int limit) {
+        return delegate.selectPageByUserId(userId, condition, limit);
+    }
+
+    @Override
+    public void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+        delegate.forEachByUserId(userId, condition, action);
+    }
+
+    @Override
+    public List<Long> selectUserIds() {
+        return delegate.selectUserIds();
+    }
+
+    /**
+     * 아직 기록되지 않은 거래 내역 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (writer.isAlive()) {
+            // 아직 기록 중인 writer 는 대기열이 빌 때까지 스스로 기록하므로 함께 꺼내지 않음 (순서가 뒤섞이지 않도록)
+            log.warn("거래 내역 writer 가 제한 시간 안에 끝나지 않았습니다: 대기 {} 건", queue.size());
+            return;
+        }
+        // writer 가 예외로 먼저 끝났으면 남은 내역을 직접 기록
+        List<PendingHistory> batch = new ArrayList<>(maxBatchSize);
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+            appendBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingHistory> batch = new ArrayList<>(maxBatchSize);
+        while (!closed || !queue.isEmpty()) {
+            PendingHistory first;
+            try {
+                first = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, maxBatchSize - 1);
+            appendBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void appendBatch(List<PendingHistory> batch) {
+        for (PendingHistory pending : batch) {
+            try {
+                delegate.insert(pending.userId(), pending.amount(), pending.type(), pending.updateMillis()).join();
+                pending.appended().complete(null);
+            } catch (RuntimeException e) {
+                log.warn("거래 내역 기록 실패: userId={}", pending.userId(), e);
+                pending.appended().completeExceptionally(e);
+            }
+        }
+    }
+}
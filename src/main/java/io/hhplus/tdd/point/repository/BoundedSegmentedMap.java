@@ -0,0 +1,191 @@
+package io.hhplus.tdd.point.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 크기로 제한되고 키 해시로 segment 를 나눈 Map (UserPointCache, PointIdempotencyStore 가 함께 씀)
+ * - segment 마다 LinkedHashMap + ReentrantLock, 호출자가 segment 의 Lock 을 잡은 채 여러 동작을 한 임계 구역으로 묶음
+ * - accessOrder 면 LRU(조회 시 뒤로 이동), 아니면 삽입 순서
+ * - segment 가 maxSize / segment 수에 차면 앞쪽(가장 오래 안 쓴 / 가장 오래된) 항목부터 제거
+ *   - evictable 을 통과하지 못한 항목(처리 중인 항목 등)은 건너뜀, 지울 항목이 없으면 put 이 false 를 돌려주고 넣지 않음
+ * - 크기 초과 제거와 만료 제거 수를 세고 bindTo 로 {name}.evictions (cause=size|expired), {name}.size 지표를 등록
+ */
+public class BoundedSegmentedMap<K, V> {
+
+    private final Segment<K, V>[] segments;
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public BoundedSegmentedMap(int maxSize, int segmentCount, boolean accessOrder) {
+        this(maxSize, segmentCount, accessOrder, value -> true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public BoundedSegmentedMap(int maxSize, int segmentCount, boolean accessOrder, Predicate<V> evictable) {
+        this.segments = new Segment[segmentCount];
+        int segmentSize = Math.max(1, maxSize / segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentSize, accessOrder, evictable, evictions, expirations);
+        }
+    }
+
+    /**
+     * 키가 속한 segment (읽고 쓰기 전에 lock 을 잡을 것)
+     */
+    public Segment<K, V> segment(K key) {
+        int hash = key.hashCode();
+        return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)];
+    }
+
+    /**
+     * 전체 항목 수 (segment 를 하나씩 잠그며 합산)
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.unlock();
+            }
+        }
+        return size;
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public long expirations() {
+        return expirations.sum();
+    }
+
+    /**
+     * 제거/크기 지표 등록 (요청 수 같은 용도별 지표는 사용하는 쪽에서 등록)
+     */
+    public void bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder(name + ".evictions", evictions, LongAdder::sum).tags("cause", "size").register(registry);
+        FunctionCounter.builder(name + ".evictions", expirations, LongAdder::sum).tags("cause", "expired").register(registry);
+        Gauge.builder(name + ".size", this, BoundedSegmentedMap::size).register(registry);
+    }
+
+    /**
+     * segment 하나 (lock 을 잡은 스레드만 나머지 메서드를 호출)
+     */
+    public static final class Segment<K, V> {
+
+        private final Lock lock = new ReentrantLock();
+        private final LinkedHashMap<K, V> entries;
+        private final int maxSize;
+        private final Predicate<V> evictable;
+        private final LongAdder evictions;
+        private final LongAdder expirations;
+        private long writeStamp;
+
+        private Segment(int maxSize, boolean accessOrder, Predicate<V> evictable, LongAdder evictions, LongAdder expirations) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, accessOrder);
+            this.maxSize = maxSize;
+            this.evictable = evictable;
+            this.evictions = evictions;
+            this.expirations = expirations;
+        }
+
+        public void lock() {
+            lock.lock();
+        }
+
+        public void unlock() {
+            lock.unlock();
+        }
+
+        public V get(K key) {
+            return entries.get(key);
+        }
+
+        public boolean containsKey(K key) {
+            return entries.containsKey(key);
+        }
+
+        /**
+         * 추가 (새 키인데 segment 가 차 있으면 앞에서부터 처음 만난 지울 수 있는 항목을 제거)
+         * @return 지울 수 있는 항목이 없어 넣지 못했으면 false
+         */
+        public boolean put(K key, V value) {
+            if (entries.size() >= maxSize && !entries.containsKey(key) && !evictOne()) {
+                return false;
+            }
+            entries.put(key, value);
+            return true;
+        }
+
+        private boolean evictOne() {
+            Iterator<V> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (evictable.test(iterator.next())) {
+                    iterator.remove();
+                    evictions.increment();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public V remove(K key) {
+            return entries.remove(key);
+        }
+
+        public boolean remove(K key, V value) {
+            return entries.remove(key, value);
+        }
+
+        /**
+         * 만료된 항목 제거 (만료 수에 집계)
+         */
+        public void expire(K key) {
+            if (entries.remove(key) != null) {
+                expirations.increment();
+            }
+        }
+
+        /**
+         * 앞에서부터 expired 인 항목을 만료 처리하고 처음 만난 만료되지 않은 항목에서 멈춤
+         * - 모든 항목의 ttl 이 같은 삽입 순서 segment 에서만 의미 있음 (앞쪽이 항상 먼저 만료)
+         * - evictable 을 통과하지 못한 항목(처리 중인 항목 등)은 남겨 두고 그 뒤 항목을 계속 확인
+         */
+        public void expireHead(Predicate<V> expired) {
+            Iterator<V> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                V value = iterator.next();
+                if (!evictable.test(value)) {
+                    continue;
+                }
+                if (!expired.test(value)) {
+                    return;
+                }
+                iterator.remove();
+                expirations.increment();
+            }
+        }
+
+        /**
+         * segment 에 마지막으로 쓴 시점 표시 (markWritten 마다 증가)
+         */
+        public long writeStamp() {
+            return writeStamp;
+        }
+
+        public void markWritten() {
+            writeStamp++;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 잔액 조회를 UserPointCache 로 먼저 처리하는 저장소 (read-through)
+ * - 캐시에 없으면 감싼 저장소에서 읽어 채움
+ * - insertOrUpdate 는 엔진의 충전/사용 임계 구역 안에서 호출되므로, 저장 직후 같은 자리에서 캐시를 갱신
+ *   → 캐시는 마지막으로 커밋된 잔액보다 오래된 값을 돌려주지 않음
+ * - 저장이 실패하면 캐시 항목을 제거 (다음 조회에서 저장소 값을 다시 읽음)
+ */
+public class CachingUserPointRepository implements UserPointRepository, AutoCloseable {
+
+    private final UserPointRepository delegate;
+    private final UserPointCache cache;
+
+    public CachingUserPointRepository(UserPointRepository delegate, UserPointCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        UserPoint cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long writeStamp = cache.writeStamp(userId);
+        UserPoint loaded = delegate.selectById(userId);
+        cache.populate(loaded, writeStamp);
+        return loaded;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long point) {
+        UserPoint updated;
+        try {
+            updated = delegate.insertOrUpdate(userId, point);
+        } catch (RuntimeException e) {
+            cache.invalidate(userId);
+            throw e;
+        }
+        cache.put(updated);
+        return updated;
+    }
+
+    /**
+     * 캐시 뒤의 잔액 저장소가 write-behind 면 함께 종료해 밀린 잔액을 테이블에 기록 (캐시 자체는 정리할 것이 없음)
+     */
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 여러 스레드가 함께 쓰는 long 키 잔액 맵
+ * - 사용자 ID 해시로 나눈 segment 마다 LongBalanceMap 과 StampedLock 을 둠
+ * - 쓰기는 segment 단위 write lock, 읽기는 lock 없이 낙관적으로 읽고 그 사이 쓰기가 있었을 때만 read lock 으로 다시 읽음
+ * - synchronized 를 쓰지 않으므로 가상 스레드가 기다리는 동안 carrier 를 고정하지 않음
+ */
+public class ConcurrentLongBalanceMap implements BalanceStore {
+
+    private final Segment[] segments;
+
+    public ConcurrentLongBalanceMap() {
+        this(64, 1024);
+    }
+
+    /**
+     * @param segmentCount segment 수 (2의 거듭제곱으로 올림)
+     * @param expectedSize 예상 사용자 수
+     */
+    public ConcurrentLongBalanceMap(int segmentCount, int expectedSize) {
+        int count = Integer.highestOneBit(Math.max(1, segmentCount) - 1) << 1;
+        count = Math.max(1, count);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(Math.max(16, expectedSize / count));
+        }
+    }
+
+    @Override
+    public UserPoint get(long userId) {
+        Segment segment = segment(userId);
+        long stamp = segment.lock.tryOptimisticRead();
+        UserPoint userPoint = readQuietly(segment, userId);
+        if (segment.lock.validate(stamp)) {
+            return userPoint;
+        }
+        stamp = segment.lock.readLock();
+        try {
+            return segment.map.get(userId);
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void put(long userId, long point, long updateMillis) {
+        Segment segment = segment(userId);
+        long stamp = segment.lock.writeLock();
+        try {
+            segment.map.put(userId, point, updateMillis);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 쓰는 도중의 값을 읽으면 잔액 범위 검증에 걸릴 수 있으므로 예외는 무시 (validate 실패로 다시 읽음)
+     */
+    private static UserPoint readQuietly(Segment segment, long userId) {
+        try {
+            return segment.map.get(userId);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private Segment segment(long userId) {
+        long mixed = userId * 0x9E3779B97F4A7C15L;
+        return segments[(int) (mixed >>> 40) & (segments.length - 1)];
+    }
+
+    private static final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+        private final LongBalanceMap map;
+
+        private Segment(int expectedSize) {
+            this.map = new LongBalanceMap(expectedSize);
+        }
+    }
+}
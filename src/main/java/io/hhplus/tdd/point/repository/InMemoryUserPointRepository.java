@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * UserPointTable 대신 BalanceStore 에 잔액을 보관하는 저장소
+ * - 잔액 범위 검증은 UserPointTable 과 같이 UserPoint 생성 시 수행 (저장 전에 실패)
+ * - 저장소 자체는 항목 객체를 만들지 않고, 반환용 UserPoint 만 생성
+ */
+public class InMemoryUserPointRepository implements UserPointRepository {
+
+    private final BalanceStore balanceStore;
+
+    public InMemoryUserPointRepository(BalanceStore balanceStore) {
+        this.balanceStore = balanceStore;
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        UserPoint userPoint = balanceStore.get(userId);
+        return userPoint == null ? UserPoint.empty(userId) : userPoint;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long point) {
+        UserPoint userPoint = new UserPoint(userId, point, System.currentTimeMillis());
+        balanceStore.put(userId, userPoint.point(), userPoint.updateMillis());
+        return userPoint;
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * PointHistoryTable 에 기록하면서 사용자별 인덱스를 함께 유지하는 거래 내역 저장소
+ * - 조회는 PointHistoryTable 전체를 훑지 않고 인덱스에서 해당 사용자 내역만 읽음
+ */
+public class IndexedPointHistoryRepository implements PointHistoryRepository {
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryIndex index = new PointHistoryIndex();
+
+    public IndexedPointHistoryRepository(PointHistoryTable pointHistoryTable) {
+        this.pointHistoryTable = pointHistoryTable;
+    }
+
+    @Override
+    public CompletableFuture<Void> insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        index.add(pointHistory);
+        return AcknowledgedFuture.INSTANCE;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return index.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryCondition condition, int limit) {
+        return index.selectPageByUserId(userId, condition, limit);
+    }
+
+    @Override
+    public void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+        index.forEachByUserId(userId, condition, action);
+    }
+
+    @Override
+    public List<Long> selectUserIds() {
+        return index.selectUserIds();
+    }
+}
@@ -0,0 +1,154 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * open addressing(선형 탐사) 방식의 long 키 잔액 맵 (스레드 안전하지 않음)
+ * - 항목은 long 배열 하나에 [userId, point, updateMillis] 순서로 붙여 저장 → 사용자당 24 bytes / 적재율
+ * - 키와 값을 박싱하지 않고 항목 객체도 만들지 않으므로 put 은 배열을 늘릴 때 말고는 할당이 없음
+ * - 잔액은 삭제하지 않으므로 삭제 표시(tombstone) 없음
+ * - 빈 칸 표시로 쓰는 Long.MIN_VALUE 키는 별도 필드에 보관
+ */
+public class LongBalanceMap implements BalanceStore {
+
+    static final long EMPTY = Long.MIN_VALUE;
+    private static final int STRIDE = 3;
+    private static final double LOAD_FACTOR = 0.75;
+    // long 배열 길이(칸 수 x 3)가 int 범위를 넘지 않는 가장 큰 2의 거듭제곱
+    private static final int MAX_CAPACITY = 1 << 29;
+
+    private long[] slots;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    private boolean hasEmptyKey;
+    private long emptyKeyPoint;
+    private long emptyKeyUpdateMillis;
+
+    public LongBalanceMap() {
+        this(16);
+    }
+
+    public LongBalanceMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    @Override
+    public UserPoint get(long userId) {
+        if (userId == EMPTY) {
+            return hasEmptyKey ? new UserPoint(userId, emptyKeyPoint, emptyKeyUpdateMillis) : null;
+        }
+        long[] current = slots;
+        int slotMask = current.length / STRIDE - 1;
+        // 낙관적 읽기 중 배열이 바뀌어도 끝나도록 탐사 횟수를 칸 수로 제한
+        for (int probe = 0, index = hash(userId) & slotMask; probe <= slotMask; probe++, index = (index + 1) & slotMask) {
+            int offset = index * STRIDE;
+            long key = current[offset];
+            if (key == userId) {
+                return new UserPoint(userId, current[offset + 1], current[offset + 2]);
+            }
+            if (key == EMPTY) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put(long userId, long point, long updateMillis) {
+        if (userId == EMPTY) {
+            if (!hasEmptyKey) {
+                hasEmptyKey = true;
+                size++;
+            }
+            emptyKeyPoint = point;
+            emptyKeyUpdateMillis = updateMillis;
+            return;
+        }
+        for (int index = hash(userId) & mask; ; index = (index + 1) & mask) {
+            int offset = index * STRIDE;
+            long key = slots[offset];
+            if (key == userId) {
+                slots[offset + 1] = point;
+                slots[offset + 2] = updateMillis;
+                return;
+            }
+            if (key == EMPTY) {
+                slots[offset + 1] = point;
+                slots[offset + 2] = updateMillis;
+                // 키를 마지막에 써야 같은 배열을 읽는 쪽이 값이 채워진 항목만 봄
+                slots[offset] = userId;
+                if (++size > resizeThreshold) {
+                    resize();
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 현재 칸 수 (항목을 담을 수 있는 배열 크기)
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    private void resize() {
+        if (capacity() == MAX_CAPACITY) {
+            throw new IllegalStateException("잔액 맵이 가득 찼습니다: " + size);
+        }
+        long[] previous = slots;
+        allocate(capacity() * 2);
+        for (int offset = 0; offset < previous.length; offset += STRIDE) {
+            long key = previous[offset];
+            if (key != EMPTY) {
+                int index = hash(key) & mask;
+                while (slots[index * STRIDE] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                slots[index * STRIDE] = key;
+                slots[index * STRIDE + 1] = previous[offset + 1];
+                slots[index * STRIDE + 2] = previous[offset + 2];
+            }
+        }
+    }
+
+    /**
+     * 새 배열을 모두 채운 뒤 교체 (읽는 쪽은 옛 배열이나 완성된 새 배열 중 하나만 봄)
+     */
+    private void allocate(int capacity) {
+        long[] allocated = new long[capacity * STRIDE];
+        for (int offset = 0; offset < allocated.length; offset += STRIDE) {
+            allocated[offset] = EMPTY;
+        }
+        this.mask = capacity - 1;
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+        this.slots = allocated;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long capacity = Long.highestOneBit((long) Math.ceil(Math.max(2, expectedSize) / LOAD_FACTOR) - 1) << 1;
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("잔액 맵 크기가 너무 큽니다: " + expectedSize);
+        }
+        return (int) capacity;
+    }
+
+    /**
+     * 연속된 사용자 ID 가 인접 칸에 몰리지 않도록 비트를 섞음 (murmur3 fmix64)
+     */
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
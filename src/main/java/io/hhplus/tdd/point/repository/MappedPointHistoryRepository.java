@@ -0,0 +1,267 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 거래 내역을 메모리 매핑 파일의 고정 길이 칸(slot)에 기록하는 저장소 (PointHistoryTable 을 사용하지 않음)
+ * - 칸 구성: userId(8) amount(8) updateMillis(8) previous(8) type(1) + padding = 40 bytes, ID 는 칸 번호 + 1
+ * - previous 는 같은 사용자의 직전 칸 번호 (사용자별 연결 목록), heap 에는 사용자마다 마지막 칸과 건수만 보관
+ *   → 내역이 늘어도 heap 사용량은 사용자 수에만 비례
+ * - 파일은 slotsPerSegment 칸씩 나눠 필요할 때 새로 매핑
+ * - 파일은 off-heap 보관용이므로 열 때 기존 파일을 비움 (재시작 후 복구는 저널이 담당)
+ */
+public class MappedPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    static final int SLOT_SIZE = 40;
+    private static final int USER_ID_OFFSET = 0;
+    private static final int AMOUNT_OFFSET = 8;
+    private static final int UPDATE_MILLIS_OFFSET = 16;
+    private static final int PREVIOUS_OFFSET = 24;
+    private static final int TYPE_OFFSET = 32;
+    private static final long NONE = -1;
+    // 사용자별 기록 직렬화용 Lock 수 (2의 거듭제곱)
+    private static final int STRIPES = 64;
+    private static final Function<Long, Head> NEW_HEAD = userId -> new Head();
+
+    /**
+     * 사용자별 마지막 칸 번호와 내역 수 (필드는 사용자의 stripe Lock 안에서만 읽고 씀)
+     */
+    private static final class Head {
+        private long lastSlot = NONE;
+        private int count;
+    }
+
+    private final Path directory;
+    private final int slotsPerSegment;
+    private final Map<Long, Head> heads = new ConcurrentHashMap<>();
+    private final AtomicLong nextSlot = new AtomicLong();
+    private final Lock[] stripes = newStripes(STRIPES);
+
+    // 새 파일 매핑은 한 번에 하나씩, 읽는 쪽은 volatile 배열만 봄
+    private final Lock growLock = new ReentrantLock();
+    private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+
+    public MappedPointHistoryRepository(Path directory, int slotsPerSegment) {
+        if (slotsPerSegment <= 0 || slotsPerSegment > Integer.MAX_VALUE / SLOT_SIZE) {
+            throw new IllegalArgumentException("파일 하나의 칸 수는 1 이상 " + Integer.MAX_VALUE / SLOT_SIZE + " 이하여야 합니다.");
+        }
+        this.directory = directory;
+        this.slotsPerSegment = slotsPerSegment;
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "history-*.dat")) {
+                for (Path file : files) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("거래 내역 디렉터리를 준비할 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 칸 번호는 사용자 단위로 직렬화된 구간에서 할당하므로 같은 사용자의 ID 는 기록 순서대로 증가
+     * - 사용자 단위 직렬화는 사용자 ID 해시로 고른 stripe Lock 으로 하고 Head 는 제자리에서 갱신
+     *   (compute 에 인자를 담은 람다나 새 Head 를 매번 만들지 않음)
+     */
+    @Override
+    public CompletableFuture<Void> insert(long userId, long amount, TransactionType type, long updateMillis) {
+        Lock lock = stripe(userId);
+        lock.lock();
+        try {
+            Head head = heads.computeIfAbsent(userId, NEW_HEAD);
+            long slot = nextSlot.getAndIncrement();
+            MappedByteBuffer segment = segment(slot);
+            int offset = offset(slot);
+            segment.putLong(offset + USER_ID_OFFSET, userId);
+            segment.putLong(offset + AMOUNT_OFFSET, amount);
+            segment.putLong(offset + UPDATE_MILLIS_OFFSET, updateMillis);
+            segment.putLong(offset + PREVIOUS_OFFSET, head.lastSlot);
+            segment.put(offset + TYPE_OFFSET, (byte) type.ordinal());
+            head.lastSlot = slot;
+            head.count++;
+        } finally {
+            lock.unlock();
+        }
+        return AcknowledgedFuture.INSTANCE;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        long[] slots = slotsOldestFirst(userId);
+        List<PointHistory> result = new ArrayList<>(slots.length);
+        for (long slot : slots) {
+            result.add(read(slot));
+        }
+        return result;
+    }
+
+    /**
+     * 마지막 칸부터 연결 목록을 거슬러 올라가며 조회 (시작 시각보다 과거에 닿으면 중단)
+     */
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryCondition condition, int limit) {
+        Head head = heads.get(userId);
+        if (head == null) {
+            return List.of();
+        }
+        long lastSlot;
+        int count;
+        Lock lock = stripe(userId);
+        lock.lock();
+        try {
+            lastSlot = head.lastSlot;
+            count = head.count;
+        } finally {
+            lock.unlock();
+        }
+        List<PointHistory> result = new ArrayList<>(Math.min(limit, count));
+        for (long slot = lastSlot; slot != NONE && result.size() < limit; slot = previous(slot)) {
+            PointHistory pointHistory = read(slot);
+            if (condition.from() != null && pointHistory.updateMillis() < condition.from()) {
+                break;
+            }
+            if (condition.matches(pointHistory)) {
+                result.add(pointHistory);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+        for (long slot : slotsOldestFirst(userId)) {
+            PointHistory pointHistory = read(slot);
+            if (condition.matches(pointHistory)) {
+                action.accept(pointHistory);
+            }
+        }
+    }
+
+    @Override
+    public List<Long> selectUserIds() {
+        return List.copyOf(heads.keySet());
+    }
+
+    /**
+     * 지금까지 기록한 거래 내역 수
+     */
+    public long size() {
+        return nextSlot.get();
+    }
+
+    /**
+     * 매핑한 내용을 파일에 반영 (매핑 해제는 GC 에 맡김)
+     */
+    @Override
+    public void close() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    private long[] slotsOldestFirst(long userId) {
+        Head head = heads.get(userId);
+        if (head == null) {
+            return new long[0];
+        }
+        long lastSlot;
+        long[] slots;
+        Lock lock = stripe(userId);
+        lock.lock();
+        try {
+            lastSlot = head.lastSlot;
+            slots = new long[head.count];
+        } finally {
+            lock.unlock();
+        }
+        int index = slots.length;
+        for (long slot = lastSlot; slot != NONE && index > 0; slot = previous(slot)) {
+            slots[--index] = slot;
+        }
+        return slots;
+    }
+
+    private PointHistory read(long slot) {
+        MappedByteBuffer segment = segments[(int) (slot / slotsPerSegment)];
+        int offset = offset(slot);
+        return new PointHistory(
+                slot + 1,
+                segment.getLong(offset + USER_ID_OFFSET),
+                segment.getLong(offset + AMOUNT_OFFSET),
+                TransactionType.values()[segment.get(offset + TYPE_OFFSET)],
+                segment.getLong(offset + UPDATE_MILLIS_OFFSET));
+    }
+
+    private long previous(long slot) {
+        return segments[(int) (slot / slotsPerSegment)].getLong(offset(slot) + PREVIOUS_OFFSET);
+    }
+
+    private int offset(long slot) {
+        return (int) (slot % slotsPerSegment) * SLOT_SIZE;
+    }
+
+    private MappedByteBuffer segment(long slot) {
+        int index = (int) (slot / slotsPerSegment);
+        MappedByteBuffer[] current = segments;
+        if (index < current.length) {
+            return current[index];
+        }
+        growLock.lock();
+        try {
+            current = segments;
+            while (index >= current.length) {
+                MappedByteBuffer[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[current.length] = map(current.length);
+                segments = grown;
+                current = grown;
+            }
+            return current[index];
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    private Lock stripe(long userId) {
+        return stripes[(int) ((userId * 0x9E3779B97F4A7C15L) >>> 40) & (stripes.length - 1)];
+    }
+
+    private static Lock[] newStripes(int count) {
+        Lock[] locks = new Lock[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private MappedByteBuffer map(int index) {
+        Path file = directory.resolve("history-%05d.dat".formatted(index));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) slotsPerSegment * SLOT_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("거래 내역 파일을 매핑할 수 없습니다: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 거래 내역 저장소 호출 시간을 기록하는 저장소 (point.repository, repository=point_history)
+ * - insert 는 호출이 반환될 때까지의 시간 (비동기 기록 방식이면 대기열 적재까지)
+ */
+public class MeteredPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private final PointHistoryRepository delegate;
+    private final Timer insertTimer;
+    private final Timer selectAllTimer;
+    private final Timer selectPageTimer;
+    private final Timer forEachTimer;
+    private final Timer summarizeTimer;
+
+    public MeteredPointHistoryRepository(PointHistoryRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.insertTimer = timer(registry, "insert");
+        this.selectAllTimer = timer(registry, "select_all");
+        this.selectPageTimer = timer(registry, "select_page");
+        this.forEachTimer = timer(registry, "for_each");
+        this.summarizeTimer = timer(registry, "summarize");
+    }
+
+    @Override
+    public CompletableFuture<Void> insert(long userId, long amount, TransactionType type, long updateMillis) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insert(userId, amount, type, updateMillis);
+        } finally {
+            insertTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectAllByUserId(userId);
+        } finally {
+            selectAllTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryCondition condition, int limit) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectPageByUserId(userId, condition, limit);
+        } finally {
+            selectPageTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+        long start = System.nanoTime();
+        try {
+            delegate.forEachByUserId(userId, condition, action);
+        } finally {
+            forEachTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public PointHistorySummary summarizeByUserId(long userId) {
+        long start = System.nanoTime();
+        try {
+            return delegate.summarizeByUserId(userId);
+        } finally {
+            summarizeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<Long> selectUserIds() {
+        return delegate.selectUserIds();
+    }
+
+    /**
+     * 감싼 거래 내역 저장소 체인(요약, journal, batching writer, 매핑 파일, shard)을 함께 종료
+     */
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation) {
+        return registry.timer("point.repository", "repository", "point_history", "operation", operation);
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 저장소 호출 시간을 기록하는 저장소 (point.repository, repository=user_point)
+ */
+public class MeteredUserPointRepository implements UserPointRepository, AutoCloseable {
+
+    private final UserPointRepository delegate;
+    private final Timer selectTimer;
+    private final Timer insertOrUpdateTimer;
+
+    public MeteredUserPointRepository(UserPointRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.selectTimer = registry.timer("point.repository", "repository", "user_point", "operation", "select");
+        this.insertOrUpdateTimer = registry.timer("point.repository", "repository", "user_point", "operation", "insert_or_update");
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectById(userId);
+        } finally {
+            selectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long point) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insertOrUpdate(userId, point);
+        } finally {
+            insertOrUpdateTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 감싼 잔액 저장소가 write-behind 이거나 캐시(안쪽 write-behind 포함)이면 함께 종료해 밀린 잔액을 기록
+     */
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointFlowBucket;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 전체 사용자의 거래 타입별 충전/사용 금액과 건수를 분 단위, 시간 단위 구간으로 누적하는 ring buffer
+ * - 구간 i 는 칸 (i % 칸 수) 를 재사용하고, 더 새 구간이 들어오면 칸을 비우고 덮어씀
+ *   → 분 단위는 최근 minutes 분, 시간 단위는 최근 hours 시간만 보관 (그보다 오래된 거래는 버림)
+ * - 모든 거래가 같은 칸을 갱신하므로 칸 묶음을 stripes 개 두고 스레드마다 나눠 씀 (stripe 마다 Lock), 조회 시 합산
+ * - 조회는 보관 중인 구간만 읽으므로 거래 내역을 훑지 않음
+ */
+public class PointFlowRollup {
+
+    public enum Resolution {
+        MINUTE(60_000L), HOUR(3_600_000L);
+
+        private final long millis;
+
+        Resolution(long millis) {
+            this.millis = millis;
+        }
+
+        public long millis() {
+            return millis;
+        }
+    }
+
+    private static final int TYPES = TransactionType.values().length;
+
+    private final int minutes;
+    private final int hours;
+    private final Stripe[] stripes;
+
+    public PointFlowRollup(int minutes, int hours, int stripeCount) {
+        this.minutes = minutes;
+        this.hours = hours;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public void add(long amount, TransactionType type, long updateMillis) {
+        Stripe stripe = stripes[(int) (Thread.currentThread().threadId() % stripes.length)];
+        stripe.lock.lock();
+        try {
+            stripe.minute.add(Math.floorDiv(updateMillis, Resolution.MINUTE.millis), type.ordinal(), amount);
+            stripe.hour.add(Math.floorDiv(updateMillis, Resolution.HOUR.millis), type.ordinal(), amount);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * [fromMillis, toMillis) 와 겹치는 구간을 오래된 순서로 반환
+     * - 보관 기간 밖의 구간은 빠지고 거래가 없는 구간은 0, 최대 칸 수만큼
+     */
+    public List<PointFlowBucket> query(Resolution resolution, long fromMillis, long toMillis) {
+        int size = capacity(resolution);
+        long latest = Long.MIN_VALUE;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                latest = Math.max(latest, stripe.ring(resolution).latest);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        if (latest == Long.MIN_VALUE || toMillis <= fromMillis) {
+            return List.of();
+        }
+        // 가장 최근 구간 기준 보관 기간 안쪽만, 칸 수를 넘지 않게 (범위 안에서 같은 칸을 쓰는 구간이 없도록)
+        long from = Math.max(Math.floorDiv(fromMillis, resolution.millis), latest - size + 1);
+        long to = Math.min(Math.floorDiv(toMillis - 1, resolution.millis), from + size - 1);
+        if (from > to) {
+            return List.of();
+        }
+        long[] amounts = new long[size * TYPES];
+        long[] counts = new long[size * TYPES];
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.ring(resolution).sumInto(from, to, amounts, counts);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        List<PointFlowBucket> buckets = new ArrayList<>((int) (to - from + 1));
+        int charge = TransactionType.CHARGE.ordinal();
+        int use = TransactionType.USE.ordinal();
+        for (long key = from; key <= to; key++) {
+            int slot = (int) Math.floorMod(key, size);
+            buckets.add(new PointFlowBucket(key * resolution.millis,
+                    amounts[slot * TYPES + charge], counts[slot * TYPES + charge],
+                    amounts[slot * TYPES + use], counts[slot * TYPES + use]));
+        }
+        return buckets;
+    }
+
+    public int capacity(Resolution resolution) {
+        return resolution == Resolution.MINUTE ? minutes : hours;
+    }
+
+    private final class Stripe {
+
+        private final Lock lock = new ReentrantLock();
+        private final Ring minute = new Ring(minutes);
+        private final Ring hour = new Ring(hours);
+
+        private Ring ring(Resolution resolution) {
+            return resolution == Resolution.MINUTE ? minute : hour;
+        }
+    }
+
+    /**
+     * 구간 번호(epoch 분/시간) → 칸 (칸 마다 구간 번호와 타입별 금액/건수)
+     */
+    private static final class Ring {
+
+        private final long[] keys;
+        private final long[] amounts;
+        private final long[] counts;
+        private long latest = Long.MIN_VALUE;
+
+        private Ring(int size) {
+            this.keys = new long[size];
+            this.amounts = new long[size * TYPES];
+            this.counts = new long[size * TYPES];
+            Arrays.fill(keys, Long.MIN_VALUE);
+        }
+
+        private void add(long key, int type, long amount) {
+            if (latest != Long.MIN_VALUE && key <= latest - keys.length) {
+                return;
+            }
+            latest = Math.max(latest, key);
+            int slot = (int) Math.floorMod(key, keys.length);
+            if (keys[slot] != key) {
+                if (keys[slot] > key) {
+                    // 더 새 구간이 이미 차지한 칸 (보관 기간 밖)
+                    return;
+                }
+                keys[slot] = key;
+                Arrays.fill(amounts, slot * TYPES, slot * TYPES + TYPES, 0L);
+                Arrays.fill(counts, slot * TYPES, slot * TYPES + TYPES, 0L);
+            }
+            amounts[slot * TYPES + type] += amount;
+            counts[slot * TYPES + type]++;
+        }
+
+        private void sumInto(long from, long to, long[] totalAmounts, long[] totalCounts) {
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] >= from && keys[slot] <= to) {
+                    for (int type = 0; type < TYPES; type++) {
+                        totalAmounts[slot * TYPES + type] += amounts[slot * TYPES + type];
+                        totalCounts[slot * TYPES + type] += counts[slot * TYPES + type];
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 사용자의 거래 내역을 한 건씩 더해 가는 누적 합계 (스레드 안전하지 않음, 호출자가 동기화)
+ * - 거래 타입별 금액 합계, 건수, 첫/마지막 거래 시각
+ * - dailyBuckets > 0 이면 가장 최근 거래일부터 dailyBuckets 일까지 일별 합계 (날짜 % dailyBuckets 칸을 재사용)
+ *   - 더 오래된 날의 거래는 타입별 합계에만 반영
+ */
+public class PointHistoryAggregate {
+
+    private static final int TYPES = TransactionType.values().length;
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final ZoneId zone;
+    private final long[] amounts = new long[TYPES];
+    private final long[] counts = new long[TYPES];
+    private final long[] firstMillis = new long[TYPES];
+    private final long[] lastMillis = new long[TYPES];
+
+    // 칸 i 는 bucketDays[i] 일(epoch day)의 합계, 타입별 값은 [i * TYPES + type.ordinal()]
+    private final long[] bucketDays;
+    private final long[] bucketAmounts;
+    private final long[] bucketCounts;
+    private long latestDay = NONE;
+
+    public PointHistoryAggregate(int dailyBuckets, ZoneId zone) {
+        this.zone = zone;
+        this.bucketDays = new long[dailyBuckets];
+        this.bucketAmounts = new long[dailyBuckets * TYPES];
+        this.bucketCounts = new long[dailyBuckets * TYPES];
+        Arrays.fill(firstMillis, NONE);
+        Arrays.fill(lastMillis, NONE);
+        Arrays.fill(bucketDays, NONE);
+    }
+
+    public void add(long amount, TransactionType type, long updateMillis) {
+        int t = type.ordinal();
+        amounts[t] += amount;
+        counts[t]++;
+        if (firstMillis[t] == NONE || updateMillis < firstMillis[t]) {
+            firstMillis[t] = updateMillis;
+        }
+        if (lastMillis[t] == NONE || updateMillis > lastMillis[t]) {
+            lastMillis[t] = updateMillis;
+        }
+        if (bucketDays.length > 0) {
+            addDaily(amount, t, updateMillis);
+        }
+    }
+
+    public PointHistorySummary toSummary(long userId) {
+        return new PointHistorySummary(userId, totals(TransactionType.CHARGE), totals(TransactionType.USE), daily());
+    }
+
+    private void addDaily(long amount, int t, long updateMillis) {
+        long day = epochDay(updateMillis);
+        if (latestDay != NONE && day <= latestDay - bucketDays.length) {
+            return;
+        }
+        latestDay = latestDay == NONE ? day : Math.max(latestDay, day);
+        int bucket = (int) Math.floorMod(day, bucketDays.length);
+        if (bucketDays[bucket] != day) {
+            bucketDays[bucket] = day;
+            for (int i = 0; i < TYPES; i++) {
+                bucketAmounts[bucket * TYPES + i] = 0;
+                bucketCounts[bucket * TYPES + i] = 0;
+            }
+        }
+        bucketAmounts[bucket * TYPES + t] += amount;
+        bucketCounts[bucket * TYPES + t]++;
+    }
+
+    private PointHistorySummary.Totals totals(TransactionType type) {
+        int t = type.ordinal();
+        return new PointHistorySummary.Totals(amounts[t], counts[t],
+                firstMillis[t] == NONE ? null : firstMillis[t],
+                lastMillis[t] == NONE ? null : lastMillis[t]);
+    }
+
+    private List<PointHistorySummary.Daily> daily() {
+        List<PointHistorySummary.Daily> daily = new ArrayList<>();
+        if (latestDay == NONE) {
+            return daily;
+        }
+        int charge = TransactionType.CHARGE.ordinal();
+        int use = TransactionType.USE.ordinal();
+        for (long day = latestDay; day > latestDay - bucketDays.length; day--) {
+            int bucket = (int) Math.floorMod(day, bucketDays.length);
+            if (bucketDays[bucket] == day) {
+                daily.add(new PointHistorySummary.Daily(LocalDate.ofEpochDay(day),
+                        bucketAmounts[bucket * TYPES + charge], bucketCounts[bucket * TYPES + charge],
+                        bucketAmounts[bucket * TYPES + use], bucketCounts[bucket * TYPES + use]));
+            }
+        }
+        return daily;
+    }
+
+    private long epochDay(long updateMillis) {
+        long offsetMillis = zone.getRules().getOffset(Instant.ofEpochMilli(updateMillis)).getTotalSeconds() * 1000L;
+        return Math.floorDiv(updateMillis + offsetMillis, 86_400_000L);
+    }
+}
@@ -0,0 +1,172 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.entity.PointHistory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * 사용자 ID 별 거래 내역 인덱스
+ * - 사용자마다 고정 크기 세그먼트를 이어 붙여 기록 순서(시간순)대로 보관 (append-only)
+ * - 조회는 해당 사용자의 내역 수(k)에 비례하고, 전체 내역을 훑거나 다시 정렬하지 않음
+ */
+public class PointHistoryIndex {
+
+    static final int SEGMENT_SIZE = 32;
+
+    private final Map<Long, UserHistory> index = new ConcurrentHashMap<>();
+
+    /**
+     * 거래 내역 추가 (같은 사용자의 내역은 시간순으로 추가되어야 함)
+     */
+    public void add(PointHistory pointHistory) {
+        index.computeIfAbsent(pointHistory.userId(), userId -> new UserHistory()).append(pointHistory);
+    }
+
+    /**
+     * 사용자의 거래 내역 조회 (기록된 순서)
+     */
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistory userHistory = index.get(userId);
+        return userHistory == null ? List.of() : userHistory.snapshot();
+    }
+
+    /**
+     * 조건에 맞는 사용자의 거래 내역을 최신순으로 최대 limit 건 조회
+     * - 커서(ID)와 종료 시각은 이진 탐색으로 시작 위치를 찾고, 시작 시각보다 과거에 닿으면 중단
+     */
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryCondition condition, int limit) {
+        UserHistory userHistory = index.get(userId);
+        return userHistory == null ? List.of() : userHistory.page(condition, limit);
+    }
+
+    /**
+     * 조건에 맞는 사용자의 거래 내역을 기록된 순서대로 하나씩 전달
+     */
+    public void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+        UserHistory userHistory = index.get(userId);
+        if (userHistory != null) {
+            userHistory.forEach(condition, action);
+        }
+    }
+
+    /**
+     * 거래 내역이 있는 사용자 ID 목록
+     */
+    public List<Long> selectUserIds() {
+        return List.copyOf(index.keySet());
+    }
+
+    /**
+     * 사용자의 거래 내역 수
+     */
+    public int countByUserId(long userId) {
+        UserHistory userHistory = index.get(userId);
+        return userHistory == null ? 0 : userHistory.size;
+    }
+
+    /**
+     * 한 사용자의 거래 내역 세그먼트 목록
+     * - 쓰기는 사용자 단위로 직렬화, 읽기는 volatile size 까지만 읽으므로 락 없이 동작
+     * - 쓰기 직렬화는 synchronized 대신 ReentrantLock 사용 (가상 스레드가 기다리는 동안 carrier 를 고정하지 않음)
+     */
+    static final class UserHistory {
+
+        private final Lock appendLock = new ReentrantLock();
+        private PointHistory[][] segments = new PointHistory[1][];
+        private volatile int size;
+
+        void append(PointHistory pointHistory) {
+            appendLock.lock();
+            try {
+                int position = size;
+                int segment = position / SEGMENT_SIZE;
+                if (segment == segments.length) {
+                    segments = Arrays.copyOf(segments, segments.length * 2);
+                }
+                if (segments[segment] == null) {
+                    segments[segment] = new PointHistory[SEGMENT_SIZE];
+                }
+                segments[segment][position % SEGMENT_SIZE] = pointHistory;
+                // size 를 마지막에 갱신해야 읽는 쪽이 채워진 칸만 봄
+                size = position + 1;
+            } finally {
+                appendLock.unlock();
+            }
+        }
+
+        List<PointHistory> snapshot() {
+            int count = size;
+            PointHistory[][] current = segments;
+            List<PointHistory> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(current[i / SEGMENT_SIZE][i % SEGMENT_SIZE]);
+            }
+            return result;
+        }
+
+        List<PointHistory> page(PointHistoryCondition condition, int limit) {
+            int count = size;
+            PointHistory[][] current = segments;
+            int end = count;
+            if (condition.cursor() != null) {
+                end = lowerBound(current, end, PointHistory::id, condition.cursor());
+            }
+            if (condition.to() != null) {
+                end = lowerBound(current, end, PointHistory::updateMillis, condition.to());
+            }
+            List<PointHistory> result = new ArrayList<>(Math.min(limit, end));
+            for (int i = end - 1; i >= 0 && result.size() < limit; i--) {
+                PointHistory pointHistory = current[i / SEGMENT_SIZE][i % SEGMENT_SIZE];
+                if (condition.from() != null && pointHistory.updateMillis() < condition.from()) {
+                    break;
+                }
+                if (condition.type() == null || pointHistory.type() == condition.type()) {
+                    result.add(pointHistory);
+                }
+            }
+            return result;
+        }
+
+        void forEach(PointHistoryCondition condition, Consumer<PointHistory> action) {
+            int count = size;
+            PointHistory[][] current = segments;
+            int start = condition.from() == null ? 0 : lowerBound(current, count, PointHistory::updateMillis, condition.from());
+            int end = condition.to() == null ? count : lowerBound(current, count, PointHistory::updateMillis, condition.to());
+            if (condition.cursor() != null) {
+                end = Math.min(end, lowerBound(current, count, PointHistory::id, condition.cursor()));
+            }
+            for (int i = start; i < end; i++) {
+                PointHistory pointHistory = current[i / SEGMENT_SIZE][i % SEGMENT_SIZE];
+                if (condition.type() == null || pointHistory.type() == condition.type()) {
+                    action.accept(pointHistory);
+                }
+            }
+        }
+
+        /**
+         * [0, end) 구간에서 key 가 value 이상인 첫 위치 (ID 와 시각은 기록 순서대로 증가)
+         */
+        private static int lowerBound(PointHistory[][] current, int end, ToLongFunction<PointHistory> key, long value) {
+            int low = 0;
+            int high = end;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (key.applyAsLong(current[mid / SEGMENT_SIZE][mid % SEGMENT_SIZE]) < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 거래 내역 저장소
+ * - 서비스는 PointHistoryTable 대신 이 인터페이스를 통해 거래 내역을 읽고 씁니다.
+ */
+public interface PointHistoryRepository {
+
+    /**
+     * 거래 내역 추가
+     * @return 기록이 확인(ack)되면 완료되는 future
+     */
+    CompletableFuture<Void> insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * 사용자의 거래 내역 조회 (기록된 순서)
+     */
+    List<PointHistory> selectAllByUserId(long userId);
+
+    /**
+     * 조건에 맞는 사용자의 거래 내역을 최신순으로 최대 limit 건 조회
+     * - 기본 구현은 전체 내역을 뒤에서부터 훑으므로, 더 빠른 방법이 있는 저장소는 재정의
+     */
+    default List<PointHistory> selectPageByUserId(long userId, PointHistoryCondition condition, int limit) {
+        List<PointHistory> histories = selectAllByUserId(userId);
+        List<PointHistory> page = new ArrayList<>(Math.min(limit, histories.size()));
+        for (int i = histories.size() - 1; i >= 0 && page.size() < limit; i--) {
+            PointHistory pointHistory = histories.get(i);
+            if (condition.matches(pointHistory)) {
+                page.add(pointHistory);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 조건에 맞는 사용자의 거래 내역을 기록된 순서대로 하나씩 전달 (목록을 새로 만들지 않음)
+     */
+    default void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+        for (PointHistory pointHistory : selectAllByUserId(userId)) {
+            if (condition.matches(pointHistory)) {
+                action.accept(pointHistory);
+            }
+        }
+    }
+
+    /**
+     * 사용자의 거래 타입별 합계
+     * - 기본 구현은 전체 내역을 훑어 합산하고 일별 합계는 만들지 않으므로, 누적 합계를 유지하는 저장소는 재정의
+     */
+    default PointHistorySummary summarizeByUserId(long userId) {
+        PointHistoryAggregate aggregate = new PointHistoryAggregate(0, ZoneOffset.UTC);
+        forEachByUserId(userId, PointHistoryCondition.none(),
+                pointHistory -> aggregate.add(pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis()));
+        return aggregate.toSummary(userId);
+    }
+
+    /**
+     * 거래 내역이 있는 사용자 ID 목록
+     */
+    List<Long> selectUserIds();
+}
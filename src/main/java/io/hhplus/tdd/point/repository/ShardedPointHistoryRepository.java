@@ -0,0 +1,113 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * 사용자 ID 해시로 나눈 shard 마다 별도 저장소(segment)에 거래 내역을 기록하는 저장소
+ * - 한 사용자의 내역은 항상 같은 shard 에만 있으므로 조회/기록이 다른 shard 와 경합하지 않음
+ * - ID 는 shard 안의 ID 를 (localId - 1) * shardCount + shard + 1 로 바꿔 전체에서 겹치지 않게 함
+ *   → 같은 사용자의 ID 는 기록 순서대로 증가하므로 cursor 조회가 그대로 동작
+ */
+public class ShardedPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private final PointHistoryRepository[] shards;
+
+    public ShardedPointHistoryRepository(int shardCount, IntFunction<PointHistoryRepository> shardFactory) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shard 수는 1 이상이어야 합니다.");
+        }
+        this.shards = new PointHistoryRepository[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = shardFactory.apply(i);
+        }
+    }
+
+    /**
+     * 사용자가 속한 shard 번호 (엔진도 같은 함수로 나눠야 shard 마다 자기 segment 에만 기록)
+     */
+    public static int shardIndex(long userId, int shardCount) {
+        int hash = Long.hashCode(userId);
+        return Math.floorMod(hash ^ (hash >>> 16), shardCount);
+    }
+
+    @Override
+    public CompletableFuture<Void> insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return shard(userId).insert(userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return toGlobal(userId, shard(userId).selectAllByUserId(userId));
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryCondition condition, int limit) {
+        return toGlobal(userId, shard(userId).selectPageByUserId(userId, toLocal(userId, condition), limit));
+    }
+
+    @Override
+    public void forEachByUserId(long userId, PointHistoryCondition condition, Consumer<PointHistory> action) {
+        int shard = shardIndex(userId, shards.length);
+        shards[shard].forEachByUserId(userId, toLocal(userId, condition), pointHistory -> action.accept(toGlobal(shard, pointHistory)));
+    }
+
+    @Override
+    public List<Long> selectUserIds() {
+        List<Long> userIds = new ArrayList<>();
+        for (PointHistoryRepository shard : shards) {
+            userIds.addAll(shard.selectUserIds());
+        }
+        return userIds;
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (PointHistoryRepository shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private PointHistoryRepository shard(long userId) {
+        return shards[shardIndex(userId, shards.length)];
+    }
+
+    /**
+     * 전체 ID 기준 cursor 를 shard 안의 ID 기준으로 변환 (global < cursor ⇔ local < ceil((cursor - shard - 1) / n) + 1)
+     */
+    private PointHistoryCondition toLocal(long userId, PointHistoryCondition condition) {
+        if (condition.cursor() == null) {
+            return condition;
+        }
+        int shard = shardIndex(userId, shards.length);
+        long localCursor = Math.ceilDiv(condition.cursor() - shard - 1, shards.length) + 1;
+        return new PointHistoryCondition(localCursor, condition.from(), condition.to(), condition.type());
+    }
+
+    private List<PointHistory> toGlobal(long userId, List<PointHistory> histories) {
+        int shard = shardIndex(userId, shards.length);
+        List<PointHistory> result = new ArrayList<>(histories.size());
+        for (PointHistory pointHistory : histories) {
+            result.add(toGlobal(shard, pointHistory));
+        }
+        return result;
+    }
+
+    private PointHistory toGlobal(int shard, PointHistory pointHistory) {
+        long id = (pointHistory.id() - 1) * shards.length + shard + 1;
+        return new PointHistory(id, pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+    }
+}
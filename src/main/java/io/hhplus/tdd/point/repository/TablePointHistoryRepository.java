@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PointHistoryTable 을 그대로 사용하는 기본 거래 내역 저장소
+ * - insert 는 테이블에 기록된 뒤 반환
+ * - 테이블에는 사용자 목록 조회가 없으므로 이 저장소를 거쳐 기록된 사용자 ID 를 따로 보관
+ */
+public class TablePointHistoryRepository implements PointHistoryRepository {
+
+    private final PointHistoryTable pointHistoryTable;
+    private final Set<Long> userIds = ConcurrentHashMap.newKeySet();
+
+    public TablePointHistoryRepository(PointHistoryTable pointHistoryTable) {
+        this.pointHistoryTable = pointHistoryTable;
+    }
+
+    @Override
+    public CompletableFuture<Void> insert(long userId, long amount, TransactionType type, long updateMillis) {
+        pointHistoryTable.insert(userId, amount, type, updateMillis);
+        userIds.add(userId);
+        return AcknowledgedFuture.INSTANCE;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return pointHistoryTable.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<Long> selectUserIds() {
+        return List.copyOf(userIds);
+    }
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * UserPointTable 을 그대로 사용하는 기본 잔액 저장소
+ */
+public class TableUserPointRepository implements UserPointRepository {
+
+    private final UserPointTable userPointTable;
+
+    public TableUserPointRepository(UserPointTable userPointTable) {
+        this.userPointTable = userPointTable;
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        return userPointTable.selectById(userId);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long point) {
+        return userPointTable.insertOrUpdate(userId, point);
+    }
+}
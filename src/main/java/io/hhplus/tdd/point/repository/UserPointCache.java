@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기와 TTL 로 제한되는 사용자 잔액 캐시
+ * - 사용자 ID 해시로 나눈 segment 마다 LRU(LinkedHashMap access order) + ReentrantLock (BoundedSegmentedMap)
+ * - segment 가 maxSize / segment 수를 넘으면 가장 오래 안 쓴 항목을 제거, ttl 이 지난 항목은 조회 시 제거
+ * - 읽기로 채우기(populate)는 조회를 시작한 뒤 같은 segment 에 쓰기가 없었을 때만 반영
+ *   → 느린 저장소 조회가 그 사이 커밋된 잔액을 옛 값으로 덮어쓰지 않음
+ * - 지표: point.cache.requests (result=hit|miss), point.cache.evictions (cause=size|expired), point.cache.size
+ */
+public class UserPointCache implements MeterBinder {
+
+    /**
+     * 누적 통계
+     */
+    public record Stats(long hits, long misses, long evictions, long expirations, int size) {
+    }
+
+    private record Entry(UserPoint userPoint, long expiresAt) {
+    }
+
+    private final BoundedSegmentedMap<Long, Entry> entries;
+    private final long ttlNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public UserPointCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, 16);
+    }
+
+    public UserPointCache(int maxSize, Duration ttl, int segmentCount) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new BoundedSegmentedMap<>(maxSize, segmentCount, true);
+    }
+
+    /**
+     * 캐시된 잔액 조회
+     * @return 없거나 ttl 이 지났으면 null
+     */
+    public UserPoint get(long userId) {
+        BoundedSegmentedMap.Segment<Long, Entry> segment = entries.segment(userId);
+        segment.lock();
+        try {
+            Entry entry = segment.get(userId);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAt() - System.nanoTime() <= 0) {
+                segment.expire(userId);
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.userPoint();
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * 저장소 조회 직전에 받아 두는 쓰기 표시 (populate 에 그대로 전달)
+     */
+    public long writeStamp(long userId) {
+        BoundedSegmentedMap.Segment<Long, Entry> segment = entries.segment(userId);
+        segment.lock();
+        try {
+            return segment.writeStamp();
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * 저장소에서 읽은 잔액을 캐시에 채움 (writeStamp 이후 같은 segment 에 쓰기가 있었으면 버림)
+     */
+    public void populate(UserPoint userPoint, long writeStamp) {
+        BoundedSegmentedMap.Segment<Long, Entry> segment = entries.segment(userPoint.id());
+        segment.lock();
+        try {
+            if (segment.writeStamp() == writeStamp && !segment.containsKey(userPoint.id())) {
+                segment.put(userPoint.id(), new Entry(userPoint, System.nanoTime() + ttlNanos));
+            }
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * 커밋된 잔액으로 갱신 (잔액 저장과 같은 임계 구역에서 호출)
+     */
+    public void put(UserPoint userPoint) {
+        BoundedSegmentedMap.Segment<Long, Entry> segment = entries.segment(userPoint.id());
+        segment.lock();
+        try {
+            segment.markWritten();
+            segment.put(userPoint.id(), new Entry(userPoint, System.nanoTime() + ttlNanos));
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * 캐시에서 제거 (진행 중인 populate 도 무효가 됨)
+     */
+    public void invalidate(long userId) {
+        BoundedSegmentedMap.Segment<Long, Entry> segment = entries.segment(userId);
+        segment.lock();
+        try {
+            segment.markWritten();
+            segment.remove(userId);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), entries.evictions(), entries.expirations(), entries.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("point.cache.requests", hits, LongAdder::sum).tags("result", "hit").register(registry);
+        FunctionCounter.builder("point.cache.requests", misses, LongAdder::sum).tags("result", "miss").register(registry);
+        entries.bindTo(registry, "point.cache");
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 사용자 포인트 잔액 저장소
+ * - 서비스는 UserPointTable 대신 이 인터페이스를 통해 잔액을 읽고 씁니다.
+ */
+public interface UserPointRepository {
+
+    /**
+     * 사용자 포인트 조회 (없으면 0 포인트)
+     */
+    UserPoint selectById(long userId);
+
+    /**
+     * 사용자 포인트 저장
+     */
+    UserPoint insertOrUpdate(long userId, long point);
+}
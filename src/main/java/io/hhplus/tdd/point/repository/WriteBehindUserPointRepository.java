@@ -0,0 +1,143 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리에서 잔액을 읽고 쓰고, UserPointTable 에는 비동기로 반영하는 write-behind 저장소
+ * - 조회/저장은 메모리(cache)에서 처리
+ * - 변경된 사용자는 dirty 에 최신 값만 남겨 두었다가 flushInterval 마다 한 번씩 테이블에 기록 (coalescing)
+ * - dirty 가 maxDirtyEntries 에 도달하면 주기를 기다리지 않고 즉시 flush
+ * - close 시 남은 변경분을 모두 테이블에 기록
+ */
+public class WriteBehindUserPointRepository implements UserPointRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindUserPointRepository.class);
+
+    private final UserPointTable userPointTable;
+    private final int maxDirtyEntries;
+
+    private final Map<Long, UserPoint> cache = new ConcurrentHashMap<>();
+    private final Map<Long, UserPoint> dirty = new ConcurrentHashMap<>();
+
+    // UserPointTable 내부는 HashMap 이므로 테이블 접근은 한 번에 하나씩
+    private final Lock tableLock = new ReentrantLock();
+    // 같은 사용자의 이전 값이 나중에 기록되지 않도록 flush 는 한 번에 하나씩
+    private final Lock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flusher;
+    private volatile boolean closed;
+
+    public WriteBehindUserPointRepository(UserPointTable userPointTable, Duration flushInterval, int maxDirtyEntries) {
+        this.userPointTable = userPointTable;
+        this.maxDirtyEntries = maxDirtyEntries;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-point-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        UserPoint cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        UserPoint loaded = readTable(userId);
+        UserPoint raced = cache.putIfAbsent(userId, loaded);
+        return raced != null ? raced : loaded;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long point) {
+        if (closed) {
+            throw new IllegalStateException("종료된 저장소에는 쓸 수 없습니다.");
+        }
+        UserPoint userPoint = new UserPoint(userId, point, System.currentTimeMillis());
+        cache.put(userId, userPoint);
+        dirty.put(userId, userPoint);
+        if (dirty.size() >= maxDirtyEntries && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException ignored) {
+                // 종료 중이면 close 의 마지막 flush 가 처리
+            }
+        }
+        return userPoint;
+    }
+
+    /**
+     * 아직 테이블에 반영되지 않은 사용자 수
+     */
+    public int pendingCount() {
+        return dirty.size();
+    }
+
+    /**
+     * dirty 에 쌓인 사용자별 최신 잔액을 테이블에 기록
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            for (Long userId : dirty.keySet()) {
+                UserPoint pending = dirty.remove(userId);
+                if (pending == null) {
+                    continue;
+                }
+                try {
+                    writeTable(pending);
+                } catch (RuntimeException e) {
+                    // 다음 flush 에서 다시 시도 (그 사이 더 최신 값이 들어왔다면 그것을 우선)
+                    dirty.putIfAbsent(userId, pending);
+                    log.warn("잔액 flush 실패: userId={}", userId, e);
+                    return;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    private UserPoint readTable(long userId) {
+        tableLock.lock();
+        try {
+            return userPointTable.selectById(userId);
+        } finally {
+            tableLock.unlock();
+        }
+    }
+
+    private void writeTable(UserPoint userPoint) {
+        tableLock.lock();
+        try {
+            userPointTable.insertOrUpdate(userPoint.id(), userPoint.point());
+        } finally {
+            tableLock.unlock();
+        }
+    }
+}
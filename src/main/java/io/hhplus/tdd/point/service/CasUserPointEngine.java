@@ -0,0 +1,255 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.entity.BalanceCheck;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lock 없이 compare-and-set 으로 잔액을 바꾸는 엔진
+ * - 사용자별 상태(잔액 + 아직 기록하지 않은 거래 내역)를 AtomicReference 하나로 두고 CAS 가 실패하면 다시 계산
+ * - 최소/최대 잔액 검증은 UserPoint.check 로 CAS 전에 수행
+ * - 거래 내역은 CAS 로 상태에 함께 붙이므로 같은 사용자의 내역 순서는 잔액 변경 순서와 같음
+ * - 잔액과 거래 내역은 flushInterval 마다 저장소에 반영 (사용자별 마지막 잔액 한 번 + 밀린 내역)
+ * - 저장소에 반영된 뒤 다음 flush 까지 바뀌지 않은 사용자는 메모리에서 뺌 (다음 요청 때 저장소에서 다시 읽음)
+ *   - 빼기 전에 상태를 EVICTED 로 CAS 하므로 그 사이 들어온 변경은 사라지지 않고,
+ *     EVICTED 를 본 요청은 map 에서 다시 읽어 옴
+ * - close 시 남은 변경분을 모두 저장소에 기록
+ */
+public class CasUserPointEngine implements UserPointEngine, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CasUserPointEngine.class);
+
+    private record Account(UserPoint userPoint, PendingHistory pending) {
+    }
+
+    /**
+     * 아직 저장소에 기록하지 않은 거래 내역 (previous 쪽이 과거)
+     */
+    private record PendingHistory(long amount, TransactionType type, long updateMillis, PendingHistory previous) {
+    }
+
+    // map 에서 빠지는 중인 사용자의 상태 (이 상태에는 CAS 하지 않고 다시 읽음)
+    private static final Account EVICTED = new Account(null, null);
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    private final Map<Long, AtomicReference<Account>> accounts = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    // 저장소에서 새로 읽어 온 사용자 (바뀌지 않아도 뺄 후보가 되도록)
+    private final Set<Long> loaded = ConcurrentHashMap.newKeySet();
+    // 직전 flush 시점의 상태가 저장소와 같은 사용자 (다음 flush 까지 그대로면 뺌, flushLock 안에서만 사용)
+    private final Map<Long, Account> idle = new HashMap<>();
+
+    // 같은 사용자의 내역이 두 번에 나뉘어 뒤섞이지 않도록 flush 는 한 번에 하나씩
+    private final Lock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService flusher;
+    private volatile boolean closed;
+
+    public CasUserPointEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository, Duration flushInterval) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-point-cas-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public UserPoint getUserPoint(long userId) {
+        AtomicReference<Account> account = accounts.get(userId);
+        Account current = account == null ? EVICTED : account.get();
+        // 빠진 사용자는 저장소에 최신 잔액이 있음
+        return current == EVICTED ? userPointRepository.selectById(userId) : current.userPoint();
+    }
+
+    @Override
+    public UserPoint charge(long userId, long amount) {
+        return apply(userId, amount, TransactionType.CHARGE);
+    }
+
+    @Override
+    public UserPoint use(long userId, long amount) {
+        return apply(userId, amount, TransactionType.USE);
+    }
+
+    /**
+     * 아직 저장소에 반영되지 않은 사용자 수
+     */
+    public int pendingCount() {
+        return dirty.size();
+    }
+
+    /**
+     * 메모리에 들고 있는 사용자 수
+     */
+    public int accountCount() {
+        return accounts.size();
+    }
+
+    /**
+     * 변경된 사용자별 최신 잔액과 밀린 거래 내역을 저장소에 기록하고, 직전 flush 이후 바뀌지 않은 사용자는 메모리에서 뺌
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            evictIdle();
+            for (Long userId : dirty) {
+                dirty.remove(userId);
+                AtomicReference<Account> account = accounts.get(userId);
+                Account drained;
+                Account cleared;
+                do {
+                    drained = account.get();
+                    cleared = new Account(drained.userPoint(), null);
+                } while (!account.compareAndSet(drained, cleared));
+                if (!write(userId, account, drained)) {
+                    return;
+                }
+                idle.put(userId, cleared);
+            }
+            for (Long userId : loaded) {
+                loaded.remove(userId);
+                AtomicReference<Account> account = accounts.get(userId);
+                Account current = account == null ? EVICTED : account.get();
+                if (current != EVICTED && current.pending() == null) {
+                    idle.putIfAbsent(userId, current);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    private UserPoint apply(long userId, long amount, TransactionType type) {
+        if (closed) {
+            throw new IllegalStateException("종료된 엔진에서는 포인트를 변경할 수 없습니다.");
+        }
+        AtomicReference<Account> account = account(userId);
+        while (true) {
+            Account current = account.get();
+            if (current == EVICTED) {
+                accounts.remove(userId, account);
+                account = account(userId);
+                continue;
+            }
+            UserPoint currentUserPoint = current.userPoint();
+            BalanceCheck check = currentUserPoint.check(type, amount);
+            if (!check.isOk()) {
+                throw check.exception(currentUserPoint.point(), amount);
+            }
+            long newBalance = type == TransactionType.CHARGE ? currentUserPoint.point() + amount : currentUserPoint.point() - amount;
+            // 같은 사용자의 변경 시각이 뒤로 가지 않아야 거래 내역이 시간순으로 쌓임
+            long updateMillis = Math.max(System.currentTimeMillis(), currentUserPoint.updateMillis());
+            UserPoint updatedUserPoint = new UserPoint(userId, newBalance, updateMillis);
+            PendingHistory pending = new PendingHistory(amount, type, updateMillis, current.pending());
+            if (account.compareAndSet(current, new Account(updatedUserPoint, pending))) {
+                dirty.add(userId);
+                return updatedUserPoint;
+            }
+        }
+    }
+
+    private AtomicReference<Account> account(long userId) {
+        AtomicReference<Account> account = accounts.get(userId);
+        if (account != null) {
+            return account;
+        }
+        // 저장소 조회는 map 밖에서 (같은 사용자를 동시에 처음 읽으면 먼저 넣은 쪽을 사용)
+        AtomicReference<Account> loaded = new AtomicReference<>(new Account(userPointRepository.selectById(userId), null));
+        AtomicReference<Account> raced = accounts.putIfAbsent(userId, loaded);
+        if (raced != null) {
+            return raced;
+        }
+        this.loaded.add(userId);
+        return loaded;
+    }
+
+    /**
+     * 직전 flush 때 저장소와 같았던 상태가 지금도 그대로인 사용자를 map 에서 뺌
+     */
+    private void evictIdle() {
+        for (Map.Entry<Long, Account> entry : idle.entrySet()) {
+            AtomicReference<Account> account = accounts.get(entry.getKey());
+            if (account != null && account.compareAndSet(entry.getValue(), EVICTED)) {
+                accounts.remove(entry.getKey(), account);
+            }
+        }
+        idle.clear();
+    }
+
+    private boolean write(long userId, AtomicReference<Account> account, Account drained) {
+        List<PendingHistory> histories = oldestFirst(drained.pending());
+        int written = 0;
+        try {
+            userPointRepository.insertOrUpdate(userId, drained.userPoint().point());
+            for (PendingHistory history : histories) {
+                pointHistoryRepository.insert(userId, history.amount(), history.type(), history.updateMillis()).join();
+                written++;
+            }
+            return true;
+        } catch (RuntimeException e) {
+            // 기록하지 못한 내역은 그 사이 쌓인 내역 앞에 다시 붙여 다음 flush 에서 재시도
+            PendingHistory remaining = null;
+            for (PendingHistory history : histories.subList(written, histories.size())) {
+                remaining = new PendingHistory(history.amount(), history.type(), history.updateMillis(), remaining);
+            }
+            PendingHistory unwritten = remaining;
+            account.updateAndGet(current -> new Account(current.userPoint(), append(current.pending(), unwritten)));
+            dirty.add(userId);
+            log.warn("잔액/거래 내역 flush 실패: userId={}", userId, e);
+            return false;
+        }
+    }
+
+    private static List<PendingHistory> oldestFirst(PendingHistory latest) {
+        List<PendingHistory> histories = new ArrayList<>();
+        for (PendingHistory history = latest; history != null; history = history.previous()) {
+            histories.add(history);
+        }
+        Collections.reverse(histories);
+        return histories;
+    }
+
+    /**
+     * newer 목록의 가장 과거 쪽 끝에 older 목록을 이어 붙인 새 목록
+     */
+    private static PendingHistory append(PendingHistory newer, PendingHistory older) {
+        List<PendingHistory> histories = oldestFirst(newer);
+        PendingHistory result = older;
+        for (PendingHistory history : histories) {
+            result = new PendingHistory(history.amount(), history.type(), history.updateMillis(), result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,147 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.entity.BalanceCheck;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 사용자별 Lock 으로 조회-검증-반영-내역 기록을 한 번에 처리하는 엔진
+ * - 잔액 검증은 BalanceCheck 결과로 먼저 확인하고 거절일 때만 예외를 만듦 (저장소에 쓰기 전에 거절)
+ */
+public class LockingUserPointEngine implements UserPointEngine {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserPointLockProvider lockProvider;
+    private final PointMetrics pointMetrics;
+
+    public LockingUserPointEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository, UserPointLockProvider lockProvider) {
+        this(userPointRepository, pointHistoryRepository, lockProvider, PointMetrics.noop());
+    }
+
+    public LockingUserPointEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository, UserPointLockProvider lockProvider, PointMetrics pointMetrics) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.lockProvider = lockProvider;
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public UserPoint getUserPoint(long userId) {
+        return userPointRepository.selectById(userId);
+    }
+
+    @Override
+    public UserPoint charge(long userId, long amount) {
+        UserPoint updatedUserPoint;
+        CompletableFuture<Void> historyWritten;
+        long requested = System.nanoTime();
+        lockProvider.lock(userId);
+        long acquired = System.nanoTime();
+        try {
+            // 임계 구역: 동일 userId에 대해선 동시 접근 불가
+            UserPoint currentUserPoint = userPointRepository.selectById(userId);
+            BalanceCheck check = currentUserPoint.check(TransactionType.CHARGE, amount);
+            if (!check.isOk()) {
+                throw check.exception(currentUserPoint.point(), amount);
+            }
+            updatedUserPoint = userPointRepository.insertOrUpdate(userId, currentUserPoint.point() + amount);
+            historyWritten = pointHistoryRepository.insert(userId, amount, TransactionType.CHARGE, updatedUserPoint.updateMillis());
+        } finally {
+            lockProvider.unlock(userId);
+            pointMetrics.recordLock(PointMetrics.LockOperation.CHARGE, acquired - requested, System.nanoTime() - acquired);
+        }
+        // 거래 내역 기록 확인은 락을 놓은 뒤 대기
+        historyWritten.join();
+        return updatedUserPoint;
+    }
+
+    @Override
+    public UserPoint use(long userId, long amount) {
+        UserPoint updatedUserPoint;
+        CompletableFuture<Void> historyWritten;
+        long requested = System.nanoTime();
+        lockProvider.lock(userId);
+        long acquired = System.nanoTime();
+        try {
+            UserPoint currentUserPoint = userPointRepository.selectById(userId);
+            BalanceCheck check = currentUserPoint.check(TransactionType.USE, amount);
+            if (!check.isOk()) {
+                throw check.exception(currentUserPoint.point(), amount);
+            }
+            updatedUserPoint = userPointRepository.insertOrUpdate(userId, currentUserPoint.point() - amount);
+            historyWritten = pointHistoryRepository.insert(userId, amount, TransactionType.USE, updatedUserPoint.updateMillis());
+        } finally {
+            lockProvider.unlock(userId);
+            pointMetrics.recordLock(PointMetrics.LockOperation.USE, acquired - requested, System.nanoTime() - acquired);
+        }
+        historyWritten.join();
+        return updatedUserPoint;
+    }
+
+    /**
+     * 사용자별로 묶어 사용자마다 잔액 조회/저장 한 번으로 처리
+     * - 사용자 ID 오름차순으로 한 번에 한 사용자의 Lock 만 잡으므로 Lock 순서가 항상 같고 교착이 생기지 않음
+     * - 같은 사용자의 요청은 들어온 순서대로 반영
+     */
+    @Override
+    public List<PointOperationResult> applyAll(List<PointOperation> operations) {
+        Map<Long, List<Integer>> indexesByUser = new TreeMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            indexesByUser.computeIfAbsent(operations.get(i).userId(), userId -> new ArrayList<>()).add(i);
+        }
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        List<CompletableFuture<Void>> historiesWritten = new ArrayList<>(operations.size());
+        indexesByUser.forEach((userId, indexes) -> applyUser(userId, operations, indexes, results, historiesWritten));
+        // 거래 내역 기록 확인은 모든 락을 놓은 뒤 대기
+        CompletableFuture.allOf(historiesWritten.toArray(CompletableFuture[]::new)).join();
+        return Arrays.asList(results);
+    }
+
+    private void applyUser(long userId, List<PointOperation> operations, List<Integer> indexes,
+                           PointOperationResult[] results, List<CompletableFuture<Void>> historiesWritten) {
+        List<Integer> applied = new ArrayList<>(indexes.size());
+        List<UserPoint> balances = new ArrayList<>(indexes.size());
+        long requested = System.nanoTime();
+        lockProvider.lock(userId);
+        long acquired = System.nanoTime();
+        try {
+            UserPoint userPoint = userPointRepository.selectById(userId);
+            for (int index : indexes) {
+                PointOperation operation = operations.get(index);
+                BalanceCheck check = userPoint.check(operation.type(), operation.amount());
+                if (!check.isOk()) {
+                    results[index] = PointOperationResult.failure(operation, check.message(userPoint.point(), operation.amount()));
+                    continue;
+                }
+                userPoint = userPoint.apply(operation.type(), operation.amount());
+                applied.add(index);
+                balances.add(userPoint);
+            }
+            if (applied.isEmpty()) {
+                return;
+            }
+            UserPoint updatedUserPoint = userPointRepository.insertOrUpdate(userId, userPoint.point());
+            for (int i = 0; i < applied.size(); i++) {
+                PointOperation operation = operations.get(applied.get(i));
+                historiesWritten.add(pointHistoryRepository.insert(userId, operation.amount(), operation.type(), updatedUserPoint.updateMillis()));
+                results[applied.get(i)] = PointOperationResult.success(
+                        operation, new UserPoint(userId, balances.get(i).point(), updatedUserPoint.updateMillis()));
+            }
+        } finally {
+            lockProvider.unlock(userId);
+            pointMetrics.recordLock(PointMetrics.LockOperation.BULK, acquired - requested, System.nanoTime() - acquired);
+        }
+    }
+}
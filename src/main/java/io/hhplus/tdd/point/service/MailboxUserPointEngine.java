@@ -0,0 +1,282 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.entity.BalanceCheck;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자 ID 해시로 나눈 shard 마다 명령 대기열(mailbox)과 전용 worker 스레드를 두는 엔진
+ * - 한 사용자의 명령은 항상 같은 worker 가 순서대로 처리하므로 Lock 이 필요 없음
+ * - worker 는 대기열에서 최대 maxBatchSize 건을 꺼내 사용자별로 묶고,
+ *   사용자마다 잔액 조회 한 번, 거래 내역 기록, 잔액 저장 한 번으로 처리
+ * - 잔액 검증에 실패한 명령만 예외로 완료되고 같은 묶음의 다른 명령에는 영향 없음
+ * - 거래 내역을 먼저 기록한 뒤 잔액을 저장하므로, 실패로 완료된 명령은 잔액에 반영되지 않음
+ * - 대기열은 고정 크기, 가득 차면 호출자가 빈 자리가 날 때까지 대기 (backpressure)
+ */
+public class MailboxUserPointEngine implements UserPointEngine, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MailboxUserPointEngine.class);
+
+    private record Command(long userId, long amount, TransactionType type, CompletableFuture<UserPoint> result) {
+    }
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final int maxBatchSize;
+    private final Shard[] shards;
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    public MailboxUserPointEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository, int shardCount, int capacity, int maxBatchSize) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.maxBatchSize = maxBatchSize;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, capacity);
+        }
+    }
+
+    @Override
+    public UserPoint getUserPoint(long userId) {
+        return userPointRepository.selectById(userId);
+    }
+
+    @Override
+    public UserPoint charge(long userId, long amount) {
+        return await(chargeAsync(userId, amount));
+    }
+
+    @Override
+    public UserPoint use(long userId, long amount) {
+        return await(useAsync(userId, amount));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> chargeAsync(long userId, long amount) {
+        return submit(userId, amount, TransactionType.CHARGE);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> useAsync(long userId, long amount) {
+        return submit(userId, amount, TransactionType.USE);
+    }
+
+    /**
+     * 모든 명령을 먼저 대기열에 넣고 결과를 모음 (같은 사용자의 명령은 worker 가 묶어서 처리)
+     */
+    @Override
+    public List<PointOperationResult> applyAll(List<PointOperation> operations) {
+        List<CompletableFuture<UserPoint>> submitted = new ArrayList<>(operations.size());
+        for (PointOperation operation : operations) {
+            submitted.add(submit(operation.userId(), operation.amount(), operation.type()));
+        }
+        List<PointOperationResult> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            try {
+                results.add(PointOperationResult.success(operations.get(i), await(submitted.get(i))));
+            } catch (IllegalArgumentException e) {
+                results.add(PointOperationResult.failure(operations.get(i), e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 아직 처리되지 않은 명령 수
+     */
+    public int pendingCount() {
+        int count = 0;
+        for (Shard shard : shards) {
+            count += shard.mailbox.size();
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        for (Shard shard : shards) {
+            shard.worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        for (Shard shard : shards) {
+            if (shard.worker.isAlive()) {
+                // 아직 처리 중인 worker 는 대기열이 빌 때까지 스스로 처리하므로 함께 꺼내지 않음 (순서가 뒤섞이지 않도록)
+                log.warn("포인트 명령 worker 가 제한 시간 안에 끝나지 않았습니다: {}", shard.worker.getName());
+                continue;
+            }
+            // worker 가 예외로 먼저 끝났으면 남은 명령을 직접 처리
+            List<Command> batch = new ArrayList<>(maxBatchSize);
+            while (shard.mailbox.drainTo(batch, maxBatchSize) > 0) {
+                process(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private CompletableFuture<UserPoint> submit(long userId, long amount, TransactionType type) {
+        Command command = new Command(userId, amount, type, new CompletableFuture<>());
+        // 대기열이 가득 차 put 이 기다리는 동안에도 worker 는 계속 비우므로 close 는 적재가 끝날 때까지만 대기
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("종료된 엔진에서는 포인트를 변경할 수 없습니다.");
+            }
+            shards[shardIndex(userId)].mailbox.put(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 명령 대기열 적재 중 인터럽트되었습니다.", e);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        return command.result();
+    }
+
+    private int shardIndex(long userId) {
+        int hash = Long.hashCode(userId);
+        return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+    }
+
+    private void process(List<Command> batch) {
+        // 같은 사용자의 명령은 들어온 순서를 유지한 채 묶음
+        Map<Long, List<Command>> commandsByUser = new LinkedHashMap<>();
+        for (Command command : batch) {
+            commandsByUser.computeIfAbsent(command.userId(), userId -> new ArrayList<>()).add(command);
+        }
+        commandsByUser.forEach(this::processUser);
+    }
+
+    private void processUser(long userId, List<Command> commands) {
+        List<Command> applied = new ArrayList<>(commands.size());
+        List<UserPoint> results = new ArrayList<>(commands.size());
+        UserPoint userPoint;
+        try {
+            userPoint = userPointRepository.selectById(userId);
+        } catch (RuntimeException e) {
+            log.warn("포인트 명령 처리 실패: userId={}", userId, e);
+            failAll(commands, e);
+            return;
+        }
+        for (Command command : commands) {
+            BalanceCheck check = userPoint.check(command.type(), command.amount());
+            if (!check.isOk()) {
+                command.result().completeExceptionally(check.exception(userPoint.point(), command.amount()));
+                continue;
+            }
+            userPoint = userPoint.apply(command.type(), command.amount());
+            applied.add(command);
+            results.add(userPoint);
+        }
+        if (applied.isEmpty()) {
+            return;
+        }
+        UserPoint updatedUserPoint;
+        try {
+            updatedUserPoint = userPointRepository.insertOrUpdate(userId, userPoint.point());
+        } catch (RuntimeException e) {
+            // 잔액을 저장하지 못했으면 거래 내역도 기록하지 않으므로 반영된 명령은 없음
+            log.warn("잔액 저장 실패: userId={}", userId, e);
+            failAll(applied, e);
+            return;
+        }
+        // 거래 내역은 모두 요청한 뒤 한 번에 확인 (Batching 저장소에서는 한 묶음으로 기록됨)
+        List<CompletableFuture<Void>> historiesWritten = new ArrayList<>(applied.size());
+        for (Command command : applied) {
+            try {
+                historiesWritten.add(pointHistoryRepository.insert(userId, command.amount(), command.type(), updatedUserPoint.updateMillis()));
+            } catch (RuntimeException e) {
+                historiesWritten.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        try {
+            CompletableFuture.allOf(historiesWritten.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            // 실패한 명령은 아래에서 하나씩 완료
+        }
+        for (int i = 0; i < applied.size(); i++) {
+            Command command = applied.get(i);
+            CompletableFuture<Void> historyWritten = historiesWritten.get(i);
+            if (historyWritten.isCompletedExceptionally()) {
+                Throwable cause = historyWritten.exceptionNow();
+                log.warn("거래 내역 기록 실패: userId={}", userId, cause);
+                command.result().completeExceptionally(cause);
+                continue;
+            }
+            command.result().complete(new UserPoint(userId, results.get(i).point(), updatedUserPoint.updateMillis()));
+        }
+    }
+
+    private static void failAll(List<Command> commands, RuntimeException e) {
+        for (Command command : commands) {
+            command.result().completeExceptionally(e);
+        }
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 명령 대기열과 이를 처리하는 전용 worker
+     */
+    private final class Shard {
+
+        private final BlockingQueue<Command> mailbox;
+        private final Thread worker;
+
+        private Shard(int index, int capacity) {
+            this.mailbox = new ArrayBlockingQueue<>(capacity);
+            this.worker = new Thread(this::drainLoop, "point-mailbox-" + index);
+            this.worker.setDaemon(true);
+            this.worker.start();
+        }
+
+        private void drainLoop() {
+            List<Command> batch = new ArrayList<>(maxBatchSize);
+            while (!closed || !mailbox.isEmpty()) {
+                Command first;
+                try {
+                    first = mailbox.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                mailbox.drainTo(batch, maxBatchSize - 1);
+                process(batch);
+                batch.clear();
+            }
+        }
+    }
+}
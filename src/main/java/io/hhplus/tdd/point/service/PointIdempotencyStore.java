@@ -0,0 +1,205 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.BoundedSegmentedMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 충전/사용 결과 저장소 (재시도가 두 번 반영되지 않게)
+ * - 처음 보는 키만 작업을 실행하고, 같은 키로 다시 오면 저장된 결과를 돌려줌 (서비스/테이블을 거치지 않음)
+ * - 같은 키의 첫 요청이 아직 처리 중이면 그 결과를 기다렸다가 같은 결과를 돌려줌 (재시도 폭주에도 한 번만 실행)
+ * - 같은 키를 다른 사용자/거래 타입/금액에 쓰면 KeyReusedException
+ * - 작업이 실패하면(Error 포함) 키를 지움 (실패한 충전/사용은 반영된 것이 없으므로 재시도 시 다시 실행)
+ * - 키 해시로 나눈 segment 마다 삽입 순서 LinkedHashMap + ReentrantLock (BoundedSegmentedMap)
+ *   - 모든 키의 ttl 이 같으므로 만료는 항상 오래된 쪽부터 → 쓸 때마다 앞에서부터 만료된 키를 지움
+ *   - segment 가 maxKeys / segment 수에 차면 가장 오래된 완료 키를 지움
+ *   - 처리 중인 키는 만료/크기 제거 대상이 아님 (지우면 같은 키의 재시도가 한 번 더 실행됨)
+ *     만료를 훑을 때는 처리 중인 키를 건너뛰고 그 뒤의 만료된 키까지 지움
+ *   - segment 가 처리 중인 키로 가득 차면 새 키는 StoreFullException (잠시 후 재시도)
+ * - 완료된 결과는 UserPoint 객체 대신 잔액/시각 long 두 개로 보관
+ * - 지표: point.idempotency.requests (result=executed|replayed), point.idempotency.evictions (cause=size|expired), point.idempotency.size
+ */
+public class PointIdempotencyStore implements MeterBinder {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    /**
+     * 같은 키가 다른 요청에 쓰인 경우
+     */
+    public static class KeyReusedException extends IllegalStateException {
+
+        public KeyReusedException(String key) {
+            super("다른 요청에 사용된 Idempotency-Key 입니다: " + key);
+        }
+    }
+
+    /**
+     * segment 가 처리 중인 키로 가득 차 새 키를 받을 수 없는 경우
+     */
+    public static class StoreFullException extends IllegalStateException {
+
+        public StoreFullException() {
+            super("처리 중인 Idempotency-Key 가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    /**
+     * 누적 통계
+     */
+    public record Stats(long executed, long replayed, long evictions, long expirations, int size) {
+    }
+
+    private final BoundedSegmentedMap<String, Entry> entries;
+    private final long ttlNanos;
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+
+    public PointIdempotencyStore(int maxKeys, Duration ttl) {
+        this(maxKeys, ttl, 16);
+    }
+
+    public PointIdempotencyStore(int maxKeys, Duration ttl, int segmentCount) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new BoundedSegmentedMap<>(maxKeys, segmentCount, false, entry -> entry.pending == null);
+    }
+
+    /**
+     * 헤더로 받을 수 있는 키인지 (비어 있지 않고 MAX_KEY_LENGTH 이하)
+     */
+    public static boolean isValidKey(String key) {
+        return key != null && !key.isBlank() && key.length() <= MAX_KEY_LENGTH;
+    }
+
+    /**
+     * 키로 처음 들어온 요청이면 operation 을 실행하고 결과를 저장, 아니면 저장된(또는 처리 중인) 결과를 반환
+     * @throws KeyReusedException 같은 키가 다른 사용자/거래 타입/금액에 쓰인 경우
+     * @throws StoreFullException 새 키인데 segment 가 처리 중인 키로 가득 찬 경우
+     */
+    public UserPoint execute(String key, long userId, TransactionType type, long amount, Supplier<UserPoint> operation) {
+        BoundedSegmentedMap.Segment<String, Entry> segment = entries.segment(key);
+        Entry entry;
+        CompletableFuture<UserPoint> pending;
+        segment.lock();
+        try {
+            long now = System.nanoTime();
+            // 삽입 순서 = 만료 순서이므로 앞에서부터 만료되지 않은 키를 만날 때까지 제거 (처리 중인 키는 건너뜀)
+            segment.expireHead(expired -> expired.expiresAt - now <= 0);
+            entry = segment.get(key);
+            if (entry != null) {
+                if (!entry.matches(userId, type, amount)) {
+                    throw new KeyReusedException(key);
+                }
+                replayed.increment();
+                if (entry.pending == null) {
+                    return new UserPoint(userId, entry.point, entry.updateMillis);
+                }
+                pending = entry.pending;
+            } else {
+                entry = new Entry(userId, type, amount, now + ttlNanos);
+                if (!segment.put(key, entry)) {
+                    throw new StoreFullException();
+                }
+                pending = null;
+            }
+        } finally {
+            segment.unlock();
+        }
+        if (pending != null) {
+            return await(pending);
+        }
+
+        executed.increment();
+        try {
+            UserPoint userPoint = operation.get();
+            complete(segment, entry, userPoint);
+            return userPoint;
+        } catch (RuntimeException | Error e) {
+            // 키를 처리 중으로 남겨 두면 같은 키의 재시도가 영원히 기다리므로 Error 도 실패로 완료
+            fail(segment, key, entry, e);
+            throw e;
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(executed.sum(), replayed.sum(), entries.evictions(), entries.expirations(), entries.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("point.idempotency.requests", executed, LongAdder::sum).tags("result", "executed").register(registry);
+        FunctionCounter.builder("point.idempotency.requests", replayed, LongAdder::sum).tags("result", "replayed").register(registry);
+        entries.bindTo(registry, "point.idempotency");
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void complete(BoundedSegmentedMap.Segment<String, Entry> segment, Entry entry, UserPoint userPoint) {
+        CompletableFuture<UserPoint> pending;
+        segment.lock();
+        try {
+            pending = entry.pending;
+            entry.point = userPoint.point();
+            entry.updateMillis = userPoint.updateMillis();
+            entry.pending = null;
+        } finally {
+            segment.unlock();
+        }
+        pending.complete(userPoint);
+    }
+
+    private static void fail(BoundedSegmentedMap.Segment<String, Entry> segment, String key, Entry entry, Throwable failure) {
+        CompletableFuture<UserPoint> pending;
+        segment.lock();
+        try {
+            pending = entry.pending;
+            segment.remove(key, entry);
+        } finally {
+            segment.unlock();
+        }
+        pending.completeExceptionally(failure);
+    }
+
+    /**
+     * 키 하나의 요청 내용과 결과 (필드는 segment Lock 안에서만 읽고 씀)
+     */
+    private static final class Entry {
+
+        private final long userId;
+        private final TransactionType type;
+        private final long amount;
+        private final long expiresAt;
+        // 처리 중이면 결과를 기다릴 future, 완료되면 null 로 바꾸고 point/updateMillis 에 결과 보관
+        private CompletableFuture<UserPoint> pending = new CompletableFuture<>();
+        private long point;
+        private long updateMillis;
+
+        private Entry(long userId, TransactionType type, long amount, long expiresAt) {
+            this.userId = userId;
+            this.type = type;
+            this.amount = amount;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean matches(long userId, TransactionType type, long amount) {
+            return this.userId == userId && this.type == type && this.amount == amount;
+        }
+    }
+}
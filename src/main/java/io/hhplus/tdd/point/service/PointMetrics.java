@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 처리 지표
+ * - point.lock.wait / point.lock.hold : 사용자별 Lock 대기 시간 / 보유 시간 (operation=charge|use|bulk)
+ * - point.balance.rejected : 잔액 검증 거절 수 (operation=charge|use, reason=max_point_exceeded|insufficient_balance)
+ * - point.history.result.size : 거래 내역 조회 결과 건수 (operation=list|page)
+ * - 미터는 생성 시 한 번만 등록하고 호출 경로에서는 태그 조회 없이 기록만 함
+ */
+public class PointMetrics {
+
+    public enum LockOperation {
+        CHARGE,
+        USE,
+        BULK
+    }
+
+    private final Timer[] lockWait = new Timer[LockOperation.values().length];
+    private final Timer[] lockHold = new Timer[LockOperation.values().length];
+    private final Counter maxPointExceeded;
+    private final Counter insufficientBalance;
+    private final DistributionSummary historyListSize;
+    private final DistributionSummary historyPageSize;
+
+    public PointMetrics(MeterRegistry registry) {
+        for (LockOperation operation : LockOperation.values()) {
+            String tag = operation.name().toLowerCase();
+            lockWait[operation.ordinal()] = registry.timer("point.lock.wait", "operation", tag);
+            lockHold[operation.ordinal()] = registry.timer("point.lock.hold", "operation", tag);
+        }
+        this.maxPointExceeded = registry.counter("point.balance.rejected", "operation", "charge", "reason", "max_point_exceeded");
+        this.insufficientBalance = registry.counter("point.balance.rejected", "operation", "use", "reason", "insufficient_balance");
+        this.historyListSize = registry.summary("point.history.result.size", "operation", "list");
+        this.historyPageSize = registry.summary("point.history.result.size", "operation", "page");
+    }
+
+    /**
+     * 아무 곳에도 기록하지 않는 지표 (테스트, 벤치마크용)
+     */
+    public static PointMetrics noop() {
+        return new PointMetrics(new CompositeMeterRegistry());
+    }
+
+    public void recordLock(LockOperation operation, long waitNanos, long holdNanos) {
+        lockWait[operation.ordinal()].record(waitNanos, TimeUnit.NANOSECONDS);
+        lockHold[operation.ordinal()].record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 잔액 검증 거절 (충전은 최대 잔고 초과, 사용은 잔액 부족)
+     */
+    public void rejected(TransactionType type) {
+        if (type == TransactionType.CHARGE) {
+            maxPointExceeded.increment();
+        } else {
+            insufficientBalance.increment();
+        }
+    }
+
+    public void recordHistoryListSize(int size) {
+        historyListSize.record(size);
+    }
+
+    public void recordHistoryPageSize(int size) {
+        historyPageSize.record(size);
+    }
+}
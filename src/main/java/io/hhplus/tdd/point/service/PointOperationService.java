@@ -0,0 +1,251 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationStatus;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 충전/사용 요청을 접수만 하고 바로 반환한 뒤 엔진의 비동기 API(chargePointAsync/usePointAsync)로 처리하는 실행기
+ * - 요청 ID 는 "{userId}-{순번}" (클러스터 구성에서 상태 조회도 사용자의 담당 노드로 전달되도록)
+ * - 같은 사용자의 요청은 앞 요청의 future 가 끝난 뒤 시작하므로 접수 순서대로 처리 (사용자별 future 사슬, 기다리는 동안 스레드를 점유하지 않음)
+ * - 엔진 호출은 dispatcher 스레드에서 시작 (호출 스레드에서 바로 처리하는 lock 엔진도 접수 스레드를 붙잡지 않게)
+ *   - mailbox / sharded 처럼 future 를 바로 돌려주는 엔진은 dispatcher 를 잠깐만 씀
+ * - 처리 중(앞 요청 대기 포함)인 요청이 capacity 건이면 접수하지 않고 RejectedExecutionException (호출자가 나중에 재시도)
+ * - 처리가 끝난 요청의 상태는 retention 동안, 최대 maxRetained 건까지 보관하고 오래된 것부터 제거
+ * - 202 로 응답한 뒤에 처리되므로 클러스터 이관 전에 awaitUser 로 사용자의 접수된 요청이 끝나길 기다림
+ */
+public class PointOperationService implements UserPendingWork, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointOperationService.class);
+
+    private final UserPointService userPointService;
+    private final ThreadPoolExecutor dispatcher;
+    private final int capacity;
+    private final long retentionNanos;
+    private final int maxRetained;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+    // 사용자별 마지막으로 접수된 요청의 결과 (끝나면 제거)
+    private final Map<Long, CompletableFuture<PointOperationStatus>> tails = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    // 처리가 끝난 순서대로 (앞쪽부터 제거)
+    private final Queue<Operation> completed = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger completedCount = new AtomicInteger();
+    private final Lock evictionLock = new ReentrantLock();
+
+    public PointOperationService(UserPointService userPointService, int dispatcherThreads, int capacity, Duration retention, int maxRetained) {
+        this.userPointService = userPointService;
+        this.capacity = capacity;
+        this.retentionNanos = retention.toNanos();
+        this.maxRetained = maxRetained;
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 대기열 크기는 inFlight 로 제한하므로 대기열 자체는 제한하지 않음
+        this.dispatcher = new ThreadPoolExecutor(dispatcherThreads, dispatcherThreads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "point-operation-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 요청을 같은 사용자의 마지막 요청 뒤에 예약하고 PENDING 상태를 반환
+     * @throws RejectedExecutionException 처리 중인 요청이 capacity 건이거나 종료된 경우
+     */
+    public PointOperationStatus submit(PointOperation pointOperation) {
+        if (closed) {
+            throw new RejectedExecutionException("비동기 포인트 요청 처리가 종료되었습니다.");
+        }
+        if (inFlight.incrementAndGet() > capacity) {
+            inFlight.decrementAndGet();
+            throw new RejectedExecutionException("처리 중인 비동기 포인트 요청이 너무 많습니다.");
+        }
+        long userId = pointOperation.userId();
+        Operation operation = new Operation(userId + "-" + sequence.incrementAndGet(), pointOperation);
+        operations.put(operation.id, operation);
+        CompletableFuture<PointOperationStatus> previous = tails.put(userId, operation.result);
+        if (previous == null) {
+            dispatch(operation);
+        } else {
+            previous.whenComplete((ignored, error) -> dispatch(operation));
+        }
+        operation.result.whenComplete((ignored, error) -> tails.remove(userId, operation.result));
+        return operation.pending();
+    }
+
+    /**
+     * @return 요청의 현재 상태, 없는(또는 보관 기간이 지난) 요청이면 null
+     */
+    public PointOperationStatus status(String operationId) {
+        evictCompleted();
+        Operation operation = operations.get(operationId);
+        if (operation == null) {
+            return null;
+        }
+        return operation.current();
+    }
+
+    /**
+     * 처리가 끝나거나 wait 가 지나면 완료되는 상태 (long-poll 용, 요청 스레드를 붙잡지 않음)
+     * @return 없는(또는 보관 기간이 지난) 요청이면 null
+     */
+    public CompletableFuture<PointOperationStatus> awaitStatus(String operationId, Duration wait) {
+        evictCompleted();
+        Operation operation = operations.get(operationId);
+        if (operation == null) {
+            return null;
+        }
+        if (operation.result.isDone() || wait.isZero()) {
+            return CompletableFuture.completedFuture(operation.current());
+        }
+        // 공유 future 에 timeout 을 걸면 다른 조회자에게 PENDING 이 결과로 남으므로 복사본에 걸음
+        return operation.result.copy().completeOnTimeout(operation.pending(), wait.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 사용자의 마지막으로 접수된 요청이 끝날 때까지 대기 (같은 사용자의 요청은 순서대로 처리되므로 마지막 요청만 기다림)
+     */
+    @Override
+    public boolean awaitUser(long userId, Duration timeout) throws InterruptedException {
+        CompletableFuture<PointOperationStatus> tail = tails.get(userId);
+        if (tail == null) {
+            return true;
+        }
+        try {
+            tail.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // 요청 결과는 실패도 상태로 완료되므로 여기까지 오지 않음
+        } catch (TimeoutException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 아직 처리되지 않은 요청 수 (앞 요청을 기다리는 요청 포함)
+     */
+    public int pendingCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * 새 요청은 받지 않고 이미 접수한 요청은 처리한 뒤 종료 (최대 10초)
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        CompletableFuture<?>[] pending = tails.values().toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(pending).get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("비동기 포인트 요청 처리가 끝나지 않은 채 종료: 남은 요청 {} 건", inFlight.get());
+        }
+        dispatcher.shutdown();
+        dispatcher.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void dispatch(Operation operation) {
+        try {
+            dispatcher.execute(() -> start(operation));
+        } catch (RejectedExecutionException e) {
+            finish(operation, null, e);
+        }
+    }
+
+    private void start(Operation operation) {
+        PointOperation pointOperation = operation.pointOperation;
+        CompletableFuture<UserPoint> future;
+        try {
+            future = pointOperation.type() == TransactionType.CHARGE
+                    ? userPointService.chargePointAsync(pointOperation.userId(), pointOperation.amount())
+                    : userPointService.usePointAsync(pointOperation.userId(), pointOperation.amount());
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((userPoint, error) -> finish(operation, userPoint, error));
+    }
+
+    private void finish(Operation operation, UserPoint userPoint, Throwable error) {
+        PointOperation pointOperation = operation.pointOperation;
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        PointOperationStatus status;
+        if (cause == null) {
+            status = PointOperationStatus.succeeded(operation.id, pointOperation, userPoint);
+        } else if (cause instanceof IllegalArgumentException) {
+            status = PointOperationStatus.failed(operation.id, pointOperation, cause.getMessage());
+        } else {
+            log.error("비동기 포인트 요청 처리 실패: operationId={}", operation.id, cause);
+            status = PointOperationStatus.failed(operation.id, pointOperation, "처리 중 오류가 발생했습니다.");
+        }
+        operation.completedAt = System.nanoTime();
+        completed.add(operation);
+        completedCount.incrementAndGet();
+        evictCompleted();
+        inFlight.decrementAndGet();
+        operation.result.complete(status);
+    }
+
+    /**
+     * 보관 기간이 지났거나 최대 건수를 넘은 완료 요청을 앞쪽부터 제거 (다른 스레드가 정리 중이면 건너뜀)
+     */
+    private void evictCompleted() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            Operation eldest;
+            while ((eldest = completed.peek()) != null
+                    && (completedCount.get() > maxRetained || now - eldest.completedAt >= retentionNanos)) {
+                completed.poll();
+                completedCount.decrementAndGet();
+                operations.remove(eldest.id);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Operation {
+
+        private final String id;
+        private final PointOperation pointOperation;
+        private final CompletableFuture<PointOperationStatus> result = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private Operation(String id, PointOperation pointOperation) {
+            this.id = id;
+            this.pointOperation = pointOperation;
+        }
+
+        private PointOperationStatus pending() {
+            return PointOperationStatus.pending(id, pointOperation);
+        }
+
+        private PointOperationStatus current() {
+            return result.isDone() ? result.join() : pending();
+        }
+    }
+}
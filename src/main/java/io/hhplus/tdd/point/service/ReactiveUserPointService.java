@@ -0,0 +1,128 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Mono/Flux 로 포인트를 조회/충전/사용하는 서비스
+ * - 테이블 호출처럼 스레드를 붙잡는 작업은 모두 전달받은 bounded elastic scheduler 에서 실행
+ * - 같은 사용자의 충전/사용은 이전 작업의 future 뒤에 이어 붙여 순서대로 실행 (기다리는 동안 스레드를 점유하지 않음)
+ * - 실제 처리는 UserPointService 에 위임하므로 기존 API 와 같은 엔진/Lock 을 공유해 서로 일관됨
+ * - 변경 작업은 요청 필터를 빠져나온 뒤에 끝나므로 클러스터 이관 전에 awaitUser 로 기다림
+ */
+public class ReactiveUserPointService implements UserPendingWork {
+
+    private final UserPointService userPointService;
+    private final Scheduler blockingScheduler;
+    private final int historyPageSize;
+
+    // 사용자별 마지막으로 예약된 변경 작업 (끝나면 제거)
+    private final Map<Long, CompletableFuture<UserPoint>> tails = new ConcurrentHashMap<>();
+
+    public ReactiveUserPointService(UserPointService userPointService, Scheduler blockingScheduler, int historyPageSize) {
+        this.userPointService = userPointService;
+        this.blockingScheduler = blockingScheduler;
+        this.historyPageSize = historyPageSize;
+    }
+
+    public Mono<UserPoint> getUserPoint(long userId) {
+        return Mono.fromCallable(() -> userPointService.getUserPoint(userId))
+                .subscribeOn(blockingScheduler);
+    }
+
+    /**
+     * 거래 내역을 최신순으로 historyPageSize 건씩 필요할 때마다 읽어 흘려보냄 (전체 내역을 모아 두지 않음)
+     */
+    public Flux<PointHistory> streamTransactionHistory(long userId) {
+        return page(userId, null)
+                .expand(page -> page.nextCursor() == null ? Mono.empty() : page(userId, page.nextCursor()))
+                .concatMapIterable(PointHistoryPage::items);
+    }
+
+    public Mono<UserPoint> chargePoint(long userId, long amount) {
+        return serialized(userId, () -> userPointService.chargePoint(userId, amount));
+    }
+
+    public Mono<UserPoint> usePoint(long userId, long amount) {
+        return serialized(userId, () -> userPointService.usePoint(userId, amount));
+    }
+
+    /**
+     * 아직 끝나지 않은 변경 작업이 있는 사용자 수
+     */
+    public int pendingUserCount() {
+        return tails.size();
+    }
+
+    /**
+     * 사용자의 마지막 변경 작업이 끝날 때까지 대기 (같은 사용자의 작업은 순서대로 실행되므로 마지막 작업만 기다림)
+     * - 구독은 요청 스레드에서 일어나므로 요청이 필터를 빠져나온 뒤에는 작업이 이미 예약되어 있음
+     */
+    @Override
+    public boolean awaitUser(long userId, Duration timeout) throws InterruptedException {
+        CompletableFuture<UserPoint> tail = tails.get(userId);
+        if (tail == null) {
+            return true;
+        }
+        try {
+            tail.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // 실패로 끝난 작업도 끝난 것
+        } catch (TimeoutException e) {
+            return false;
+        }
+        return true;
+    }
+
+    private Mono<PointHistoryPage> page(long userId, Long cursor) {
+        PointHistoryCondition condition = new PointHistoryCondition(cursor, null, null, null);
+        return Mono.fromCallable(() -> userPointService.getTransactionHistoryPage(userId, condition, historyPageSize))
+                .subscribeOn(blockingScheduler);
+    }
+
+    /**
+     * 구독 시점에 같은 사용자의 마지막 작업 뒤에 mutation 을 예약
+     * - 구독이 취소되어도 예약된 작업은 끝까지 실행 (뒤 작업의 순서를 지키기 위해)
+     */
+    private Mono<UserPoint> serialized(long userId, Callable<UserPoint> mutation) {
+        return Mono.defer(() -> {
+            CompletableFuture<UserPoint> result = new CompletableFuture<>();
+            tails.compute(userId, (key, previous) -> {
+                CompletableFuture<?> ready = previous == null ? CompletableFuture.completedFuture(null) : previous;
+                ready.whenComplete((ignored, error) -> schedule(mutation, result));
+                return result;
+            });
+            result.whenComplete((ignored, error) -> tails.remove(userId, result));
+            return Mono.fromFuture(result, true);
+        });
+    }
+
+    private void schedule(Callable<UserPoint> mutation, CompletableFuture<UserPoint> result) {
+        try {
+            blockingScheduler.schedule(() -> {
+                try {
+                    result.complete(mutation.call());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            // scheduler 대기열이 가득 찼거나 종료된 경우
+            result.completeExceptionally(e);
+        }
+    }
+}
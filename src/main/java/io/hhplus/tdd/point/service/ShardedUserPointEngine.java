@@ -0,0 +1,351 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.entity.BalanceCheck;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.LongBalanceMap;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.ShardedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 ID 해시로 나눈 shard 마다 잔액 저장소와 실행 단위를 따로 두는 엔진
+ * - shard 는 자기 사용자의 잔액을 LongBalanceMap 에 함께 보관 (한 번에 한 스레드만 만지므로 동시성 제어 없는 맵 사용)
+ * - 실행 방식
+ *   - Lock: 호출 스레드가 shard Lock 을 잡고 처리 (사용자별 Lock 객체를 만들거나 지우지 않음)
+ *   - worker: shard 전용 스레드가 대기열의 작업을 순서대로 처리 (shard 상태를 그 스레드만 만짐)
+ * - shard 끼리는 아무것도 공유하지 않으므로 사용자가 고르게 퍼져 있으면 shard 수(코어 수)만큼 처리량이 늘어남
+ * - 거래 내역은 ShardedPointHistoryRepository 를 같은 shard 수로 쓰면 shard 마다 자기 segment 에만 기록
+ * - 변경 한 건 = shard 안에서 잔액 검증 + 거래 내역 기록 요청 → 내역 ack → shard 안에서 잔액 저장소와 shard 잔액 반영
+ *   - 내역 ack 를 기다리는 동안 shard 를 잡고 있지 않으므로 느린 ack 가 같은 shard 의 다른 사용자를 막지 않음
+ *   - 같은 사용자의 변경은 앞 변경이 끝난 뒤 시작 (사용자별 future 사슬)
+ *   - 내역 기록이 실패하면 잔액 저장소와 shard 잔액은 그대로
+ * - 처음 보는 사용자의 잔액은 잔액 저장소에서 한 번 읽어 옴 (시작 시 저널로 복구한 잔액 등)
+ */
+public class ShardedUserPointEngine implements UserPointEngine, AutoCloseable {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final Shard[] shards;
+    private volatile boolean closed;
+
+    /**
+     * @param workerCapacity 0 이면 Lock 방식, 1 이상이면 shard 마다 이 크기의 대기열과 전용 worker 를 둠
+     */
+    public ShardedUserPointEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                                  int shardCount, int expectedUsersPerShard, int workerCapacity) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shard 수는 1 이상이어야 합니다.");
+        }
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = workerCapacity > 0
+                    ? new WorkerShard(i, expectedUsersPerShard, workerCapacity)
+                    : new LockShard(expectedUsersPerShard);
+        }
+    }
+
+    @Override
+    public UserPoint getUserPoint(long userId) {
+        checkOpen();
+        Shard shard = shard(userId);
+        return await(shard.execute(() -> shard.load(userId)));
+    }
+
+    @Override
+    public UserPoint charge(long userId, long amount) {
+        return await(chargeAsync(userId, amount));
+    }
+
+    @Override
+    public UserPoint use(long userId, long amount) {
+        return await(useAsync(userId, amount));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> chargeAsync(long userId, long amount) {
+        return submit(userId, amount, TransactionType.CHARGE);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> useAsync(long userId, long amount) {
+        return submit(userId, amount, TransactionType.USE);
+    }
+
+    /**
+     * 모든 요청을 shard 별로 먼저 넘기고 결과를 모음 (shard 끼리는 동시에 처리)
+     */
+    @Override
+    public List<PointOperationResult> applyAll(List<PointOperation> operations) {
+        List<CompletableFuture<UserPoint>> submitted = new ArrayList<>(operations.size());
+        for (PointOperation operation : operations) {
+            submitted.add(submit(operation.userId(), operation.amount(), operation.type()));
+        }
+        List<PointOperationResult> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            try {
+                results.add(PointOperationResult.success(operations.get(i), await(submitted.get(i))));
+            } catch (IllegalArgumentException e) {
+                results.add(PointOperationResult.failure(operations.get(i), e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    /**
+     * shard 별 보관 중인 사용자 수 (사용자 분포 확인용)
+     */
+    public int[] userCounts() {
+        int[] counts = new int[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            Shard shard = shards[i];
+            counts[i] = await(shard.execute(() -> shard.balances.size()));
+        }
+        return counts;
+    }
+
+    /**
+     * 새 변경을 거부하고 진행 중인 변경(내역 ack 대기 포함)이 끝나길 기다린 뒤 shard 를 종료
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        for (Shard shard : shards) {
+            shard.awaitPending();
+        }
+        for (Shard shard : shards) {
+            shard.close();
+        }
+    }
+
+    private CompletableFuture<UserPoint> submit(long userId, long amount, TransactionType type) {
+        checkOpen();
+        return shard(userId).submit(userId, amount, type);
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("종료된 엔진에서는 포인트를 조회/변경할 수 없습니다.");
+        }
+    }
+
+    private Shard shard(long userId) {
+        return shards[ShardedPointHistoryRepository.shardIndex(userId, shards.length)];
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 잔액 검증을 통과하고 거래 내역 기록을 요청한 변경 (내역 ack 후 반영)
+     */
+    private record Prepared(UserPoint updated, CompletableFuture<Void> written) {
+    }
+
+    /**
+     * shard 하나의 잔액과 실행 단위 (balances 는 execute 로 넘긴 작업 안에서만 접근)
+     */
+    private abstract class Shard {
+
+        final LongBalanceMap balances;
+        // 사용자별 마지막으로 예약된 변경 (끝나면 제거)
+        private final Map<Long, CompletableFuture<UserPoint>> tails = new ConcurrentHashMap<>();
+
+        Shard(int expectedUsers) {
+            this.balances = new LongBalanceMap(expectedUsers);
+        }
+
+        /**
+         * shard 의 다른 작업과 겹치지 않게 task 를 실행
+         */
+        abstract <T> CompletableFuture<T> execute(Supplier<T> task);
+
+        void close() throws InterruptedException {
+        }
+
+        /**
+         * 같은 사용자의 마지막 변경 뒤에 이번 변경을 예약
+         */
+        CompletableFuture<UserPoint> submit(long userId, long amount, TransactionType type) {
+            CompletableFuture<UserPoint> result = new CompletableFuture<>();
+            CompletableFuture<UserPoint> previous = tails.put(userId, result);
+            if (previous == null) {
+                start(userId, amount, type, result);
+            } else {
+                previous.whenComplete((ignored, error) -> start(userId, amount, type, result));
+            }
+            result.whenComplete((ignored, error) -> tails.remove(userId, result));
+            return result;
+        }
+
+        /**
+         * 진행 중인 변경이 끝나길 최대 10초 기다림
+         */
+        void awaitPending() throws InterruptedException {
+            CompletableFuture<?>[] pending = tails.values().toArray(CompletableFuture[]::new);
+            try {
+                CompletableFuture.allOf(pending).exceptionally(error -> null).get(10, TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                // 끝나지 않은 변경은 호출자에게 그대로 남기고 종료를 진행
+            }
+        }
+
+        private void start(long userId, long amount, TransactionType type, CompletableFuture<UserPoint> result) {
+            execute(() -> prepare(userId, amount, type))
+                    .thenCompose(prepared -> prepared.written().thenApply(ignored -> prepared.updated()))
+                    .thenCompose(updated -> execute(() -> commit(updated)))
+                    .whenComplete((updated, error) -> {
+                        if (error != null) {
+                            result.completeExceptionally(error);
+                        } else {
+                            result.complete(updated);
+                        }
+                    });
+        }
+
+        UserPoint load(long userId) {
+            UserPoint userPoint = balances.get(userId);
+            if (userPoint == null) {
+                userPoint = userPointRepository.selectById(userId);
+                balances.put(userId, userPoint.point(), userPoint.updateMillis());
+            }
+            return userPoint;
+        }
+
+        /**
+         * 잔액 검증 → 거래 내역 기록 요청 (ack 는 기다리지 않음)
+         */
+        private Prepared prepare(long userId, long amount, TransactionType type) {
+            UserPoint current = load(userId);
+            BalanceCheck check = current.check(type, amount);
+            if (!check.isOk()) {
+                throw check.exception(current.point(), amount);
+            }
+            long updateMillis = System.currentTimeMillis();
+            UserPoint updated = new UserPoint(userId, current.apply(type, amount).point(), updateMillis);
+            return new Prepared(updated, pointHistoryRepository.insert(userId, amount, type, updateMillis));
+        }
+
+        /**
+         * 내역 ack 후 잔액 저장소와 shard 잔액에 반영 (저장소 저장이 실패하면 shard 잔액도 그대로)
+         */
+        private UserPoint commit(UserPoint updated) {
+            userPointRepository.insertOrUpdate(updated.id(), updated.point());
+            balances.put(updated.id(), updated.point(), updated.updateMillis());
+            return updated;
+        }
+    }
+
+    private final class LockShard extends Shard {
+
+        private final Lock lock = new ReentrantLock();
+
+        LockShard(int expectedUsers) {
+            super(expectedUsers);
+        }
+
+        @Override
+        <T> CompletableFuture<T> execute(Supplier<T> task) {
+            lock.lock();
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private final class WorkerShard extends Shard {
+
+        private final BlockingQueue<Runnable> queue;
+        private final Thread worker;
+
+        WorkerShard(int index, int expectedUsers, int capacity) {
+            super(expectedUsers);
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.worker = new Thread(this::drainLoop, "point-shard-" + index);
+            this.worker.setDaemon(true);
+            this.worker.start();
+        }
+
+        @Override
+        <T> CompletableFuture<T> execute(Supplier<T> task) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            Runnable command = () -> {
+                try {
+                    result.complete(task.get());
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            };
+            if (Thread.currentThread() == worker) {
+                command.run();
+                return result;
+            }
+            try {
+                queue.put(command);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("shard 대기열 적재 중 인터럽트되었습니다.", e);
+            }
+            return result;
+        }
+
+        @Override
+        void close() throws InterruptedException {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+            // worker 종료 직전에 들어온 작업까지 처리
+            Runnable command;
+            while ((command = queue.poll()) != null) {
+                command.run();
+            }
+        }
+
+        private void drainLoop() {
+            while (!closed || !queue.isEmpty()) {
+                Runnable command;
+                try {
+                    command = queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                if (command != null) {
+                    command.run();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.service;
+
+import java.time.Duration;
+
+/**
+ * 요청 스레드가 돌아간 뒤에도 사용자별로 이어서 처리하는 작업이 남는 서비스
+ * - 클러스터 이관 전에 옮길 사용자의 남은 작업이 끝나길 기다리는 데 씀
+ */
+public interface UserPendingWork {
+
+    /**
+     * 사용자에게 지금까지 예약된 작업이 모두 끝날 때까지 최대 timeout 대기
+     * @return 제한 시간 안에 모두 끝났으면 true
+     */
+    boolean awaitUser(long userId, Duration timeout) throws InterruptedException;
+}
@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 사용자 잔액 조회와 충전/사용을 처리하는 엔진
+ * - 같은 사용자에 대한 충전/사용이 동시에 들어와도 잔액과 거래 내역이 어긋나지 않아야 함
+ */
+public interface UserPointEngine {
+
+    /**
+     * 사용자 포인트 조회
+     */
+    UserPoint getUserPoint(long userId);
+
+    /**
+     * 포인트 충전
+     * @throws IllegalArgumentException 최대 포인트를 초과하는 경우
+     */
+    UserPoint charge(long userId, long amount);
+
+    /**
+     * 포인트 사용
+     * @throws IllegalArgumentException 잔액이 부족한 경우
+     */
+    UserPoint use(long userId, long amount);
+
+    /**
+     * 포인트 충전 (처리가 끝나면 완료되는 future 반환, 기본 구현은 호출 스레드에서 바로 처리)
+     */
+    default CompletableFuture<UserPoint> chargeAsync(long userId, long amount) {
+        try {
+            return CompletableFuture.completedFuture(charge(userId, amount));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 포인트 사용 (처리가 끝나면 완료되는 future 반환, 기본 구현은 호출 스레드에서 바로 처리)
+     */
+    default CompletableFuture<UserPoint> useAsync(long userId, long amount) {
+        try {
+            return CompletableFuture.completedFuture(use(userId, amount));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 여러 사용자의 충전/사용을 한 번에 처리 (기본 구현은 한 건씩 charge/use 호출)
+     * @return 요청 순서와 같은 순서의 건별 결과 (잔액 검증 실패는 실패 결과로 반환)
+     */
+    default List<PointOperationResult> applyAll(List<PointOperation> operations) {
+        List<PointOperationResult> results = new ArrayList<>(operations.size());
+        for (PointOperation operation : operations) {
+            try {
+                UserPoint userPoint = operation.type() == TransactionType.CHARGE
+                        ? charge(operation.userId(), operation.amount())
+                        : use(operation.userId(), operation.amount());
+                results.add(PointOperationResult.success(operation, userPoint));
+            } catch (IllegalArgumentException e) {
+                results.add(PointOperationResult.failure(operation, e.getMessage()));
+            }
+        }
+        return results;
+    }
+}
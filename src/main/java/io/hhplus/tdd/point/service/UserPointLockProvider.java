@@ -1,25 +1,125 @@
 package io.hhplus.tdd.point.service;
 
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import org.springframework.stereotype.Component;
-
 
 /**
  * 사용자별로 Lock을 제공하는 LockProvider
+ * - REFERENCE_COUNTED : 사용자별 Lock 을 잡고 있거나 기다리는 스레드 수를 세고, 0 이 되면 Lock 을 제거
+ *   (메모리는 지금 요청 중인 사용자 수에 비례)
+ * - STRIPED : 고정 크기 Lock 배열을 사용자 ID 해시로 나눠 씀 (메모리 고정, 다른 사용자끼리 Lock 을 공유할 수 있음)
+ * - 두 모드 모두 ReentrantLock 이므로 가상 스레드가 Lock 을 기다리거나 잡은 채 테이블 호출로 대기해도 carrier 를 고정하지 않음
+ *   (이 클래스 안에서 synchronized 를 쓰지 말 것)
  */
-@Component
 public class UserPointLockProvider {
 
-    // 사용자 ID별로 Lock을 관리
-    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+    public enum Mode {
+        REFERENCE_COUNTED,
+        STRIPED
+    }
+
+    private final Mode mode;
+
+    // REFERENCE_COUNTED: 사용 중인 사용자 ID별 Lock
+    private final Map<Long, CountedLock> lockMap = new ConcurrentHashMap<>();
+
+    // STRIPED: 고정 크기 Lock 배열 (크기는 2의 거듭제곱)
+    private final ReentrantLock[] stripes;
+
+    public UserPointLockProvider() {
+        this(Mode.REFERENCE_COUNTED, 0);
+    }
+
+    public UserPointLockProvider(Mode mode, int stripeCount) {
+        this.mode = mode;
+        this.stripes = mode == Mode.STRIPED ? newStripes(stripeCount) : new ReentrantLock[0];
+    }
+
+    /**
+     * 해당 사용자 ID 의 Lock 을 획득
+     * - Lock 객체를 돌려주지 않으므로 호출마다 핸들을 만들지 않고, Condition 처럼 지원하지 않는 기능에 닿을 수 없음
+     * - 같은 스레드에서 unlock(userId) 로 반납
+     */
+    public void lock(long userId) {
+        if (mode == Mode.STRIPED) {
+            stripes[stripeIndex(userId)].lock();
+            return;
+        }
+        retain(userId).lock.lock();
+    }
+
+    /**
+     * 해당 사용자 ID 의 Lock 을 기다리지 않고 획득 시도
+     * @return 획득했으면 true (실패하면 참조를 남기지 않음)
+     */
+    public boolean tryLock(long userId) {
+        if (mode == Mode.STRIPED) {
+            return stripes[stripeIndex(userId)].tryLock();
+        }
+        if (retain(userId).lock.tryLock()) {
+            return true;
+        }
+        release(userId);
+        return false;
+    }
+
+    /**
+     * lock/tryLock 으로 획득한 사용자 ID 의 Lock 을 반납
+     * @throws IllegalMonitorStateException 현재 스레드가 Lock 을 잡고 있지 않은 경우
+     */
+    public void unlock(long userId) {
+        if (mode == Mode.STRIPED) {
+            stripes[stripeIndex(userId)].unlock();
+            return;
+        }
+        CountedLock counted = lockMap.get(userId);
+        if (counted == null) {
+            throw new IllegalMonitorStateException();
+        }
+        counted.lock.unlock();
+        release(userId);
+    }
+
+    /**
+     * 현재 메모리에 남아 있는 사용자별 Lock 수 (STRIPED 모드는 배열 크기)
+     */
+    public int size() {
+        return mode == Mode.STRIPED ? stripes.length : lockMap.size();
+    }
+
+    private int stripeIndex(long userId) {
+        int hash = Long.hashCode(userId);
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    private static ReentrantLock[] newStripes(int stripeCount) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        ReentrantLock[] locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private CountedLock retain(Long userId) {
+        // compute 는 키 단위로 원자적이므로 참조 수 변경과 제거가 겹치지 않음
+        return lockMap.compute(userId, (id, counted) -> {
+            CountedLock result = counted == null ? new CountedLock() : counted;
+            result.references++;
+            return result;
+        });
+    }
+
+    private void release(Long userId) {
+        lockMap.computeIfPresent(userId, (id, counted) -> --counted.references == 0 ? null : counted);
+    }
 
     /**
-     * 해당 사용자 ID에 대한 Lock을 반환
+     * 참조 수가 붙은 Lock (references 는 lockMap.compute 안에서만 변경)
      */
-    public Lock getLock(Long userId) {
-        // computeIfAbsent: 없으면 새로 생성
-        return lockMap.computeIfAbsent(userId, id -> new ReentrantLock());
+    private static final class CountedLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int references;
     }
 }
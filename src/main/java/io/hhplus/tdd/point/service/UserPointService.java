@@ -1,15 +1,20 @@
 package io.hhplus.tdd.point.service;
 
-import java.util.Comparator;
-import java.util.concurrent.locks.Lock;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
 import io.hhplus.tdd.point.entity.PointHistory;
-import io.hhplus.tdd.point.entity.UserPoint;
-
 import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
 
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,14 +25,14 @@ import java.util.List;
 @Service
 public class UserPointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
-    private final UserPointLockProvider lockProvider;
+    private final UserPointEngine userPointEngine;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointMetrics pointMetrics;
 
-    public UserPointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, UserPointLockProvider lockProvider) {
-        this.userPointTable = userPointTable;
-        this.pointHistoryTable = pointHistoryTable;
-        this.lockProvider = lockProvider;
+    public UserPointService(UserPointEngine userPointEngine, PointHistoryRepository pointHistoryRepository, PointMetrics pointMetrics) {
+        this.userPointEngine = userPointEngine;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointMetrics = pointMetrics;
     }
 
     /**
@@ -36,7 +41,7 @@ public class UserPointService {
      * @return 사용자 포인트 정보
      */
     public UserPoint getUserPoint(long userId) {
-        return userPointTable.selectById(userId);
+        return userPointEngine.getUserPoint(userId);
     }
 
     /**
@@ -45,9 +50,56 @@ public class UserPointService {
      * @return 포인트 거래 내역
      */
     public List<PointHistory> getTransactionHistory(long userId) {
-        return pointHistoryTable.selectAllByUserId(userId).stream()
-            .sorted(Comparator.comparing(PointHistory::updateMillis).reversed())
-            .toList();
+        // 저장소는 사용자별로 기록된 순서(시간순)로 돌려주므로 다시 정렬하지 않고 뒤에서부터 읽는다
+        List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(userId);
+        pointMetrics.recordHistoryListSize(histories.size());
+        return latestFirst(histories);
+    }
+
+    /**
+     * 포인트 거래 내역 페이지 조회 (최신순, 요청한 페이지만 조회)
+     * @param userId 사용자 ID
+     * @param condition 커서, 기간, 거래 타입 조건
+     * @param size 페이지 크기
+     * @return 거래 내역 페이지 (다음 페이지가 없으면 nextCursor 는 null)
+     */
+    public PointHistoryPage getTransactionHistoryPage(long userId, PointHistoryCondition condition, int size) {
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<PointHistory> histories = pointHistoryRepository.selectPageByUserId(userId, condition, size + 1);
+        pointMetrics.recordHistoryPageSize(Math.min(histories.size(), size));
+        if (histories.size() <= size) {
+            return new PointHistoryPage(histories, null);
+        }
+        List<PointHistory> items = List.copyOf(histories.subList(0, size));
+        return new PointHistoryPage(items, items.get(size - 1).id());
+    }
+
+    /**
+     * 사용자 거래 내역 요약 (거래 타입별 합계, 건수, 첫/마지막 거래 시각, 최근 일별 합계)
+     * @param userId 사용자 ID
+     * @return 거래 내역 요약 (거래가 없으면 합계 0)
+     */
+    public PointHistorySummary getTransactionSummary(long userId) {
+        return pointHistoryRepository.summarizeByUserId(userId);
+    }
+
+    /**
+     * 거래 내역이 있는 사용자 ID 목록
+     */
+    public List<Long> getHistoryUserIds() {
+        return pointHistoryRepository.selectUserIds();
+    }
+
+    /**
+     * 포인트 거래 내역 내보내기 (사용자별 시간순으로 한 건씩 전달, 전체를 메모리에 모으지 않음)
+     * @param userIds 사용자 ID 목록
+     * @param condition 기간, 거래 타입 조건
+     * @param action 거래 내역을 받을 함수
+     */
+    public void exportTransactionHistories(List<Long> userIds, PointHistoryCondition condition, Consumer<PointHistory> action) {
+        for (long userId : userIds) {
+            pointHistoryRepository.forEachByUserId(userId, condition, action);
+        }
     }
     
     /**
@@ -58,17 +110,11 @@ public class UserPointService {
      * @throws IllegalArgumentException 최대 포인트를 초과하는 경우
      */
     public UserPoint chargePoint(long userId, long chargeAmount) {
-        Lock lock = lockProvider.getLock(userId);
-        lock.lock();
         try {
-            // 임계 구역: 동일 userId에 대해선 동시 접근 불가
-            UserPoint currentUserPoint = userPointTable.selectById(userId);
-            long newBalance = currentUserPoint.point() + chargeAmount;
-            UserPoint updatedUserPoint = userPointTable.insertOrUpdate(userId, newBalance);
-            pointHistoryTable.insert(userId, chargeAmount, TransactionType.CHARGE, updatedUserPoint.updateMillis());
-            return updatedUserPoint;
-        } finally {
-            lock.unlock();
+            return userPointEngine.charge(userId, chargeAmount);
+        } catch (IllegalArgumentException e) {
+            pointMetrics.rejected(TransactionType.CHARGE);
+            throw e;
         }
     }
 
@@ -81,17 +127,73 @@ public class UserPointService {
      * @throws IllegalArgumentException 잔액이 부족한 경우
      */
     public UserPoint usePoint(long userId, long useAmount) {
-        Lock lock = lockProvider.getLock(userId);
-        lock.lock();
         try {
-            UserPoint currentUserPoint = userPointTable.selectById(userId);
-            currentUserPoint.validateSufficientBalance(useAmount);
-            long newBalance = currentUserPoint.point() - useAmount;
-            UserPoint updatedUserPoint = userPointTable.insertOrUpdate(userId, newBalance);
-            pointHistoryTable.insert(userId, useAmount, TransactionType.USE, updatedUserPoint.updateMillis());
-            return updatedUserPoint;
-        } finally {
-            lock.unlock();
+            return userPointEngine.use(userId, useAmount);
+        } catch (IllegalArgumentException e) {
+            pointMetrics.rejected(TransactionType.USE);
+            throw e;
+        }
+    }
+
+    /**
+     * 포인트 충전 (엔진이 처리를 마치면 완료되는 future 반환)
+     * @param userId 사용자 ID
+     * @param chargeAmount 충전할 금액 (양수여야 함)
+     * @return 충전된 사용자 포인트 정보 (최대 포인트를 초과하면 IllegalArgumentException 으로 완료)
+     */
+    public CompletableFuture<UserPoint> chargePointAsync(long userId, long chargeAmount) {
+        return userPointEngine.chargeAsync(userId, chargeAmount)
+                .whenComplete((userPoint, failure) -> countRejected(TransactionType.CHARGE, failure));
+    }
+
+    /**
+     * 포인트 사용 (엔진이 처리를 마치면 완료되는 future 반환)
+     * @param userId 사용자 ID
+     * @param useAmount 사용할 금액 (양수여야 함)
+     * @return 사용된 사용자 포인트 정보 (잔액이 부족하면 IllegalArgumentException 으로 완료)
+     */
+    public CompletableFuture<UserPoint> usePointAsync(long userId, long useAmount) {
+        return userPointEngine.useAsync(userId, useAmount)
+                .whenComplete((userPoint, failure) -> countRejected(TransactionType.USE, failure));
+    }
+
+    /**
+     * 포인트 일괄 충전/사용
+     * @param operations 충전/사용 요청 목록 (같은 사용자의 요청은 목록 순서대로 반영)
+     * @return 요청 순서와 같은 순서의 건별 결과 (잔액 부족, 최대 포인트 초과는 실패 결과로 반환)
+     */
+    public List<PointOperationResult> applyPoints(List<PointOperation> operations) {
+        List<PointOperationResult> results = userPointEngine.applyAll(operations);
+        for (PointOperationResult result : results) {
+            if (!result.success()) {
+                pointMetrics.rejected(result.type());
+            }
+        }
+        return results;
+    }
+
+    private void countRejected(TransactionType type, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause instanceof IllegalArgumentException) {
+            pointMetrics.rejected(type);
+        }
+    }
+
+    /**
+     * 시간순 목록을 최신순으로 변환 (같은 시각의 내역은 기록된 순서 유지)
+     */
+    private static List<PointHistory> latestFirst(List<PointHistory> histories) {
+        List<PointHistory> result = new ArrayList<>(histories.size());
+        int end = histories.size();
+        while (end > 0) {
+            int start = end - 1;
+            long updateMillis = histories.get(start).updateMillis();
+            while (start > 0 && histories.get(start - 1).updateMillis() == updateMillis) {
+                start--;
+            }
+            result.addAll(histories.subList(start, end));
+            end = start;
         }
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConsistentHashRing 테스트")
+class ConsistentHashRingTest {
+
+    private static final List<String> NODES = List.of("http://a:8080", "http://b:8080", "http://c:8080");
+
+    @Test
+    @DisplayName("같은 노드 목록이면 순서와 상관없이 같은 노드를 담당으로 정한다")
+    void ownerOf_Deterministic() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 160);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of(NODES.get(2), NODES.get(0), NODES.get(1)), 160);
+
+        // when & then
+        for (long userId = 0; userId < 1000; userId++) {
+            assertThat(reordered.ownerOf(userId)).isEqualTo(ring.ownerOf(userId));
+        }
+    }
+
+    @Test
+    @DisplayName("사용자가 노드마다 고르게 나뉜다")
+    void ownerOf_Balanced() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 160);
+
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        for (long userId = 0; userId < 30000; userId++) {
+            counts.merge(ring.ownerOf(userId), 1, Integer::sum);
+        }
+
+        // then
+        assertThat(counts).containsOnlyKeys(NODES);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(8000, 12000));
+    }
+
+    @Test
+    @DisplayName("노드를 추가하면 새 노드로 가는 사용자만 담당이 바뀐다")
+    void withNode_MovesOnlyToNewNode() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(NODES, 160);
+        ConsistentHashRing after = before.withNode("http://d:8080");
+
+        // when
+        int moved = 0;
+        for (long userId = 0; userId < 30000; userId++) {
+            if (!before.ownerOf(userId).equals(after.ownerOf(userId))) {
+                assertThat(after.ownerOf(userId)).isEqualTo("http://d:8080");
+                moved++;
+            }
+        }
+
+        // then (약 1/4)
+        assertThat(moved).isBetween(5000, 10000);
+        assertThat(after.nodes()).hasSize(4);
+        assertThat(before.nodes()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("노드를 제거하면 그 노드가 담당하던 사용자만 담당이 바뀐다")
+    void withoutNode_MovesOnlyRemovedUsers() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(NODES, 160);
+        ConsistentHashRing after = before.withoutNode("http://b:8080");
+
+        // when & then
+        for (long userId = 0; userId < 10000; userId++) {
+            String owner = before.ownerOf(userId);
+            if (!owner.equals("http://b:8080")) {
+                assertThat(after.ownerOf(userId)).isEqualTo(owner);
+            } else {
+                assertThat(after.ownerOf(userId)).isNotEqualTo("http://b:8080");
+            }
+        }
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of(), 160)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
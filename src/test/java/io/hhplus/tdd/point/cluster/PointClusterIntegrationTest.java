@@ -0,0 +1,159 @@
+package io.hhplus.tdd.point.cluster;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.dto.ClusterMembership;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * localhost 에 두 인스턴스를 띄워 요청 전달과 노드 추가/제거 시 이관을 확인
+ */
+@DisplayName("클러스터 통합 테스트")
+class PointClusterIntegrationTest {
+
+    private static final int USERS = 40;
+    private static final String SECRET = "test-secret";
+
+    @TempDir
+    Path directory;
+
+    private final RestClient restClient = RestClient.create();
+    private String nodeA;
+    private String nodeB;
+    private ConfigurableApplicationContext contextA;
+    private ConfigurableApplicationContext contextB;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        int portA = freePort();
+        int portB = freePort();
+        nodeA = "http://localhost:" + portA;
+        nodeB = "http://localhost:" + portB;
+        contextA = start(portA, nodeA, directory.resolve("a"));
+        contextB = start(portB, nodeB, directory.resolve("b"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        contextA.close();
+        contextB.close();
+    }
+
+    @Test
+    @DisplayName("노드를 추가/제거하면 담당 사용자의 잔액과 내역이 옮겨지고 어느 노드로 요청해도 같은 결과를 본다")
+    void addAndRemoveNode_HandsOffUsers() {
+        // given - A 혼자 모든 사용자를 담당
+        for (long userId = 1; userId <= USERS; userId++) {
+            post(nodeA, "/point/" + userId + "/charge", 1000L);
+            post(nodeA, "/point/" + userId + "/use", 100L);
+        }
+
+        // when - B 추가
+        ClusterMembership membership = restClient.post().uri(nodeA + "/cluster/nodes")
+                .header(PointNodeClient.SECRET_HEADER, SECRET)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("node", nodeB))
+                .retrieve()
+                .body(ClusterMembership.class);
+
+        // then - 두 노드 모두 같은 ring, 어느 노드로 조회해도 같은 잔액/내역
+        assertThat(membership.nodes()).containsExactlyInAnyOrder(nodeA, nodeB);
+        assertThat(restClient.get().uri(nodeB + "/cluster/nodes").header(PointNodeClient.SECRET_HEADER, SECRET).retrieve().body(ClusterMembership.class).nodes())
+                .containsExactlyInAnyOrder(nodeA, nodeB);
+        PointClusterService clusterService = contextA.getBean(PointClusterService.class);
+        long ownedByB = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            if (clusterService.ownerOf(userId).equals(nodeB)) {
+                ownedByB++;
+            }
+            assertThat(get(nodeA, userId).point()).isEqualTo(900L);
+            assertThat(get(nodeB, userId).point()).isEqualTo(900L);
+            assertThat(histories(nodeB, userId)).hasSize(2);
+        }
+        assertThat(ownedByB).isBetween(1L, USERS - 1L);
+
+        // when - 두 노드에 나눠 요청한 뒤 B 제거
+        for (long userId = 1; userId <= USERS; userId++) {
+            post(userId % 2 == 0 ? nodeA : nodeB, "/point/" + userId + "/charge", 50L);
+        }
+        restClient.delete().uri(nodeA + "/cluster/nodes?node=" + nodeB).header(PointNodeClient.SECRET_HEADER, SECRET).retrieve().toBodilessEntity();
+
+        // then - A 가 모든 사용자를 다시 담당하고 내역이 중복되지 않음
+        assertThat(clusterService.membership().nodes()).containsExactly(nodeA);
+        for (long userId = 1; userId <= USERS; userId++) {
+            assertThat(get(nodeA, userId).point()).isEqualTo(950L);
+            assertThat(histories(nodeA, userId)).extracting(PointHistory::amount).containsExactlyInAnyOrder(1000L, 100L, 50L);
+        }
+    }
+
+    @Test
+    @DisplayName("비밀값이 없거나 틀린 클러스터 요청은 401 로 거부한다")
+    void clusterRequest_WithoutSecret_Rejected() {
+        // when & then
+        assertThat(restClient.put().uri(nodeA + "/cluster/ring")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(List.of(nodeB))
+                .exchange((request, response) -> response.getStatusCode().value())).isEqualTo(401);
+        assertThat(restClient.post().uri(nodeA + "/cluster/handoff")
+                .header(PointNodeClient.SECRET_HEADER, "wrong")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(List.of())
+                .exchange((request, response) -> response.getStatusCode().value())).isEqualTo(401);
+        assertThat(contextA.getBean(PointClusterService.class).membership().nodes()).containsExactly(nodeA);
+    }
+
+    private ConfigurableApplicationContext start(int port, String self, Path dataDirectory) {
+        return new SpringApplicationBuilder(TddApplication.class).run(
+                "--server.port=" + port,
+                "--point.cluster.enabled=true",
+                "--point.cluster.self=" + self,
+                "--point.cluster.secret=" + SECRET,
+                "--point.cluster.nodes=" + self,
+                "--point.balance.store=memory",
+                "--point.history.store=mapped",
+                "--point.history.mapped.directory=" + dataDirectory,
+                "--point.history.mapped.slots-per-segment=1024");
+    }
+
+    private UserPoint post(String node, String path, long amount) {
+        return restClient.post().uri(node + path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("amount", amount))
+                .retrieve()
+                .body(UserPoint.class);
+    }
+
+    private UserPoint get(String node, long userId) {
+        return restClient.get().uri(node + "/point/" + userId).retrieve().body(UserPoint.class);
+    }
+
+    private List<PointHistory> histories(String node, long userId) {
+        return restClient.get().uri(node + "/point/" + userId + "/histories").retrieve()
+                .body(new ParameterizedTypeReference<>() {
+                });
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
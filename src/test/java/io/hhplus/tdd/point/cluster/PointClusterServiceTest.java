@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.cluster;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.UserPendingWork;
+import io.hhplus.tdd.point.service.UserPointLockProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PointClusterService 테스트")
+class PointClusterServiceTest {
+
+    private static final String NODE_A = "http://a";
+    private static final String NODE_B = "http://b";
+
+    private PointNodeClient nodeClient;
+    private UserPendingWork pendingWork;
+    private PointClusterService clusterService;
+    private long movingUserId;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        nodeClient = mock(PointNodeClient.class);
+        pendingWork = mock(UserPendingWork.class);
+        when(pendingWork.awaitUser(anyLong(), any())).thenReturn(true);
+        UserPointRepository userPointRepository = mock(UserPointRepository.class);
+        when(userPointRepository.selectById(anyLong())).thenAnswer(invocation -> UserPoint.empty(invocation.getArgument(0)));
+        PointHistoryRepository pointHistoryRepository = mock(PointHistoryRepository.class);
+        List<Long> userIds = LongStream.rangeClosed(1, 40).boxed().toList();
+        when(pointHistoryRepository.selectUserIds()).thenReturn(userIds);
+        clusterService = new PointClusterService(NODE_A, new ConsistentHashRing(List.of(NODE_A), 160), nodeClient,
+                userPointRepository, pointHistoryRepository, new UserPointLockProvider(), List.of(pendingWork), Duration.ofSeconds(1));
+        ConsistentHashRing after = new ConsistentHashRing(List.of(NODE_A, NODE_B), 160);
+        movingUserId = userIds.stream().filter(userId -> after.ownerOf(userId).equals(NODE_B)).findFirst().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("준비 단계는 옮길 사용자를 막고 이관한 뒤에도 ring 을 바꾸지 않으며, 적용 단계에서 ring 을 바꾸고 푼다")
+    void prepareThenApply_FencesMovingUsersUntilApplied() throws InterruptedException {
+        // when
+        int moved = clusterService.prepareRing(List.of(NODE_A, NODE_B));
+
+        // then
+        assertThat(moved).isPositive();
+        verify(nodeClient).handOff(eq(NODE_B), argThat(handOffs -> handOffs.size() == moved));
+        assertThat(clusterService.ownerOf(movingUserId)).isEqualTo(NODE_A);
+        assertThat(clusterService.enter(movingUserId)).isFalse();
+        verify(pendingWork).awaitUser(eq(movingUserId), any());
+
+        // when
+        clusterService.applyRing(List.of(NODE_A, NODE_B));
+
+        // then
+        assertThat(clusterService.ownerOf(movingUserId)).isEqualTo(NODE_B);
+        assertThat(clusterService.enter(movingUserId)).isTrue();
+        clusterService.exit();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 준비에 실패하면 준비한 노드와 자신을 변경 전 ring 으로 되돌린다")
+    void addNode_PrepareFails_RollsBack() {
+        // given
+        doThrow(new RestClientException("연결 실패")).when(nodeClient).prepareRing(eq(NODE_B), anyList());
+
+        // when & then
+        assertThatThrownBy(() -> clusterService.addNode(NODE_B)).isInstanceOf(IllegalStateException.class);
+        assertThat(clusterService.membership().nodes()).containsExactly(NODE_A);
+        assertThat(clusterService.enter(movingUserId)).isTrue();
+        clusterService.exit();
+        verify(nodeClient, never()).handOff(anyString(), anyList());
+        verify(nodeClient, never()).applyRing(eq(NODE_B), eq(List.of(NODE_A, NODE_B)));
+    }
+
+    @Test
+    @DisplayName("옮길 사용자의 응답 뒤 작업이 끝나지 않으면 이관하지 않고 노드 변경을 되돌린다")
+    void addNode_PendingWorkNotDrained_RollsBack() throws InterruptedException {
+        // given
+        when(pendingWork.awaitUser(eq(movingUserId), any())).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> clusterService.addNode(NODE_B)).isInstanceOf(IllegalStateException.class);
+        assertThat(clusterService.membership().nodes()).containsExactly(NODE_A);
+        assertThat(clusterService.enter(movingUserId)).isTrue();
+        clusterService.exit();
+        verify(nodeClient, never()).handOff(anyString(), anyList());
+        verify(nodeClient).applyRing(NODE_B, List.of(NODE_A));
+    }
+}
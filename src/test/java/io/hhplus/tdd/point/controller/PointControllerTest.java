@@ -1,7 +1,14 @@
 package io.hhplus.tdd.point.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.config.PointIdempotencyConfig;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
 import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
 import io.hhplus.tdd.point.entity.UserPoint;
 import io.hhplus.tdd.point.service.UserPointService;
 import org.junit.jupiter.api.DisplayName;
@@ -10,9 +17,11 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -21,6 +30,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(PointController.class)
+@Import(PointIdempotencyConfig.class)
 class PointControllerTest {
 
     @Autowired
@@ -98,4 +108,129 @@ class PointControllerTest {
                         .content(objectMapper.writeValueAsString(Map.of("amount", 0L))))
                 .andExpect(status().isBadRequest());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("포인트 거래 내역 페이지 조회 - 성공")
+    void getTransactionHistoryPage_success() throws Exception {
+        PointHistory history = new PointHistory(5L, 1L, 1000L, TransactionType.CHARGE, System.currentTimeMillis());
+        PointHistoryCondition condition = new PointHistoryCondition(6L, null, null, TransactionType.CHARGE);
+        Mockito.when(userPointService.getTransactionHistoryPage(1L, condition, 1))
+                .thenReturn(new PointHistoryPage(List.of(history), 5L));
+
+        mockMvc.perform(get("/point/1/histories/page")
+                        .param("cursor", "6")
+                        .param("size", "1")
+                        .param("type", "CHARGE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(5L))
+                .andExpect(jsonPath("$.nextCursor").value(5L));
+    }
+
+    @Test
+    @DisplayName("포인트 거래 내역 페이지 조회 - 잘못된 페이지 크기")
+    void getTransactionHistoryPage_invalidSize() throws Exception {
+        mockMvc.perform(get("/point/1/histories/page").param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/point/1/histories/page").param("size", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("포인트 거래 내역 요약 조회 - 성공")
+    void getTransactionSummary_success() throws Exception {
+        PointHistorySummary summary = new PointHistorySummary(1L,
+                new PointHistorySummary.Totals(3000L, 2, 1L, 2L),
+                new PointHistorySummary.Totals(0L, 0, null, null),
+                List.of(new PointHistorySummary.Daily(LocalDate.of(2024, 1, 2), 3000L, 2, 0L, 0)));
+        Mockito.when(userPointService.getTransactionSummary(1L)).thenReturn(summary);
+
+        mockMvc.perform(get("/point/1/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.charge.amount").value(3000L))
+                .andExpect(jsonPath("$.charge.count").value(2))
+                .andExpect(jsonPath("$.use.lastMillis").doesNotExist())
+                .andExpect(jsonPath("$.daily[0].date").value("2024-01-02"));
+    }
+
+    @Test
+    @DisplayName("포인트 일괄 충전/사용 - 성공")
+    void applyPoints_success() throws Exception {
+        List<PointOperation> operations = List.of(
+                new PointOperation(1L, 1000L, TransactionType.CHARGE),
+                new PointOperation(2L, 500L, TransactionType.USE));
+        Mockito.when(userPointService.applyPoints(operations)).thenReturn(List.of(
+                PointOperationResult.success(operations.get(0), new UserPoint(1L, 1000L, System.currentTimeMillis())),
+                PointOperationResult.failure(operations.get(1), "잔액이 부족합니다. 현재 잔액: 0, 사용 금액: 500")));
+
+        mockMvc.perform(post("/point/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(operations)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].userPoint.point").value(1000L))
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].message").exists());
+    }
+
+    @Test
+    @DisplayName("포인트 일괄 충전/사용 - 잘못된 요청")
+    void applyPoints_invalidRequest() throws Exception {
+        mockMvc.perform(post("/point/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/point/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(new PointOperation(1L, 0L, TransactionType.CHARGE)))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("포인트 충전 - 같은 Idempotency-Key 로 다시 요청하면 처음 결과를 돌려주고 다시 충전하지 않는다")
+    void chargePoint_sameIdempotencyKey_replaysResult() throws Exception {
+        UserPoint userPoint = new UserPoint(1L, 20000L, System.currentTimeMillis());
+        Mockito.when(userPointService.chargePoint(eq(1L), eq(10000L))).thenReturn(userPoint);
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/point/1/charge")
+                            .header("Idempotency-Key", "charge-replay")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("amount", 10000L))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.point").value(20000L));
+        }
+
+        Mockito.verify(userPointService, Mockito.times(1)).chargePoint(1L, 10000L);
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 다른 요청에 쓰인 Idempotency-Key 는 422")
+    void usePoint_reusedIdempotencyKey_unprocessable() throws Exception {
+        Mockito.when(userPointService.usePoint(eq(1L), anyLong())).thenReturn(new UserPoint(1L, 5000L, System.currentTimeMillis()));
+        mockMvc.perform(post("/point/1/use")
+                        .header("Idempotency-Key", "use-reused")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("amount", 5000L))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/point/1/use")
+                        .header("Idempotency-Key", "use-reused")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("amount", 3000L))))
+                .andExpect(status().isUnprocessableEntity());
+
+        Mockito.verify(userPointService, Mockito.never()).usePoint(1L, 3000L);
+    }
+
+    @Test
+    @DisplayName("포인트 충전 - 너무 긴 Idempotency-Key 는 400")
+    void chargePoint_tooLongIdempotencyKey_badRequest() throws Exception {
+        mockMvc.perform(post("/point/1/charge")
+                        .header("Idempotency-Key", "k".repeat(256))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("amount", 10000L))))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(userPointService);
+    }
+}
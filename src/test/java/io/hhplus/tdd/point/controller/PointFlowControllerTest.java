@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.dto.PointFlowBucket;
+import io.hhplus.tdd.point.repository.PointFlowRollup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PointFlowController.class)
+class PointFlowControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    PointFlowRollup pointFlowRollup;
+
+    @Test
+    @DisplayName("포인트 흐름 조회 - 성공")
+    void flow_success() throws Exception {
+        Mockito.when(pointFlowRollup.query(PointFlowRollup.Resolution.HOUR, 0L, 7_200_000L))
+                .thenReturn(List.of(new PointFlowBucket(0L, 3000L, 2, 500L, 1), new PointFlowBucket(3_600_000L, 0L, 0, 0L, 0)));
+
+        mockMvc.perform(get("/point/flow")
+                        .param("resolution", "HOUR")
+                        .param("from", "0")
+                        .param("to", "7200000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].chargedAmount").value(3000L))
+                .andExpect(jsonPath("$[0].useCount").value(1))
+                .andExpect(jsonPath("$[1].startMillis").value(3_600_000L));
+    }
+
+    @Test
+    @DisplayName("포인트 흐름 조회 - 잘못된 기간")
+    void flow_invalidRange() throws Exception {
+        mockMvc.perform(get("/point/flow")
+                        .param("from", "7200000")
+                        .param("to", "7200000"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(pointFlowRollup);
+    }
+}
@@ -0,0 +1,81 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.service.UserPointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PointHistoryExportController.class)
+class PointHistoryExportControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    UserPointService userPointService;
+
+    private void givenHistories(List<Long> userIds, PointHistoryCondition condition, PointHistory... histories) {
+        Mockito.doAnswer(invocation -> {
+            Consumer<PointHistory> action = invocation.getArgument(2);
+            for (PointHistory history : histories) {
+                action.accept(history);
+            }
+            return null;
+        }).when(userPointService).exportTransactionHistories(eq(userIds), eq(condition), any());
+    }
+
+    @Test
+    @DisplayName("거래 내역 내보내기 - NDJSON")
+    void export_ndjson() throws Exception {
+        givenHistories(List.of(1L, 2L), PointHistoryCondition.none(),
+                new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 100L),
+                new PointHistory(2L, 2L, 500L, TransactionType.USE, 200L));
+
+        MvcResult result = mockMvc.perform(get("/point/histories/export").param("userIds", "1,2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(
+                        "{\"id\":1,\"userId\":1,\"amount\":1000,\"type\":\"CHARGE\",\"updateMillis\":100}\n"
+                                + "{\"id\":2,\"userId\":2,\"amount\":500,\"type\":\"USE\",\"updateMillis\":200}\n"));
+    }
+
+    @Test
+    @DisplayName("거래 내역 내보내기 - CSV, 사용자 ID 가 없으면 전체 사용자")
+    void export_csvForAllUsers() throws Exception {
+        PointHistoryCondition condition = new PointHistoryCondition(null, 100L, 300L, TransactionType.CHARGE);
+        Mockito.when(userPointService.getHistoryUserIds()).thenReturn(List.of(1L));
+        givenHistories(List.of(1L), condition,
+                new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 100L));
+
+        MvcResult result = mockMvc.perform(get("/point/histories/export")
+                        .param("format", "CSV")
+                        .param("from", "100")
+                        .param("to", "300")
+                        .param("type", "CHARGE"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("id,userId,amount,type,updateMillis\n1,1,1000,CHARGE,100\n"));
+    }
+}
@@ -0,0 +1,110 @@
+package io.hhplus.tdd.point.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationStatus;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.service.PointOperationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PointOperationController.class)
+class PointOperationControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    PointOperationService pointOperationService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("포인트 충전 접수 - 202 와 요청 ID")
+    void chargePoint_accepted() throws Exception {
+        PointOperation operation = new PointOperation(1L, 10000L, TransactionType.CHARGE);
+        Mockito.when(pointOperationService.submit(operation)).thenReturn(PointOperationStatus.pending("1-1", operation));
+
+        mockMvc.perform(post("/point/1/charge/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("amount", 10000L))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/point/operations/1-1"))
+                .andExpect(jsonPath("$.operationId").value("1-1"))
+                .andExpect(jsonPath("$.state").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("포인트 사용 접수 - 잘못된 요청")
+    void usePoint_invalidRequest() throws Exception {
+        mockMvc.perform(post("/point/1/use/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("amount", 0L))))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(pointOperationService);
+    }
+
+    @Test
+    @DisplayName("포인트 사용 접수 - 대기열이 가득 차면 503")
+    void usePoint_queueFull() throws Exception {
+        Mockito.when(pointOperationService.submit(any())).thenThrow(new RejectedExecutionException());
+
+        mockMvc.perform(post("/point/1/use/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("amount", 5000L))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @DisplayName("비동기 요청 상태 조회 - 처리가 끝나면 결과를 반환")
+    void status_succeeded() throws Exception {
+        PointOperation operation = new PointOperation(1L, 10000L, TransactionType.CHARGE);
+        Mockito.when(pointOperationService.awaitStatus("1-1", Duration.ofMillis(5000)))
+                .thenReturn(CompletableFuture.completedFuture(PointOperationStatus.succeeded("1-1", operation, new UserPoint(1L, 10000L, 5L))));
+
+        MvcResult result = mockMvc.perform(get("/point/operations/1-1").param("waitMillis", "5000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.userPoint.point").value(10000L));
+    }
+
+    @Test
+    @DisplayName("비동기 요청 상태 조회 - 없는 요청은 404, 잘못된 대기 시간은 400")
+    void status_notFoundOrInvalidWait() throws Exception {
+        MvcResult notFound = mockMvc.perform(get("/point/operations/1-999"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(notFound))
+                .andExpect(status().isNotFound());
+
+        MvcResult invalidWait = mockMvc.perform(get("/point/operations/1-1").param("waitMillis", "30001"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(invalidWait))
+                .andExpect(status().isBadRequest());
+    }
+}
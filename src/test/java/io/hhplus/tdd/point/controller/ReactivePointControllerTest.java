@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.service.ReactiveUserPointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReactivePointController.class)
+class ReactivePointControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    ReactiveUserPointService reactiveUserPointService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("사용자 포인트 조회 - 성공")
+    void getUserPoint_success() throws Exception {
+        UserPoint userPoint = new UserPoint(1L, 10000L, System.currentTimeMillis());
+        Mockito.when(reactiveUserPointService.getUserPoint(1L)).thenReturn(Mono.just(userPoint));
+
+        MvcResult result = mockMvc.perform(get("/reactive/point/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.point").value(10000L));
+    }
+
+    @Test
+    @DisplayName("포인트 거래 내역 스트리밍 - 성공")
+    void history_success() throws Exception {
+        Mockito.when(reactiveUserPointService.streamTransactionHistory(1L)).thenReturn(Flux.just(
+                new PointHistory(2L, 1L, 500L, TransactionType.USE, 2L),
+                new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L)));
+
+        MvcResult result = mockMvc.perform(get("/reactive/point/1/histories").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"id\":2")))
+                .andExpect(content().string(containsString("\"id\":1")));
+    }
+
+    @Test
+    @DisplayName("포인트 충전 - 성공")
+    void chargePoint_success() throws Exception {
+        UserPoint userPoint = new UserPoint(1L, 20000L, System.currentTimeMillis());
+        Mockito.when(reactiveUserPointService.chargePoint(eq(1L), eq(10000L))).thenReturn(Mono.just(userPoint));
+
+        MvcResult result = mockMvc.perform(post("/reactive/point/1/charge")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("amount", 10000L))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(20000L));
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 잔액 부족 시 기존 API 와 같은 에러 응답")
+    void usePoint_insufficientBalance() throws Exception {
+        Mockito.when(reactiveUserPointService.usePoint(eq(1L), eq(5000L)))
+                .thenReturn(Mono.error(new IllegalArgumentException("잔액이 부족합니다. 현재 잔액: 0, 사용 금액: 5000")));
+
+        MvcResult result = mockMvc.perform(post("/reactive/point/1/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("amount", 5000L))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.code").value("500"));
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 잘못된 요청")
+    void usePoint_invalidRequest() throws Exception {
+        MvcResult result = mockMvc.perform(post("/reactive/point/1/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("amount", 0L))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(reactiveUserPointService);
+    }
+}
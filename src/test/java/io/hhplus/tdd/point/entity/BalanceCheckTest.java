@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BalanceCheck 테스트")
+class BalanceCheckTest {
+
+    @Test
+    @DisplayName("거절 결과는 사유 메시지를 만들고 OK 는 메시지가 없다")
+    void message_ByResult() {
+        assertThat(BalanceCheck.OK.message(1000L, 500L)).isNull();
+        assertThat(BalanceCheck.INSUFFICIENT_BALANCE.message(1000L, 2000L)).isEqualTo("잔액이 부족합니다. 현재 잔액: 1000, 사용 금액: 2000");
+        assertThat(BalanceCheck.EXCEEDS_MAX_POINT.message(9_999_000L, 2000L)).isEqualTo("최대 잔고는 10,000,000 포인트 입니다.");
+    }
+
+    @Test
+    @DisplayName("거절 예외는 IllegalArgumentException 이고 stack trace 를 만들지 않는다")
+    void exception_IsCheapIllegalArgumentException() {
+        // when
+        BalanceCheck.RejectedException exception = BalanceCheck.INSUFFICIENT_BALANCE.exception(0L, 100L);
+
+        // then
+        assertThat(exception).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잔액이 부족합니다. 현재 잔액: 0, 사용 금액: 100");
+        assertThat(exception.check()).isEqualTo(BalanceCheck.INSUFFICIENT_BALANCE);
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("OK 결과로 예외를 만들면 IllegalStateException 이 발생한다")
+    void exception_Ok_ThrowsIllegalState() {
+        assertThatThrownBy(() -> BalanceCheck.OK.exception(0L, 100L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
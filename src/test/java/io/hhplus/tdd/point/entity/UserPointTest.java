@@ -85,6 +85,32 @@ class UserPointTest {
                 .hasMessageContaining("잔액이 부족합니다");
     }
 
+    @Test
+    @DisplayName("check() 는 충전이 최대 포인트를 넘거나 사용 금액이 잔액보다 크면 거절 결과를 반환한다")
+    void check_ReturnsRejectionWithoutThrowing() {
+        UserPoint userPoint = new UserPoint(1L, 1000L, System.currentTimeMillis());
+
+        assertThat(userPoint.check(TransactionType.CHARGE, UserPoint.getMaxPoint() - 1000L)).isEqualTo(BalanceCheck.OK);
+        assertThat(userPoint.check(TransactionType.CHARGE, UserPoint.getMaxPoint() - 999L)).isEqualTo(BalanceCheck.EXCEEDS_MAX_POINT);
+        assertThat(userPoint.check(TransactionType.CHARGE, Long.MAX_VALUE)).isEqualTo(BalanceCheck.EXCEEDS_MAX_POINT);
+        assertThat(userPoint.check(TransactionType.USE, 1000L)).isEqualTo(BalanceCheck.OK);
+        assertThat(userPoint.check(TransactionType.USE, 1001L)).isEqualTo(BalanceCheck.INSUFFICIENT_BALANCE);
+    }
+
+    @Test
+    @DisplayName("apply() 는 거절되면 거절 사유를 담은 예외를 발생시킨다")
+    void apply_Rejected_ThrowsWithReason() {
+        UserPoint userPoint = new UserPoint(1L, 1000L, 1L);
+
+        assertThat(userPoint.apply(TransactionType.USE, 400L)).isEqualTo(new UserPoint(1L, 600L, 1L));
+        assertThatThrownBy(() -> userPoint.apply(TransactionType.USE, 2000L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잔액이 부족합니다. 현재 잔액: 1000, 사용 금액: 2000");
+        assertThatThrownBy(() -> userPoint.apply(TransactionType.CHARGE, UserPoint.getMaxPoint()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("최대 잔고는 10,000,000 포인트 입니다.");
+    }
+
     @Test
     @DisplayName("equals() 메서드가 정상적으로 동작한다")
     void equals_ReturnsCorrectValue() {
@@ -0,0 +1,123 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JournaledPointHistoryRepository 테스트")
+class JournaledPointHistoryRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private PointHistoryRepository delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PointHistoryRepository.class);
+        when(delegate.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    @DisplayName("재시작 시 저널로 거래 내역을 순서대로 다시 기록하고 사용자별 잔액을 한 번씩 저장한다")
+    void recover_RebuildsHistoriesAndBalances() throws Exception {
+        // given
+        Path path = directory.resolve("point.journal");
+        try (JournaledPointHistoryRepository repository = new JournaledPointHistoryRepository(delegate, new PointJournal(path, 100, 16))) {
+            repository.insert(1L, 1000L, TransactionType.CHARGE, 10L).get(5, TimeUnit.SECONDS);
+            repository.insert(2L, 500L, TransactionType.CHARGE, 11L).get(5, TimeUnit.SECONDS);
+            repository.insert(1L, 300L, TransactionType.USE, 12L).get(5, TimeUnit.SECONDS);
+        }
+        PointHistoryRepository restarted = mock(PointHistoryRepository.class);
+        when(restarted.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        UserPointRepository userPointRepository = mock(UserPointRepository.class);
+
+        // when
+        long recovered;
+        try (JournaledPointHistoryRepository repository = new JournaledPointHistoryRepository(restarted, new PointJournal(path, 100, 16))) {
+            recovered = repository.recover(userPointRepository);
+        }
+
+        // then
+        assertThat(recovered).isEqualTo(3);
+        InOrder inOrder = inOrder(restarted);
+        inOrder.verify(restarted).insert(1L, 1000L, TransactionType.CHARGE, 10L);
+        inOrder.verify(restarted).insert(2L, 500L, TransactionType.CHARGE, 11L);
+        inOrder.verify(restarted).insert(1L, 300L, TransactionType.USE, 12L);
+        verify(userPointRepository, times(1)).insertOrUpdate(1L, 700L);
+        verify(userPointRepository, times(1)).insertOrUpdate(2L, 500L);
+    }
+
+    @Test
+    @DisplayName("감싼 저장소 기록이 끝나지 않으면 insert 도 완료되지 않는다")
+    void insert_WaitsForDelegate() throws Exception {
+        // given
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        when(delegate.insert(anyLong(), anyLong(), any(), anyLong())).thenReturn(written);
+
+        try (JournaledPointHistoryRepository repository = new JournaledPointHistoryRepository(delegate, new PointJournal(directory.resolve("point.journal"), 100, 16))) {
+            // when
+            CompletableFuture<Void> inserted = repository.insert(1L, 1000L, TransactionType.CHARGE, 10L);
+
+            // then
+            assertThatThrownBy(() -> inserted.get(200, TimeUnit.MILLISECONDS))
+                    .isInstanceOf(TimeoutException.class);
+            written.complete(null);
+            inserted.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("tail 만 다시 기록하면 스냅샷 이전 거래 내역은 forEachUnreplayed 로 저널에서 읽는다")
+    void recover_TailOnly_ExposesUnreplayedRecords() throws Exception {
+        // given
+        Path journalPath = directory.resolve("point.journal");
+        Path snapshotPath = directory.resolve("point.snapshot");
+        try (PointJournal journal = new PointJournal(journalPath, 100, 16)) {
+            JournaledPointHistoryRepository repository = new JournaledPointHistoryRepository(delegate, journal);
+            repository.insert(1L, 1000L, TransactionType.CHARGE, 10L).get(5, TimeUnit.SECONDS);
+            repository.insert(2L, 500L, TransactionType.CHARGE, 11L).get(5, TimeUnit.SECONDS);
+            new PointSnapshotter(journal, snapshotPath, Duration.ofHours(1)).snapshot();
+            repository.insert(1L, 300L, TransactionType.USE, 12L).get(5, TimeUnit.SECONDS);
+        }
+        PointHistoryRepository restarted = mock(PointHistoryRepository.class);
+        when(restarted.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        long recovered;
+        List<JournalRecord> unreplayed = new ArrayList<>();
+        PointJournal journal = new PointJournal(journalPath, 100, 16);
+        try (JournaledPointHistoryRepository repository = new JournaledPointHistoryRepository(
+                restarted, journal, new PointSnapshotter(journal, snapshotPath, Duration.ofHours(1)))) {
+            recovered = repository.recover(mock(UserPointRepository.class), false);
+            repository.forEachUnreplayed(unreplayed::add);
+        }
+
+        // then
+        assertThat(recovered).isEqualTo(1);
+        verify(restarted, times(1)).insert(1L, 300L, TransactionType.USE, 12L);
+        assertThat(unreplayed).containsExactly(
+                new JournalRecord(1L, 1000L, TransactionType.CHARGE, 10L),
+                new JournalRecord(2L, 500L, TransactionType.CHARGE, 11L));
+    }
+}
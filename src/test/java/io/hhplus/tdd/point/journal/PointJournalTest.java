@@ -0,0 +1,180 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PointJournal 테스트")
+class PointJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록한 레코드를 다시 열어 순서대로 읽는다")
+    void append_ThenReplayAfterReopen() throws Exception {
+        // given
+        Path path = directory.resolve("point.journal");
+        try (PointJournal journal = new PointJournal(path, 100, 16)) {
+            journal.append(1L, 1000L, TransactionType.CHARGE, 10L).get(5, TimeUnit.SECONDS);
+            journal.append(1L, 300L, TransactionType.USE, 11L).get(5, TimeUnit.SECONDS);
+            journal.append(2L, 500L, TransactionType.CHARGE, 12L).get(5, TimeUnit.SECONDS);
+        }
+
+        // when
+        List<JournalRecord> records = new ArrayList<>();
+        try (PointJournal journal = new PointJournal(path, 100, 16)) {
+            journal.replay(records::add);
+        }
+
+        // then
+        assertThat(records).containsExactly(
+                new JournalRecord(1L, 1000L, TransactionType.CHARGE, 10L),
+                new JournalRecord(1L, 300L, TransactionType.USE, 11L),
+                new JournalRecord(2L, 500L, TransactionType.CHARGE, 12L));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 레코드는 fsync 한 번에 묶여 ack 된다")
+    void concurrentAppends_GroupedIntoFewerSyncs() throws Exception {
+        // given
+        int count = 1000;
+        try (PointJournal journal = new PointJournal(directory.resolve("point.journal"), count, 256)) {
+            List<CompletableFuture<Void>> synced = new ArrayList<>(count);
+
+            // when
+            for (int i = 0; i < count; i++) {
+                synced.add(journal.append(i, 1L, TransactionType.CHARGE, i));
+            }
+            CompletableFuture.allOf(synced.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(journal.recordCount()).isEqualTo(count);
+            assertThat(journal.syncCount()).isLessThan(count);
+        }
+    }
+
+    @Test
+    @DisplayName("쓰다 만 마지막 레코드는 다시 열 때 잘려 나가고 이후 기록이 이어진다")
+    void tornTail_TruncatedOnOpen() throws Exception {
+        // given
+        Path path = directory.resolve("point.journal");
+        try (PointJournal journal = new PointJournal(path, 100, 16)) {
+            journal.append(1L, 1000L, TransactionType.CHARGE, 10L).get(5, TimeUnit.SECONDS);
+        }
+        appendGarbage(directory.resolve("point.journal.00000000000000000000"), PointJournal.RECORD_SIZE - 3);
+
+        // when
+        List<JournalRecord> records = new ArrayList<>();
+        try (PointJournal journal = new PointJournal(path, 100, 16)) {
+            journal.append(2L, 500L, TransactionType.CHARGE, 11L).get(5, TimeUnit.SECONDS);
+            journal.replay(records::add);
+        }
+
+        // then
+        assertThat(records).extracting(JournalRecord::userId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("종료된 저널에는 기록할 수 없다")
+    void append_AfterClose_ThrowsException() throws Exception {
+        // given
+        PointJournal journal = new PointJournal(directory.resolve("point.journal"), 100, 16);
+        journal.close();
+
+        // when & then
+        assertThatThrownBy(() -> journal.append(1L, 1000L, TransactionType.CHARGE, 10L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("segment 크기를 넘으면 새 파일로 이어 쓰고 다시 열어도 레코드 번호와 순서가 유지된다")
+    void append_RollsOverSegments() throws Exception {
+        // given
+        Path path = directory.resolve("point.journal");
+        try (PointJournal journal = new PointJournal(path, 100, 4, 3)) {
+            for (int i = 0; i < 7; i++) {
+                journal.append(i, 1L, TransactionType.CHARGE, i).get(5, TimeUnit.SECONDS);
+            }
+        }
+
+        // when
+        List<JournalRecord> records = new ArrayList<>();
+        long recordCount;
+        int segmentCount;
+        try (PointJournal journal = new PointJournal(path, 100, 4, 3)) {
+            journal.replay(2, 5, records::add);
+            recordCount = journal.recordCount();
+            segmentCount = journal.segmentCount();
+        }
+
+        // then
+        assertThat(records).extracting(JournalRecord::userId).containsExactly(2L, 3L, 4L);
+        assertThat(recordCount).isEqualTo(7);
+        assertThat(segmentCount).isEqualTo(3);
+        assertThat(directory.resolve("point.journal.00000000000000000003")).exists();
+    }
+
+    @Test
+    @DisplayName("지정한 레코드 이전만 담은 segment 를 지우고 쓰고 있는 segment 는 남긴다")
+    void deleteSegmentsBefore_KeepsUncoveredSegments() throws Exception {
+        // given
+        try (PointJournal journal = new PointJournal(directory.resolve("point.journal"), 100, 4, 3)) {
+            for (int i = 0; i < 7; i++) {
+                journal.append(i, 1L, TransactionType.CHARGE, i).get(5, TimeUnit.SECONDS);
+            }
+
+            // when
+            int deleted = journal.deleteSegmentsBefore(5);
+            List<JournalRecord> records = new ArrayList<>();
+            journal.replay(records::add);
+
+            // then
+            assertThat(deleted).isEqualTo(1);
+            assertThat(journal.firstRecord()).isEqualTo(3);
+            assertThat(journal.recordCount()).isEqualTo(7);
+            assertThat(records).extracting(JournalRecord::userId).containsExactly(3L, 4L, 5L, 6L);
+        }
+    }
+
+    @Test
+    @DisplayName("segment 로 나누기 전의 단일 저널 파일은 첫 segment 로 이어서 사용한다")
+    void legacyFile_OpenedAsFirstSegment() throws Exception {
+        // given
+        Path path = directory.resolve("point.journal");
+        try (PointJournal journal = new PointJournal(path, 100, 16)) {
+            journal.append(1L, 1000L, TransactionType.CHARGE, 10L).get(5, TimeUnit.SECONDS);
+        }
+        Files.move(directory.resolve("point.journal.00000000000000000000"), path);
+
+        // when
+        List<JournalRecord> records = new ArrayList<>();
+        try (PointJournal journal = new PointJournal(path, 100, 16)) {
+            journal.replay(records::add);
+        }
+
+        // then
+        assertThat(records).containsExactly(new JournalRecord(1L, 1000L, TransactionType.CHARGE, 10L));
+        assertThat(path).doesNotExist();
+    }
+
+    private static void appendGarbage(Path path, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[length]));
+        }
+    }
+}
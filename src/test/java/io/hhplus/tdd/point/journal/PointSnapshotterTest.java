@@ -0,0 +1,144 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PointSnapshotter 테스트")
+class PointSnapshotterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("스냅샷과 이후 저널(tail)로 사용자별 잔액을 복구한다")
+    void restore_SnapshotPlusTail() throws Exception {
+        // given
+        Path journalPath = directory.resolve("point.journal");
+        Path snapshotPath = directory.resolve("point.snapshot");
+        try (PointJournal journal = new PointJournal(journalPath, 100, 16)) {
+            journal.append(1L, 1000L, TransactionType.CHARGE, 10L).get(5, TimeUnit.SECONDS);
+            journal.append(2L, 500L, TransactionType.CHARGE, 11L).get(5, TimeUnit.SECONDS);
+            PointSnapshotter snapshotter = new PointSnapshotter(journal, snapshotPath, Duration.ofHours(1));
+            snapshotter.snapshot();
+            journal.append(1L, 300L, TransactionType.USE, 12L).get(5, TimeUnit.SECONDS);
+        }
+
+        // when
+        Map<Long, Long> balances = new HashMap<>();
+        long mark;
+        try (PointJournal journal = new PointJournal(journalPath, 100, 16)) {
+            PointSnapshotter snapshotter = new PointSnapshotter(journal, snapshotPath, Duration.ofHours(1));
+            mark = snapshotter.restore();
+            snapshotter.forEachBalance(balances::put);
+        }
+
+        // then
+        assertThat(mark).isEqualTo(2);
+        assertThat(balances).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 700L, 2L, 500L));
+    }
+
+    @Test
+    @DisplayName("손상된 스냅샷은 무시하고 저널 처음부터 잔액을 복구한다")
+    void restore_CorruptSnapshot_FoldsWholeJournal() throws Exception {
+        // given
+        Path journalPath = directory.resolve("point.journal");
+        Path snapshotPath = directory.resolve("point.snapshot");
+        try (PointJournal journal = new PointJournal(journalPath, 100, 16)) {
+            journal.append(1L, 1000L, TransactionType.CHARGE, 10L).get(5, TimeUnit.SECONDS);
+            new PointSnapshotter(journal, snapshotPath, Duration.ofHours(1)).snapshot();
+        }
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        bytes[bytes.length - 10] ^= 1;
+        Files.write(snapshotPath, bytes);
+
+        // when
+        Map<Long, Long> balances = new HashMap<>();
+        long mark;
+        try (PointJournal journal = new PointJournal(journalPath, 100, 16)) {
+            PointSnapshotter snapshotter = new PointSnapshotter(journal, snapshotPath, Duration.ofHours(1));
+            mark = snapshotter.restore();
+            snapshotter.forEachBalance(balances::put);
+        }
+
+        // then
+        assertThat(mark).isZero();
+        assertThat(balances).containsExactlyEntriesOf(Map.of(1L, 1000L));
+    }
+
+    @Test
+    @DisplayName("close 시 fsync 된 저널까지 반영한 마지막 스냅샷을 남긴다")
+    void close_WritesFinalSnapshot() throws Exception {
+        // given
+        Path snapshotPath = directory.resolve("point.snapshot");
+        try (PointJournal journal = new PointJournal(directory.resolve("point.journal"), 100, 16)) {
+            PointSnapshotter snapshotter = new PointSnapshotter(journal, snapshotPath, Duration.ofHours(1));
+            journal.append(1L, 1000L, TransactionType.CHARGE, 10L).get(5, TimeUnit.SECONDS);
+
+            // when
+            snapshotter.close();
+
+            // then
+            assertThat(snapshotPath).exists();
+            assertThat(snapshotter.mark()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷을 쓴 뒤 스냅샷에 포함된 저널 segment 를 지우고, 재시작 시 스냅샷 + tail 로 잔액을 복구한다")
+    void snapshot_DeletesCoveredSegments() throws Exception {
+        // given
+        Path journalPath = directory.resolve("point.journal");
+        Path snapshotPath = directory.resolve("point.snapshot");
+        try (PointJournal journal = new PointJournal(journalPath, 100, 16, 2)) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(1L, 100L, TransactionType.CHARGE, i).get(5, TimeUnit.SECONDS);
+            }
+
+            // when
+            new PointSnapshotter(journal, snapshotPath, Duration.ofHours(1), true).snapshot();
+            journal.append(1L, 50L, TransactionType.USE, 5L).get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(journal.firstRecord()).isEqualTo(4);
+        }
+        Map<Long, Long> balances = new HashMap<>();
+        try (PointJournal journal = new PointJournal(journalPath, 100, 16, 2)) {
+            PointSnapshotter snapshotter = new PointSnapshotter(journal, snapshotPath, Duration.ofHours(1));
+            assertThat(snapshotter.restore()).isEqualTo(5);
+            snapshotter.forEachBalance(balances::put);
+        }
+        assertThat(balances).containsExactlyEntriesOf(Map.of(1L, 450L));
+    }
+
+    @Test
+    @DisplayName("저널 앞부분이 지워졌는데 스냅샷이 없으면 잘못된 잔액으로 복구하지 않고 실패한다")
+    void restore_MissingSnapshotAfterCompaction_Throws() throws Exception {
+        // given
+        Path journalPath = directory.resolve("point.journal");
+        Path snapshotPath = directory.resolve("point.snapshot");
+        try (PointJournal journal = new PointJournal(journalPath, 100, 16, 2)) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(1L, 100L, TransactionType.CHARGE, i).get(5, TimeUnit.SECONDS);
+            }
+            new PointSnapshotter(journal, snapshotPath, Duration.ofHours(1), true).snapshot();
+        }
+        Files.delete(snapshotPath);
+
+        // when & then
+        try (PointJournal journal = new PointJournal(journalPath, 100, 16, 2)) {
+            PointSnapshotter snapshotter = new PointSnapshotter(journal, snapshotPath, Duration.ofHours(1));
+            assertThatThrownBy(snapshotter::restore).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AcknowledgedFuture 테스트")
+class AcknowledgedFutureTest {
+
+    @Test
+    @DisplayName("공유 ack future 는 완료 상태이고 다른 값이나 예외로 바꿀 수 없다")
+    void instance_CannotBeChanged() {
+        // given
+        CompletableFuture<Void> acknowledged = AcknowledgedFuture.INSTANCE;
+
+        // when & then
+        assertThat(acknowledged.complete(null)).isFalse();
+        assertThat(acknowledged.completeExceptionally(new IllegalStateException())).isFalse();
+        assertThat(acknowledged.cancel(true)).isFalse();
+        assertThatThrownBy(() -> acknowledged.obtrudeValue(null)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> acknowledged.obtrudeException(new IllegalStateException()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(acknowledged).isCompletedWithValue(null);
+    }
+
+    @Test
+    @DisplayName("이어 붙인 단계는 공유 future 와 별개의 일반 future 다")
+    void dependentStage_IsPlainFuture() {
+        // when
+        CompletableFuture<String> next = AcknowledgedFuture.INSTANCE.thenApply(ignored -> "ok");
+
+        // then
+        assertThat(next).isNotInstanceOf(AcknowledgedFuture.class);
+        next.obtrudeValue("changed");
+        assertThat(next.join()).isEqualTo("changed");
+        assertThat(AcknowledgedFuture.INSTANCE).isCompletedWithValue(null);
+    }
+}
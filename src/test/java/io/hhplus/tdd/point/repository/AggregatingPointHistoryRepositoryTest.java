@@ -0,0 +1,156 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointFlowBucket;
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AggregatingPointHistoryRepository 테스트")
+class AggregatingPointHistoryRepositoryTest {
+
+    @Test
+    @DisplayName("기록이 ack 되면 합계에 반영되고 요약 조회는 거래 내역을 읽지 않는다")
+    void insert_UpdatesSummaryWithoutReadingHistory() {
+        // given
+        PointHistoryRepository delegate = mock(PointHistoryRepository.class);
+        when(delegate.selectUserIds()).thenReturn(List.of());
+        when(delegate.insert(anyLong(), anyLong(), any(), anyLong())).thenReturn(CompletableFuture.completedFuture(null));
+        AggregatingPointHistoryRepository repository = new AggregatingPointHistoryRepository(delegate, 0, ZoneOffset.UTC);
+
+        // when
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 1L).join();
+        repository.insert(1L, 400L, TransactionType.USE, 2L).join();
+        PointHistorySummary summary = repository.summarizeByUserId(1L);
+
+        // then
+        assertThat(summary.charge()).isEqualTo(new PointHistorySummary.Totals(1000L, 1, 1L, 1L));
+        assertThat(summary.use()).isEqualTo(new PointHistorySummary.Totals(400L, 1, 2L, 2L));
+        verify(delegate, never()).selectAllByUserId(anyLong());
+        verify(delegate, never()).forEachByUserId(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("PointFlowRollup 을 주면 전체 분/시간 단위 합계에도 더한다")
+    void insert_WithRollup_AddsToRollup() {
+        // given
+        PointHistoryRepository delegate = mock(PointHistoryRepository.class);
+        when(delegate.selectUserIds()).thenReturn(List.of());
+        when(delegate.insert(anyLong(), anyLong(), any(), anyLong())).thenReturn(CompletableFuture.completedFuture(null));
+        PointFlowRollup rollup = new PointFlowRollup(60, 24, 1);
+        AggregatingPointHistoryRepository repository = new AggregatingPointHistoryRepository(delegate, 0, ZoneOffset.UTC, rollup);
+
+        // when
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 60_000L).join();
+        repository.insert(2L, 400L, TransactionType.USE, 90_000L).join();
+
+        // then
+        assertThat(rollup.query(PointFlowRollup.Resolution.MINUTE, 60_000L, 120_000L))
+                .containsExactly(new PointFlowBucket(60_000L, 1000L, 1, 400L, 1));
+    }
+
+    @Test
+    @DisplayName("감싼 저장소가 바로 ack 하면 받은 future 를 그대로 돌려주고 합계에 바로 반영한다")
+    void insert_AlreadyAcknowledged_ReturnsSameFuture() {
+        // given
+        PointHistoryRepository delegate = mock(PointHistoryRepository.class);
+        when(delegate.selectUserIds()).thenReturn(List.of());
+        when(delegate.insert(anyLong(), anyLong(), any(), anyLong())).thenReturn(AcknowledgedFuture.INSTANCE);
+        AggregatingPointHistoryRepository repository = new AggregatingPointHistoryRepository(delegate, 0, ZoneOffset.UTC);
+
+        // when
+        CompletableFuture<Void> inserted = repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+
+        // then
+        assertThat(inserted).isSameAs(AcknowledgedFuture.INSTANCE);
+        assertThat(repository.summarizeByUserId(1L).charge().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ack 가 늦으면 ack 된 뒤에 합계에 반영한다")
+    void insert_PendingAck_CountedAfterAck() {
+        // given
+        PointHistoryRepository delegate = mock(PointHistoryRepository.class);
+        when(delegate.selectUserIds()).thenReturn(List.of());
+        CompletableFuture<Void> ack = new CompletableFuture<>();
+        when(delegate.insert(anyLong(), anyLong(), any(), anyLong())).thenReturn(ack);
+        AggregatingPointHistoryRepository repository = new AggregatingPointHistoryRepository(delegate, 0, ZoneOffset.UTC);
+
+        // when
+        CompletableFuture<Void> inserted = repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+        long countBeforeAck = repository.summarizeByUserId(1L).charge().count();
+        ack.complete(null);
+
+        // then
+        assertThat(countBeforeAck).isZero();
+        assertThat(inserted).isCompleted();
+        assertThat(repository.summarizeByUserId(1L).charge().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기록이 실패하면 합계에 반영하지 않는다")
+    void insert_Failed_NotCounted() {
+        // given
+        PointHistoryRepository delegate = mock(PointHistoryRepository.class);
+        when(delegate.selectUserIds()).thenReturn(List.of());
+        when(delegate.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("기록 실패")));
+        AggregatingPointHistoryRepository repository = new AggregatingPointHistoryRepository(delegate, 0, ZoneOffset.UTC);
+
+        // when
+        CompletableFuture<Void> inserted = repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+
+        // then
+        assertThat(inserted).isCompletedExceptionally();
+        assertThat(repository.summarizeByUserId(1L).charge().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("만들 때 감싼 저장소에 이미 있는 거래 내역으로 합계를 채운다")
+    @SuppressWarnings("unchecked")
+    void constructor_SeedsFromExistingHistory() {
+        // given
+        PointHistoryRepository delegate = mock(PointHistoryRepository.class);
+        when(delegate.selectUserIds()).thenReturn(List.of(1L));
+        doAnswer(invocation -> {
+            Consumer<PointHistory> action = invocation.getArgument(2);
+            action.accept(new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L));
+            action.accept(new PointHistory(2L, 1L, 2000L, TransactionType.CHARGE, 2L));
+            return null;
+        }).when(delegate).forEachByUserId(eq(1L), any(), any());
+
+        // when
+        AggregatingPointHistoryRepository repository = new AggregatingPointHistoryRepository(delegate, 0, ZoneOffset.UTC);
+
+        // then
+        assertThat(repository.summarizeByUserId(1L).charge()).isEqualTo(new PointHistorySummary.Totals(3000L, 2, 1L, 2L));
+        assertThat(repository.summarizeByUserId(2L).charge().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("감싼 저장소에 없는 지난 거래 내역은 addRecovered 로 합계에만 더한다")
+    void addRecovered_AddsToSummaryOnly() {
+        // given
+        PointHistoryRepository delegate = mock(PointHistoryRepository.class);
+        when(delegate.selectUserIds()).thenReturn(List.of());
+        AggregatingPointHistoryRepository repository = new AggregatingPointHistoryRepository(delegate, 0, ZoneOffset.UTC);
+
+        // when
+        repository.addRecovered(1L, 1000L, TransactionType.CHARGE, 1L);
+        PointHistorySummary summary = repository.summarizeByUserId(1L);
+
+        // then
+        assertThat(summary.charge()).isEqualTo(new PointHistorySummary.Totals(1000L, 1, 1L, 1L));
+        verify(delegate, never()).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+}
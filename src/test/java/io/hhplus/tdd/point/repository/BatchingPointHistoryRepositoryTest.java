@@ -0,0 +1,153 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.repository.BatchingPointHistoryRepository.Durability;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BatchingPointHistoryRepository 테스트")
+class BatchingPointHistoryRepositoryTest {
+
+    @Test
+    @DisplayName("ENQUEUE 모드는 기록을 기다리지 않고 바로 ack 한다")
+    void insert_EnqueueDurability_AcksImmediately() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        PointHistoryRepository delegate = mock(PointHistoryRepository.class);
+        when(delegate.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> {
+            release.await();
+            return CompletableFuture.completedFuture(null);
+        });
+        BatchingPointHistoryRepository repository = new BatchingPointHistoryRepository(delegate, 16, 8, Durability.ENQUEUE);
+
+        // when
+        CompletableFuture<Void> ack = repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+
+        // then
+        assertThat(ack).isDone();
+
+        release.countDown();
+        repository.close();
+        verify(delegate).insert(1L, 1000L, TransactionType.CHARGE, 1L);
+    }
+
+    @Test
+    @DisplayName("APPEND 모드는 저장소에 기록된 뒤 ack 한다")
+    void insert_AppendDurability_AcksAfterAppend() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        PointHistoryRepository delegate = mock(PointHistoryRepository.class);
+        when(delegate.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> {
+            release.await();
+            return CompletableFuture.completedFuture(null);
+        });
+        BatchingPointHistoryRepository repository = new BatchingPointHistoryRepository(delegate, 16, 8, Durability.APPEND);
+
+        // when
+        CompletableFuture<Void> ack = repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+
+        // then
+        assertThat(ack).isNotDone();
+        release.countDown();
+        ack.get(5, TimeUnit.SECONDS);
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("대기열에 들어간 순서대로 기록된다")
+    void insert_PreservesOrder() throws InterruptedException {
+        // given
+        PointHistoryTable table = new PointHistoryTable();
+        BatchingPointHistoryRepository repository =
+                new BatchingPointHistoryRepository(new TablePointHistoryRepository(table), 16, 4, Durability.ENQUEUE);
+
+        // when
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+        repository.insert(1L, 500L, TransactionType.USE, 2L);
+        repository.insert(1L, 300L, TransactionType.USE, 3L);
+        repository.close();
+
+        // then
+        List<PointHistory> histories = repository.selectAllByUserId(1L);
+        assertThat(histories).extracting(PointHistory::amount).containsExactly(1000L, 500L, 300L);
+    }
+
+    @Test
+    @DisplayName("저장소 기록이 실패하면 APPEND ack 가 예외로 완료된다")
+    void insert_AppendFailure_CompletesExceptionally() throws InterruptedException {
+        // given
+        PointHistoryRepository delegate = mock(PointHistoryRepository.class);
+        when(delegate.insert(anyLong(), anyLong(), any(), anyLong())).thenThrow(new IllegalStateException("기록 실패"));
+        BatchingPointHistoryRepository repository = new BatchingPointHistoryRepository(delegate, 16, 8, Durability.APPEND);
+
+        // when
+        CompletableFuture<Void> ack = repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+
+        // then
+        assertThatThrownBy(ack::join).hasCauseInstanceOf(IllegalStateException.class);
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("종료된 저장소에는 거래 내역을 추가할 수 없다")
+    void insert_AfterClose_Throws() throws InterruptedException {
+        // given
+        BatchingPointHistoryRepository repository =
+                new BatchingPointHistoryRepository(mock(PointHistoryRepository.class), 16, 8, Durability.ENQUEUE);
+        repository.close();
+
+        // when & then
+        assertThatThrownBy(() -> repository.insert(1L, 1000L, TransactionType.CHARGE, 1L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("종료와 동시에 들어온 APPEND 적재는 거절되거나 반드시 기록된다")
+    void insert_RacingClose_NeverLeavesAckPending() throws Exception {
+        // given
+        PointHistoryRepository delegate = mock(PointHistoryRepository.class);
+        when(delegate.insert(anyLong(), anyLong(), any(), anyLong())).thenReturn(CompletableFuture.completedFuture(null));
+        BatchingPointHistoryRepository repository = new BatchingPointHistoryRepository(delegate, 4, 2, Durability.APPEND);
+        int threadCount = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> acks = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            long userId = i + 1;
+            executor.submit(() -> {
+                start.await();
+                while (true) {
+                    try {
+                        acks.add(repository.insert(userId, 1L, TransactionType.CHARGE, 1L));
+                    } catch (IllegalStateException e) {
+                        return null;
+                    }
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        Thread.sleep(20);
+        repository.close();
+        executor.shutdown();
+
+        // then
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(acks).allSatisfy(ack -> assertThat(ack).isDone());
+    }
+}
@@ -0,0 +1,138 @@
+package io.hhplus.tdd.point.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BoundedSegmentedMap 테스트")
+class BoundedSegmentedMapTest {
+
+    @Test
+    @DisplayName("삽입 순서 segment 는 크기를 넘으면 가장 먼저 넣은 항목을 제거한다")
+    void put_OverMaxSize_EvictsHead() {
+        // given
+        BoundedSegmentedMap<String, Integer> map = new BoundedSegmentedMap<>(2, 1, false);
+        BoundedSegmentedMap.Segment<String, Integer> segment = map.segment("a");
+        segment.lock();
+        try {
+            segment.put("a", 1);
+            segment.put("b", 2);
+            segment.get("a");
+
+            // when
+            segment.put("c", 3);
+
+            // then
+            assertThat(segment.containsKey("a")).isFalse();
+            assertThat(segment.containsKey("b")).isTrue();
+        } finally {
+            segment.unlock();
+        }
+        assertThat(map.evictions()).isEqualTo(1);
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("지울 수 없는 항목은 건너뛰고, 모두 지울 수 없으면 새 키를 넣지 않는다")
+    void put_SkipsNonEvictable() {
+        // given
+        BoundedSegmentedMap<String, Integer> map = new BoundedSegmentedMap<>(2, 1, false, value -> value > 0);
+        BoundedSegmentedMap.Segment<String, Integer> segment = map.segment("a");
+        segment.lock();
+        try {
+            segment.put("a", 0);
+            segment.put("b", 1);
+
+            // when
+            boolean putC = segment.put("c", 0);
+            boolean putD = segment.put("d", 2);
+
+            // then
+            assertThat(putC).isTrue();
+            assertThat(putD).isFalse();
+            assertThat(segment.containsKey("a")).isTrue();
+            assertThat(segment.containsKey("b")).isFalse();
+            assertThat(segment.containsKey("d")).isFalse();
+            assertThat(segment.put("a", 3)).isTrue();
+        } finally {
+            segment.unlock();
+        }
+        assertThat(map.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("expireHead 는 앞에서부터 만료된 항목만 지우고 처음 만난 살아 있는 항목에서 멈춘다")
+    void expireHead_StopsAtFirstLiveEntry() {
+        // given
+        BoundedSegmentedMap<String, Integer> map = new BoundedSegmentedMap<>(10, 1, false);
+        BoundedSegmentedMap.Segment<String, Integer> segment = map.segment("a");
+        segment.lock();
+        try {
+            segment.put("a", 1);
+            segment.put("b", 5);
+            segment.put("c", 2);
+
+            // when
+            segment.expireHead(value -> value < 3);
+        } finally {
+            segment.unlock();
+        }
+
+        // then
+        assertThat(map.expirations()).isEqualTo(1);
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("expireHead 는 지울 수 없는 항목을 건너뛰고 그 뒤의 만료된 항목까지 지운다")
+    void expireHead_SkipsNonEvictable() {
+        // given
+        BoundedSegmentedMap<String, Integer> map = new BoundedSegmentedMap<>(10, 1, false, value -> value > 0);
+        BoundedSegmentedMap.Segment<String, Integer> segment = map.segment("a");
+        segment.lock();
+        try {
+            segment.put("a", 0);
+            segment.put("b", 1);
+            segment.put("c", 5);
+            segment.put("d", 2);
+
+            // when
+            segment.expireHead(value -> value < 3);
+
+            // then
+            assertThat(segment.containsKey("a")).isTrue();
+            assertThat(segment.containsKey("b")).isFalse();
+            assertThat(segment.containsKey("c")).isTrue();
+            assertThat(segment.containsKey("d")).isTrue();
+        } finally {
+            segment.unlock();
+        }
+        assertThat(map.expirations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제거/크기 지표를 이름 아래에 등록한다")
+    void bindTo_RegistersEvictionAndSizeMeters() {
+        // given
+        MeterRegistry registry = new SimpleMeterRegistry();
+        BoundedSegmentedMap<String, Integer> map = new BoundedSegmentedMap<>(1, 1, true);
+        BoundedSegmentedMap.Segment<String, Integer> segment = map.segment("a");
+        segment.lock();
+        try {
+            segment.put("a", 1);
+            segment.put("b", 2);
+        } finally {
+            segment.unlock();
+        }
+
+        // when
+        map.bindTo(registry, "test.map");
+
+        // then
+        assertThat(registry.get("test.map.evictions").tag("cause", "size").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("test.map.size").gauge().value()).isEqualTo(1.0);
+    }
+}
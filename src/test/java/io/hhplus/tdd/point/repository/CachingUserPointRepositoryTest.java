@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CachingUserPointRepository 테스트")
+class CachingUserPointRepositoryTest {
+
+    private UserPointRepository delegate;
+    private UserPointCache cache;
+    private CachingUserPointRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(UserPointRepository.class);
+        cache = new UserPointCache(100, Duration.ofMinutes(1));
+        repository = new CachingUserPointRepository(delegate, cache);
+    }
+
+    @Test
+    @DisplayName("처음 조회만 저장소에서 읽고 이후에는 캐시에서 읽는다")
+    void selectById_ReadThrough() {
+        // given
+        when(delegate.selectById(1L)).thenReturn(new UserPoint(1L, 1000L, 1L));
+
+        // when
+        repository.selectById(1L);
+        UserPoint userPoint = repository.selectById(1L);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(1000L);
+        verify(delegate, times(1)).selectById(1L);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장한 잔액이 저장소 조회 없이 바로 조회된다")
+    void insertOrUpdate_UpdatesCache() {
+        // given
+        when(delegate.insertOrUpdate(1L, 2000L)).thenReturn(new UserPoint(1L, 2000L, 2L));
+
+        // when
+        repository.insertOrUpdate(1L, 2000L);
+
+        // then
+        assertThat(repository.selectById(1L).point()).isEqualTo(2000L);
+        verify(delegate, never()).selectById(anyLong());
+    }
+
+    @Test
+    @DisplayName("느린 조회 도중 커밋된 잔액을 조회 결과(옛 값)로 덮어쓰지 않는다")
+    void selectById_ConcurrentWrite_KeepsCommittedBalance() {
+        // given
+        when(delegate.insertOrUpdate(1L, 2000L)).thenReturn(new UserPoint(1L, 2000L, 2L));
+        when(delegate.selectById(1L)).thenAnswer(invocation -> {
+            // 저장소에서 옛 값을 읽은 뒤, 반환 전에 다른 요청이 잔액을 커밋
+            repository.insertOrUpdate(1L, 2000L);
+            return new UserPoint(1L, 1000L, 1L);
+        });
+
+        // when
+        repository.selectById(1L);
+
+        // then
+        assertThat(repository.selectById(1L).point()).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("저장이 실패하면 예외를 그대로 던지고 캐시 항목을 제거한다")
+    void insertOrUpdate_Failure_Invalidates() {
+        // given
+        cache.put(new UserPoint(1L, 1000L, 1L));
+        when(delegate.insertOrUpdate(eq(1L), anyLong())).thenThrow(new IllegalArgumentException("최대 잔고는 10,000,000 포인트 입니다."));
+        when(delegate.selectById(1L)).thenReturn(new UserPoint(1L, 1000L, 1L));
+
+        // when & then
+        assertThatThrownBy(() -> repository.insertOrUpdate(1L, UserPoint.getMaxPoint() + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        repository.selectById(1L);
+        verify(delegate, times(1)).selectById(1L);
+    }
+}
@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConcurrentLongBalanceMap 테스트")
+class ConcurrentLongBalanceMapTest {
+
+    @Test
+    @DisplayName("동시에 쓰고 읽어도 항목이 누락되지 않고 쓰는 도중의 값이 읽히지 않는다")
+    void concurrentPutAndGet() throws Exception {
+        // given
+        ConcurrentLongBalanceMap map = new ConcurrentLongBalanceMap(4, 16);
+        int writers = 4;
+        int usersPerWriter = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers * 2);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            futures.add(executor.submit(() -> {
+                for (long i = 0; i < usersPerWriter; i++) {
+                    long userId = i * writers + writer;
+                    map.put(userId, userId, userId);
+                }
+            }));
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    long userId = ThreadLocalRandom.current().nextLong(writers * usersPerWriter);
+                    UserPoint userPoint = map.get(userId);
+                    if (userPoint != null) {
+                        assertThat(userPoint).isEqualTo(new UserPoint(userId, userId, userId));
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(map.size()).isEqualTo(writers * usersPerWriter);
+        assertThat(map.get(123L)).isEqualTo(new UserPoint(123L, 123L, 123L));
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InMemoryUserPointRepository 테스트")
+class InMemoryUserPointRepositoryTest {
+
+    private final InMemoryUserPointRepository repository = new InMemoryUserPointRepository(new ConcurrentLongBalanceMap());
+
+    @Test
+    @DisplayName("저장한 적 없는 사용자는 0 포인트로 조회된다")
+    void selectById_Unknown_ReturnsEmpty() {
+        assertThat(repository.selectById(1L).point()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장한 잔액이 조회된다")
+    void insertOrUpdate_ThenSelect() {
+        // when
+        UserPoint saved = repository.insertOrUpdate(1L, 1000L);
+
+        // then
+        assertThat(repository.selectById(1L)).isEqualTo(saved);
+    }
+
+    @Test
+    @DisplayName("최대 잔고를 넘는 잔액은 저장되지 않고 예외가 발생한다")
+    void insertOrUpdate_ExceedsMaxPoint_ThrowsException() {
+        // given
+        repository.insertOrUpdate(1L, 1000L);
+
+        // when & then
+        assertThatThrownBy(() -> repository.insertOrUpdate(1L, UserPoint.getMaxPoint() + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(repository.selectById(1L).point()).isEqualTo(1000L);
+    }
+}
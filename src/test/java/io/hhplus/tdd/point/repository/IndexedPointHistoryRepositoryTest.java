@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("IndexedPointHistoryRepository 테스트")
+class IndexedPointHistoryRepositoryTest {
+
+    @Test
+    @DisplayName("테이블에 기록된 내역을 테이블 탐색 없이 인덱스에서 조회한다")
+    void selectAllByUserId_ReadsFromIndex() {
+        // given
+        PointHistoryTable table = spy(new PointHistoryTable());
+        IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(table);
+
+        // when
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 1L).join();
+        repository.insert(2L, 2000L, TransactionType.CHARGE, 2L).join();
+        repository.insert(1L, 500L, TransactionType.USE, 3L).join();
+        List<PointHistory> histories = repository.selectAllByUserId(1L);
+
+        // then
+        assertThat(histories).isEqualTo(table.selectAllByUserId(1L));
+        assertThat(histories).extracting(PointHistory::type)
+                .containsExactly(TransactionType.CHARGE, TransactionType.USE);
+        verify(table, times(1)).selectAllByUserId(anyLong());
+    }
+}
@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LongBalanceMap 테스트")
+class LongBalanceMapTest {
+
+    @Test
+    @DisplayName("저장한 잔액과 변경 시각을 조회하고 같은 사용자는 덮어쓴다")
+    void putAndGet() {
+        // given
+        LongBalanceMap map = new LongBalanceMap();
+
+        // when
+        map.put(1L, 1000L, 10L);
+        map.put(2L, 2000L, 20L);
+        map.put(1L, 500L, 30L);
+
+        // then
+        assertThat(map.get(1L)).isEqualTo(new UserPoint(1L, 500L, 30L));
+        assertThat(map.get(2L)).isEqualTo(new UserPoint(2L, 2000L, 20L));
+        assertThat(map.get(3L)).isNull();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("빈 칸 표시로 쓰는 키(Long.MIN_VALUE)도 저장할 수 있다")
+    void sentinelKey() {
+        // given
+        LongBalanceMap map = new LongBalanceMap();
+
+        // when
+        map.put(Long.MIN_VALUE, 1000L, 10L);
+
+        // then
+        assertThat(map.get(Long.MIN_VALUE)).isEqualTo(new UserPoint(Long.MIN_VALUE, 1000L, 10L));
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배열을 늘려도 모든 항목이 그대로 조회된다")
+    void resize_KeepsAllEntries() {
+        // given
+        LongBalanceMap map = new LongBalanceMap(2);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            long userId = random.nextInt(50_000) - 25_000;
+            long point = random.nextInt((int) UserPoint.getMaxPoint());
+            map.put(userId, point, i);
+            expected.put(userId, point);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(map.capacity()).isGreaterThanOrEqualTo(expected.size());
+        expected.forEach((userId, point) -> assertThat(map.get(userId).point()).isEqualTo(point));
+    }
+}
@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MappedPointHistoryRepository 테스트")
+class MappedPointHistoryRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private MappedPointHistoryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        // 파일 경계를 넘는 경우를 보기 위해 파일 하나에 4칸만 둠
+        repository = new MappedPointHistoryRepository(directory, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("사용자별 내역을 기록된 순서대로 조회하고 ID 는 1 부터 증가한다")
+    void selectAllByUserId_InsertionOrder() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            repository.insert(i % 2, 100L + i, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, i).join();
+        }
+
+        // when
+        List<PointHistory> histories = repository.selectAllByUserId(1L);
+
+        // then
+        assertThat(histories).extracting(PointHistory::id).containsExactly(2L, 4L, 6L, 8L, 10L);
+        assertThat(histories).extracting(PointHistory::amount).containsExactly(101L, 103L, 105L, 107L, 109L);
+        assertThat(histories.get(1)).isEqualTo(new PointHistory(4L, 1L, 103L, TransactionType.USE, 3L));
+        assertThat(repository.selectAllByUserId(3L)).isEmpty();
+        assertThat(repository.selectUserIds()).containsExactlyInAnyOrder(0L, 1L);
+        assertThat(repository.size()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("페이지 조회는 최신순으로 커서/기간/타입 조건을 적용한다")
+    void selectPageByUserId_AppliesCondition() {
+        // given
+        for (int i = 1; i <= 6; i++) {
+            repository.insert(1L, i * 100L, i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, i * 10L).join();
+        }
+
+        // when
+        List<PointHistory> firstPage = repository.selectPageByUserId(1L, PointHistoryCondition.none(), 2);
+        List<PointHistory> nextPage = repository.selectPageByUserId(1L, new PointHistoryCondition(firstPage.get(1).id(), null, null, null), 2);
+        List<PointHistory> charges = repository.selectPageByUserId(1L, new PointHistoryCondition(null, 20L, 60L, TransactionType.CHARGE), 10);
+
+        // then
+        assertThat(firstPage).extracting(PointHistory::amount).containsExactly(600L, 500L);
+        assertThat(nextPage).extracting(PointHistory::amount).containsExactly(400L, 300L);
+        assertThat(charges).extracting(PointHistory::amount).containsExactly(500L, 300L);
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 내역을 기록된 순서대로 전달한다")
+    void forEachByUserId_OldestFirst() {
+        // given
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 1L).join();
+        repository.insert(2L, 2000L, TransactionType.CHARGE, 2L).join();
+        repository.insert(1L, 500L, TransactionType.USE, 3L).join();
+        repository.insert(1L, 300L, TransactionType.CHARGE, 4L).join();
+
+        // when
+        List<Long> amounts = new ArrayList<>();
+        repository.forEachByUserId(1L, new PointHistoryCondition(null, null, null, TransactionType.CHARGE), history -> amounts.add(history.amount()));
+
+        // then
+        assertThat(amounts).containsExactly(1000L, 300L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 사용자에게 동시에 기록해도 내역이 빠지거나 끊기지 않는다")
+    void insert_Concurrent_KeepsEveryHistory() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 250;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long amount = t + 1;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    repository.insert(1L, amount, TransactionType.CHARGE, i).join();
+                    repository.insert(2L, amount, TransactionType.USE, i).join();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        List<PointHistory> histories = repository.selectAllByUserId(1L);
+        assertThat(histories).hasSize(threads * perThread);
+        assertThat(histories).extracting(PointHistory::id).isSorted();
+        assertThat(histories).allMatch(history -> history.userId() == 1L);
+        assertThat(repository.selectAllByUserId(2L)).hasSize(threads * perThread);
+        assertThat(repository.size()).isEqualTo(2L * threads * perThread);
+    }
+
+    @Test
+    @DisplayName("파일 하나의 칸 수가 범위를 벗어나면 예외가 발생한다")
+    void invalidSlotsPerSegment_ThrowsException() {
+        assertThatThrownBy(() -> new MappedPointHistoryRepository(directory, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
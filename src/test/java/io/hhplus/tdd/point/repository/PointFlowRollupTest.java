@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointFlowBucket;
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PointFlowRollup 테스트")
+class PointFlowRollupTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 3_600_000L;
+    private static final long BASE = 1_700_000_000_000L / HOUR * HOUR;
+
+    @Test
+    @DisplayName("분/시간 단위 구간별로 거래 타입별 금액과 건수를 합산한다")
+    void add_SumsByBucketAndType() {
+        // given
+        PointFlowRollup rollup = new PointFlowRollup(60, 24, 2);
+
+        // when
+        rollup.add(1000L, TransactionType.CHARGE, BASE);
+        rollup.add(500L, TransactionType.USE, BASE + 30_000L);
+        rollup.add(2000L, TransactionType.CHARGE, BASE + 2 * MINUTE);
+
+        // then
+        assertThat(rollup.query(PointFlowRollup.Resolution.MINUTE, BASE, BASE + 3 * MINUTE)).containsExactly(
+                new PointFlowBucket(BASE, 1000L, 1, 500L, 1),
+                new PointFlowBucket(BASE + MINUTE, 0L, 0, 0L, 0),
+                new PointFlowBucket(BASE + 2 * MINUTE, 2000L, 1, 0L, 0));
+        assertThat(rollup.query(PointFlowRollup.Resolution.HOUR, BASE, BASE + HOUR)).containsExactly(
+                new PointFlowBucket(BASE, 3000L, 2, 500L, 1));
+    }
+
+    @Test
+    @DisplayName("보관 기간보다 오래된 구간은 조회되지 않고 새 구간이 칸을 재사용한다")
+    void add_OlderThanCapacity_Dropped() {
+        // given
+        PointFlowRollup rollup = new PointFlowRollup(3, 24, 1);
+        rollup.add(100L, TransactionType.CHARGE, BASE);
+
+        // when
+        rollup.add(200L, TransactionType.CHARGE, BASE + 3 * MINUTE);
+        rollup.add(400L, TransactionType.CHARGE, BASE);
+        List<PointFlowBucket> buckets = rollup.query(PointFlowRollup.Resolution.MINUTE, BASE, BASE + 4 * MINUTE);
+
+        // then
+        assertThat(buckets).extracting(PointFlowBucket::startMillis)
+                .containsExactly(BASE + MINUTE, BASE + 2 * MINUTE, BASE + 3 * MINUTE);
+        assertThat(buckets).extracting(PointFlowBucket::chargedAmount).containsExactly(0L, 0L, 200L);
+        assertThat(rollup.query(PointFlowRollup.Resolution.HOUR, BASE, BASE + HOUR).get(0).chargedAmount()).isEqualTo(700L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 합계가 맞다")
+    void add_Concurrent_NoLostUpdates() throws InterruptedException {
+        // given
+        PointFlowRollup rollup = new PointFlowRollup(60, 24, 4);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int thread = 0; thread < 8; thread++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    rollup.add(1L, TransactionType.CHARGE, BASE + (i % 10) * MINUTE);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(rollup.query(PointFlowRollup.Resolution.MINUTE, BASE, BASE + 10 * MINUTE))
+                .extracting(PointFlowBucket::chargeCount)
+                .containsOnly(8_000L);
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 빈 목록")
+    void query_Empty() {
+        assertThat(new PointFlowRollup(60, 24, 2).query(PointFlowRollup.Resolution.HOUR, BASE, BASE + HOUR)).isEmpty();
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PointHistoryAggregate 테스트")
+class PointHistoryAggregateTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("거래 타입별 합계, 건수, 첫/마지막 거래 시각을 누적한다")
+    void add_AccumulatesTotalsByType() {
+        // given
+        PointHistoryAggregate aggregate = new PointHistoryAggregate(0, ZoneOffset.UTC);
+
+        // when
+        aggregate.add(1000L, TransactionType.CHARGE, 20L);
+        aggregate.add(2000L, TransactionType.CHARGE, 10L);
+        aggregate.add(500L, TransactionType.USE, 30L);
+        PointHistorySummary summary = aggregate.toSummary(1L);
+
+        // then
+        assertThat(summary.charge()).isEqualTo(new PointHistorySummary.Totals(3000L, 2, 10L, 20L));
+        assertThat(summary.use()).isEqualTo(new PointHistorySummary.Totals(500L, 1, 30L, 30L));
+        assertThat(summary.daily()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("거래가 없으면 합계 0, 시각은 null")
+    void toSummary_Empty() {
+        PointHistorySummary summary = new PointHistoryAggregate(7, SEOUL).toSummary(1L);
+
+        assertThat(summary.charge()).isEqualTo(new PointHistorySummary.Totals(0L, 0, null, null));
+        assertThat(summary.daily()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일별 합계는 시간대 기준 날짜로 나누고 최신순으로 반환한다")
+    void add_SplitsDailyByZone() {
+        // given
+        PointHistoryAggregate aggregate = new PointHistoryAggregate(7, SEOUL);
+
+        // when (서울 기준 2024-01-01 23:30 / 2024-01-02 00:30)
+        aggregate.add(1000L, TransactionType.CHARGE, millis(2024, 1, 1, 23, 30));
+        aggregate.add(300L, TransactionType.USE, millis(2024, 1, 2, 0, 30));
+        aggregate.add(200L, TransactionType.USE, millis(2024, 1, 2, 9, 0));
+
+        // then
+        assertThat(aggregate.toSummary(1L).daily()).containsExactly(
+                new PointHistorySummary.Daily(LocalDate.of(2024, 1, 2), 0L, 0, 500L, 2),
+                new PointHistorySummary.Daily(LocalDate.of(2024, 1, 1), 1000L, 1, 0L, 0));
+    }
+
+    @Test
+    @DisplayName("최근 dailyBuckets 일보다 오래된 날은 일별 합계에서 빠지고 타입별 합계에는 남는다")
+    void add_OlderThanWindow_KeptOnlyInTotals() {
+        // given
+        PointHistoryAggregate aggregate = new PointHistoryAggregate(3, SEOUL);
+        aggregate.add(100L, TransactionType.CHARGE, millis(2024, 1, 1, 12, 0));
+        aggregate.add(200L, TransactionType.CHARGE, millis(2024, 1, 2, 12, 0));
+
+        // when
+        aggregate.add(400L, TransactionType.CHARGE, millis(2024, 1, 4, 12, 0));
+        aggregate.add(800L, TransactionType.CHARGE, millis(2023, 12, 31, 12, 0));
+        PointHistorySummary summary = aggregate.toSummary(1L);
+
+        // then
+        assertThat(summary.daily()).extracting(PointHistorySummary.Daily::date)
+                .containsExactly(LocalDate.of(2024, 1, 4), LocalDate.of(2024, 1, 2));
+        assertThat(summary.charge().amount()).isEqualTo(1500L);
+    }
+
+    private static long millis(int year, int month, int day, int hour, int minute) {
+        return LocalDate.of(year, month, day).atTime(hour, minute).atZone(SEOUL).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,155 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PointHistoryIndex 테스트")
+class PointHistoryIndexTest {
+
+    @Test
+    @DisplayName("사용자별 거래 내역을 기록된 순서대로 조회한다")
+    void selectAllByUserId_ReturnsOnlyUserHistoriesInOrder() {
+        // given
+        PointHistoryIndex index = new PointHistoryIndex();
+        PointHistory h1 = new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L);
+        PointHistory h2 = new PointHistory(2L, 2L, 2000L, TransactionType.CHARGE, 2L);
+        PointHistory h3 = new PointHistory(3L, 1L, 500L, TransactionType.USE, 3L);
+
+        // when
+        index.add(h1);
+        index.add(h2);
+        index.add(h3);
+
+        // then
+        assertThat(index.selectAllByUserId(1L)).containsExactly(h1, h3);
+        assertThat(index.selectAllByUserId(2L)).containsExactly(h2);
+        assertThat(index.countByUserId(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("거래 내역이 없는 사용자는 빈 리스트를 반환한다")
+    void selectAllByUserId_NoHistory() {
+        PointHistoryIndex index = new PointHistoryIndex();
+
+        assertThat(index.selectAllByUserId(999L)).isEmpty();
+        assertThat(index.countByUserId(999L)).isZero();
+    }
+
+    @Test
+    @DisplayName("세그먼트 크기를 넘어가도 모든 내역이 순서대로 조회된다")
+    void add_AcrossSegments() {
+        // given
+        PointHistoryIndex index = new PointHistoryIndex();
+        int count = PointHistoryIndex.SEGMENT_SIZE * 5 + 3;
+
+        // when
+        for (long id = 1; id <= count; id++) {
+            index.add(new PointHistory(id, 1L, id, TransactionType.CHARGE, id));
+        }
+
+        // then
+        List<PointHistory> histories = index.selectAllByUserId(1L);
+        assertThat(histories).extracting(PointHistory::id)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, count).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("기록 중에 조회해도 채워진 내역만 순서대로 보인다")
+    void selectAllByUserId_WhileAppending() throws InterruptedException {
+        // given
+        PointHistoryIndex index = new PointHistoryIndex();
+        int count = 10_000;
+        AtomicBoolean broken = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        reader.submit(() -> {
+            while (done.getCount() > 0) {
+                List<PointHistory> snapshot = index.selectAllByUserId(1L);
+                for (int i = 0; i < snapshot.size(); i++) {
+                    if (snapshot.get(i) == null || snapshot.get(i).id() != i + 1) {
+                        broken.set(true);
+                    }
+                }
+            }
+        });
+
+        // when
+        for (long id = 1; id <= count; id++) {
+            index.add(new PointHistory(id, 1L, id, TransactionType.CHARGE, id));
+        }
+        done.countDown();
+        reader.shutdown();
+
+        // then
+        assertThat(broken).isFalse();
+        assertThat(index.countByUserId(1L)).isEqualTo(count);
+    }
+
+    @Test
+    @DisplayName("페이지 조회는 커서 이전 내역을 최신순으로 limit 건까지 반환한다")
+    void selectPageByUserId_WithCursor() {
+        // given
+        PointHistoryIndex index = new PointHistoryIndex();
+        for (long id = 1; id <= 100; id++) {
+            index.add(new PointHistory(id, 1L, id, TransactionType.CHARGE, id * 10));
+        }
+
+        // when
+        List<PointHistory> firstPage = index.selectPageByUserId(1L, PointHistoryCondition.none(), 3);
+        List<PointHistory> nextPage = index.selectPageByUserId(1L, new PointHistoryCondition(98L, null, null, null), 3);
+
+        // then
+        assertThat(firstPage).extracting(PointHistory::id).containsExactly(100L, 99L, 98L);
+        assertThat(nextPage).extracting(PointHistory::id).containsExactly(97L, 96L, 95L);
+    }
+
+    @Test
+    @DisplayName("페이지 조회는 기간과 거래 타입 조건을 적용한다")
+    void selectPageByUserId_WithTimeRangeAndType() {
+        // given
+        PointHistoryIndex index = new PointHistoryIndex();
+        for (long id = 1; id <= 100; id++) {
+            TransactionType type = id % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            index.add(new PointHistory(id, 1L, id, type, id * 10));
+        }
+
+        // when
+        List<PointHistory> page = index.selectPageByUserId(
+                1L, new PointHistoryCondition(null, 200L, 300L, TransactionType.USE), 100);
+
+        // then
+        assertThat(page).extracting(PointHistory::id)
+                .containsExactly(28L, 26L, 24L, 22L, 20L);
+    }
+
+    @Test
+    @DisplayName("forEachByUserId 는 기간 안의 내역을 기록된 순서대로 전달한다")
+    void forEachByUserId_WithTimeRange() {
+        // given
+        PointHistoryIndex index = new PointHistoryIndex();
+        for (long id = 1; id <= 100; id++) {
+            index.add(new PointHistory(id, 1L, id, TransactionType.CHARGE, id * 10));
+        }
+        List<Long> visited = new ArrayList<>();
+
+        // when
+        index.forEachByUserId(1L, new PointHistoryCondition(null, 500L, 550L, null), h -> visited.add(h.id()));
+
+        // then
+        assertThat(visited).containsExactly(50L, 51L, 52L, 53L, 54L);
+        assertThat(index.selectUserIds()).containsExactly(1L);
+    }
+}
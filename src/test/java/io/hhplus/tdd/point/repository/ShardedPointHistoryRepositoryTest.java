@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ShardedPointHistoryRepository 테스트")
+class ShardedPointHistoryRepositoryTest {
+
+    private static final int SHARDS = 4;
+
+    @TempDir
+    Path directory;
+
+    private MappedPointHistoryRepository[] segments;
+    private ShardedPointHistoryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        segments = new MappedPointHistoryRepository[SHARDS];
+        repository = new ShardedPointHistoryRepository(SHARDS, shard -> {
+            segments[shard] = new MappedPointHistoryRepository(directory.resolve("shard-" + shard), 16);
+            return segments[shard];
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("사용자의 내역은 해시로 정한 shard 에만 기록된다")
+    void insert_RoutesToOwnShard() {
+        // given
+        for (long userId = 0; userId < 20; userId++) {
+            repository.insert(userId, 100L, TransactionType.CHARGE, userId).join();
+        }
+
+        // then
+        for (long userId = 0; userId < 20; userId++) {
+            int shard = ShardedPointHistoryRepository.shardIndex(userId, SHARDS);
+            assertThat(segments[shard].selectAllByUserId(userId)).hasSize(1);
+        }
+        assertThat(segments).extracting(MappedPointHistoryRepository::size).containsOnly(5L);
+        assertThat(repository.selectUserIds()).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("ID 는 shard 끼리 겹치지 않고 같은 사용자 안에서는 기록 순서대로 증가한다")
+    void ids_UniqueAndIncreasingPerUser() {
+        // given
+        for (int i = 0; i < 40; i++) {
+            repository.insert(i % 8, i, TransactionType.CHARGE, i).join();
+        }
+
+        // when
+        Set<Long> ids = new HashSet<>();
+        for (long userId = 0; userId < 8; userId++) {
+            List<PointHistory> histories = repository.selectAllByUserId(userId);
+            assertThat(histories).extracting(PointHistory::id).isSorted();
+            histories.forEach(pointHistory -> ids.add(pointHistory.id()));
+        }
+
+        // then
+        assertThat(ids).hasSize(40);
+    }
+
+    @Test
+    @DisplayName("이전 페이지 마지막 ID 를 cursor 로 넘기면 빠짐없이 이어서 조회된다")
+    void selectPageByUserId_CursorContinues() {
+        // given
+        for (int i = 0; i < 30; i++) {
+            repository.insert(i % 3, i, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i).join();
+        }
+
+        // when
+        List<PointHistory> paged = new ArrayList<>();
+        Long cursor = null;
+        while (true) {
+            List<PointHistory> page = repository.selectPageByUserId(1L, new PointHistoryCondition(cursor, null, null, null), 3);
+            paged.addAll(page);
+            if (page.size() < 3) {
+                break;
+            }
+            cursor = page.get(page.size() - 1).id();
+        }
+
+        // then
+        List<PointHistory> all = new ArrayList<>(repository.selectAllByUserId(1L));
+        assertThat(paged).hasSize(10);
+        assertThat(paged).containsExactlyElementsOf(all.reversed());
+    }
+
+    @Test
+    @DisplayName("forEachByUserId 는 전체 기준 ID 와 조건을 적용해 전달한다")
+    void forEachByUserId_AppliesCondition() {
+        // given
+        for (int i = 0; i < 6; i++) {
+            repository.insert(5L, i, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i).join();
+        }
+        List<PointHistory> expected = repository.selectAllByUserId(5L).stream()
+                .filter(pointHistory -> pointHistory.type() == TransactionType.USE)
+                .toList();
+
+        // when
+        List<PointHistory> visited = new ArrayList<>();
+        repository.forEachByUserId(5L, new PointHistoryCondition(null, null, null, TransactionType.USE), visited::add);
+
+        // then
+        assertThat(visited).containsExactlyElementsOf(expected).hasSize(3);
+    }
+}
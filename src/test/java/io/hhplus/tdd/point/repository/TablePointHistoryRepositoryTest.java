@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TablePointHistoryRepository 테스트")
+class TablePointHistoryRepositoryTest {
+
+    @Test
+    @DisplayName("기록한 적 있는 사용자 ID 를 중복 없이 조회한다")
+    void selectUserIds_ReturnsInsertedUsers() {
+        // given
+        TablePointHistoryRepository repository = new TablePointHistoryRepository(new PointHistoryTable());
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+        repository.insert(2L, 500L, TransactionType.CHARGE, 2L);
+        repository.insert(1L, 300L, TransactionType.USE, 3L);
+
+        // when & then
+        assertThat(repository.selectUserIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UserPointCache 테스트")
+class UserPointCacheTest {
+
+    @Test
+    @DisplayName("조회 결과가 hit/miss 로 집계된다")
+    void get_CountsHitsAndMisses() {
+        // given
+        UserPointCache cache = new UserPointCache(100, Duration.ofMinutes(1));
+        cache.put(new UserPoint(1L, 1000L, 1L));
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        // then
+        assertThat(cache.stats()).isEqualTo(new UserPointCache.Stats(2, 1, 0, 0, 1));
+    }
+
+    @Test
+    @DisplayName("크기를 넘으면 가장 오래 안 쓴 항목이 제거된다")
+    void put_OverMaxSize_EvictsLeastRecentlyUsed() {
+        // given
+        UserPointCache cache = new UserPointCache(2, Duration.ofMinutes(1), 1);
+        cache.put(new UserPoint(1L, 1000L, 1L));
+        cache.put(new UserPoint(2L, 2000L, 1L));
+        cache.get(1L);
+
+        // when
+        cache.put(new UserPoint(3L, 3000L, 1L));
+
+        // then
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 항목은 조회되지 않는다")
+    void get_Expired_ReturnsNull() {
+        // given
+        UserPointCache cache = new UserPointCache(100, Duration.ZERO);
+        cache.put(new UserPoint(1L, 1000L, 1L));
+
+        // when & then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회를 시작한 뒤 쓰기가 있었으면 읽은 값으로 채우지 않는다")
+    void populate_AfterWrite_Ignored() {
+        // given
+        UserPointCache cache = new UserPointCache(100, Duration.ofMinutes(1));
+        long writeStamp = cache.writeStamp(1L);
+        cache.put(new UserPoint(1L, 2000L, 2L));
+        cache.invalidate(1L);
+
+        // when
+        cache.populate(new UserPoint(1L, 1000L, 1L), writeStamp);
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+    }
+}
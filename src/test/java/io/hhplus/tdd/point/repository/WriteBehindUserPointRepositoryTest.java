@@ -0,0 +1,110 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("WriteBehindUserPointRepository 테스트")
+class WriteBehindUserPointRepositoryTest {
+
+    private UserPointTable userPointTable;
+    private WriteBehindUserPointRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = spy(new UserPointTable());
+        // 주기 flush 가 끼어들지 않도록 충분히 긴 주기 사용
+        repository = new WriteBehindUserPointRepository(userPointTable, Duration.ofHours(1), 10_000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("저장한 잔액은 테이블 반영 전에도 바로 조회된다")
+    void insertOrUpdate_ReadYourWrite() {
+        // when
+        repository.insertOrUpdate(1L, 5000L);
+
+        // then
+        assertThat(repository.selectById(1L).point()).isEqualTo(5000L);
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 여러 변경은 flush 시 마지막 값 한 번만 테이블에 기록된다")
+    void flush_CoalescesUpdates() {
+        // given
+        repository.insertOrUpdate(1L, 1000L);
+        repository.insertOrUpdate(1L, 2000L);
+        repository.insertOrUpdate(1L, 3000L);
+
+        // when
+        repository.flush();
+
+        // then
+        verify(userPointTable, times(1)).insertOrUpdate(anyLong(), anyLong());
+        verify(userPointTable).insertOrUpdate(1L, 3000L);
+        assertThat(repository.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자는 테이블에서 한 번만 읽어온다")
+    void selectById_LoadsOnceFromTable() {
+        // given
+        userPointTable.insertOrUpdate(1L, 7000L);
+
+        // when
+        UserPoint first = repository.selectById(1L);
+        UserPoint second = repository.selectById(1L);
+
+        // then
+        assertThat(first.point()).isEqualTo(7000L);
+        assertThat(second).isEqualTo(first);
+        verify(userPointTable, times(1)).selectById(1L);
+    }
+
+    @Test
+    @DisplayName("close 시 남은 변경분이 모두 테이블에 기록된다")
+    void close_FlushesPendingUpdates() throws InterruptedException {
+        // given
+        repository.insertOrUpdate(1L, 1000L);
+        repository.insertOrUpdate(2L, 2000L);
+
+        // when
+        repository.close();
+
+        // then
+        assertThat(userPointTable.selectById(1L).point()).isEqualTo(1000L);
+        assertThat(userPointTable.selectById(2L).point()).isEqualTo(2000L);
+        assertThatThrownBy(() -> repository.insertOrUpdate(1L, 3000L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("밀린 변경이 maxDirtyEntries 에 도달하면 주기를 기다리지 않고 반영된다")
+    void insertOrUpdate_TriggersFlushWhenDirtyIsFull() throws InterruptedException {
+        // given
+        repository.close();
+        repository = new WriteBehindUserPointRepository(userPointTable, Duration.ofHours(1), 2);
+
+        // when
+        repository.insertOrUpdate(1L, 1000L);
+        repository.insertOrUpdate(2L, 2000L);
+
+        // then
+        verify(userPointTable, timeout(5_000)).insertOrUpdate(1L, 1000L);
+        verify(userPointTable, timeout(5_000)).insertOrUpdate(2L, 2000L);
+    }
+}
@@ -0,0 +1,253 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryIndex;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.TableUserPointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CasUserPointEngine 테스트")
+class CasUserPointEngineTest {
+
+    private UserPointTable userPointTable;
+    private InMemoryPointHistoryRepository pointHistoryRepository;
+    private CasUserPointEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = spy(new UserPointTable());
+        pointHistoryRepository = new InMemoryPointHistoryRepository();
+        // 주기 flush 가 끼어들지 않도록 충분히 긴 주기 사용
+        engine = new CasUserPointEngine(new TableUserPointRepository(userPointTable), pointHistoryRepository, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        engine.close();
+    }
+
+    @Test
+    @DisplayName("충전/사용 결과는 저장소 반영 전에도 바로 조회된다")
+    void chargeAndUse_ReadYourWrite() {
+        // when
+        engine.charge(1L, 10000L);
+        UserPoint used = engine.use(1L, 3000L);
+
+        // then
+        assertThat(used.point()).isEqualTo(7000L);
+        assertThat(engine.getUserPoint(1L).point()).isEqualTo(7000L);
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 예외가 발생하고 잔액은 바뀌지 않는다")
+    void use_InsufficientBalance_ThrowsException() {
+        // given
+        engine.charge(1L, 1000L);
+
+        // when & then
+        assertThatThrownBy(() -> engine.use(1L, 2000L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잔액이 부족합니다");
+        assertThat(engine.getUserPoint(1L).point()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("최대 잔고를 넘는 충전은 예외가 발생하고 잔액은 바뀌지 않는다")
+    void charge_ExceedsMaxPoint_ThrowsException() {
+        // given
+        engine.charge(1L, UserPoint.getMaxPoint());
+
+        // when & then
+        assertThatThrownBy(() -> engine.charge(1L, 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 잔고");
+        assertThat(engine.getUserPoint(1L).point()).isEqualTo(UserPoint.getMaxPoint());
+    }
+
+    @Test
+    @DisplayName("flush 시 사용자별 마지막 잔액 한 번과 거래 내역이 순서대로 기록된다")
+    void flush_WritesLatestBalanceAndHistoriesInOrder() {
+        // given
+        engine.charge(1L, 1000L);
+        engine.charge(1L, 2000L);
+        engine.use(1L, 500L);
+
+        // when
+        engine.flush();
+
+        // then
+        verify(userPointTable, times(1)).insertOrUpdate(anyLong(), anyLong());
+        assertThat(userPointTable.selectById(1L).point()).isEqualTo(2500L);
+        assertThat(pointHistoryRepository.selectAllByUserId(1L))
+                .extracting(PointHistory::amount, PointHistory::type)
+                .containsExactly(
+                        tuple(1000L, TransactionType.CHARGE),
+                        tuple(2000L, TransactionType.CHARGE),
+                        tuple(500L, TransactionType.USE));
+        assertThat(engine.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("동일 사용자에 대한 동시 충전/사용이 누락 없이 반영되고 내역이 잔액 변경 순서대로 남는다")
+    void concurrentChargeAndUse() throws InterruptedException {
+        // given
+        int threadCount = 16;
+        int operationsPerThread = 500;
+        engine.charge(1L, 1_000_000L);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            boolean charge = i % 2 == 0;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < operationsPerThread; j++) {
+                        if (charge) {
+                            engine.charge(1L, 3L);
+                        } else {
+                            engine.use(1L, 1L);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        engine.flush();
+
+        // then
+        long expected = 1_000_000L + (threadCount / 2) * operationsPerThread * (3L - 1L);
+        assertThat(engine.getUserPoint(1L).point()).isEqualTo(expected);
+        assertThat(userPointTable.selectById(1L).point()).isEqualTo(expected);
+
+        List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(1L);
+        assertThat(histories).hasSize(1 + threadCount * operationsPerThread);
+        long balance = 0;
+        for (PointHistory history : histories) {
+            balance += history.type() == TransactionType.CHARGE ? history.amount() : -history.amount();
+            assertThat(balance).isNotNegative();
+        }
+        assertThat(balance).isEqualTo(expected);
+        assertThat(histories).extracting(PointHistory::updateMillis).isSorted();
+    }
+
+    @Test
+    @DisplayName("close 시 남은 변경분이 모두 저장소에 기록되고 이후 변경은 거부된다")
+    void close_FlushesPendingAndRejectsUpdates() throws InterruptedException {
+        // given
+        engine.charge(1L, 1000L);
+        engine.charge(2L, 2000L);
+
+        // when
+        engine.close();
+
+        // then
+        assertThat(userPointTable.selectById(1L).point()).isEqualTo(1000L);
+        assertThat(userPointTable.selectById(2L).point()).isEqualTo(2000L);
+        assertThatThrownBy(() -> engine.charge(1L, 1000L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("반영 후 다음 flush 까지 바뀌지 않은 사용자는 메모리에서 빠지고 이후 요청은 저장소에서 다시 읽는다")
+    void flush_IdleAccount_EvictedAndReloaded() {
+        // given
+        engine.charge(1L, 1000L);
+        engine.flush();
+
+        // when
+        engine.flush();
+
+        // then
+        assertThat(engine.accountCount()).isZero();
+        assertThat(engine.getUserPoint(1L).point()).isEqualTo(1000L);
+        assertThat(engine.charge(1L, 500L).point()).isEqualTo(1500L);
+        engine.flush();
+        assertThat(userPointTable.selectById(1L).point()).isEqualTo(1500L);
+        assertThat(pointHistoryRepository.selectAllByUserId(1L))
+                .extracting(PointHistory::amount)
+                .containsExactly(1000L, 500L);
+    }
+
+    @Test
+    @DisplayName("flush 사이에 바뀐 사용자는 메모리에 남는다")
+    void flush_ChangedAccount_Kept() {
+        // given
+        engine.charge(1L, 1000L);
+        engine.flush();
+        engine.charge(1L, 500L);
+
+        // when
+        engine.flush();
+
+        // then
+        assertThat(engine.accountCount()).isEqualTo(1);
+        assertThat(userPointTable.selectById(1L).point()).isEqualTo(1500L);
+    }
+
+    @Test
+    @DisplayName("읽기만 하고 바뀌지 않은 사용자도 메모리에서 빠진다")
+    void flush_LoadedWithoutChange_Evicted() {
+        // given
+        assertThatThrownBy(() -> engine.use(1L, 1000L)).isInstanceOf(IllegalArgumentException.class);
+        engine.flush();
+
+        // when
+        engine.flush();
+
+        // then
+        assertThat(engine.accountCount()).isZero();
+    }
+
+    /**
+     * 테이블 지연 없이 거래 내역을 기록 순서대로 보관하는 저장소
+     */
+    private static final class InMemoryPointHistoryRepository implements PointHistoryRepository {
+
+        private final PointHistoryIndex index = new PointHistoryIndex();
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public CompletableFuture<Void> insert(long userId, long amount, TransactionType type, long updateMillis) {
+            index.add(new PointHistory(sequence.incrementAndGet(), userId, amount, type, updateMillis));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return index.selectAllByUserId(userId);
+        }
+
+        @Override
+        public List<Long> selectUserIds() {
+            return index.selectUserIds();
+        }
+    }
+}
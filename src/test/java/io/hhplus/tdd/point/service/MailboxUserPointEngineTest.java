@@ -0,0 +1,198 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.TablePointHistoryRepository;
+import io.hhplus.tdd.point.repository.TableUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MailboxUserPointEngine 테스트")
+class MailboxUserPointEngineTest {
+
+    private UserPointRepository userPointRepository;
+    private PointHistoryRepository pointHistoryRepository;
+    private MailboxUserPointEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        userPointRepository = spy(new TableUserPointRepository(new UserPointTable()));
+        pointHistoryRepository = mock(PointHistoryRepository.class);
+        when(pointHistoryRepository.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        engine = new MailboxUserPointEngine(userPointRepository, pointHistoryRepository, 1, 1000, 256);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        engine.close();
+    }
+
+    @Test
+    @DisplayName("충전/사용 결과가 future 로 전달된다")
+    void chargeAndUseAsync_CompletesWithBalance() throws Exception {
+        // when
+        UserPoint charged = engine.chargeAsync(1L, 10000L).get(5, TimeUnit.SECONDS);
+        UserPoint used = engine.use(1L, 3000L);
+
+        // then
+        assertThat(charged.point()).isEqualTo(10000L);
+        assertThat(used.point()).isEqualTo(7000L);
+        assertThat(engine.getUserPoint(1L).point()).isEqualTo(7000L);
+    }
+
+    @Test
+    @DisplayName("worker 가 바쁜 동안 쌓인 같은 사용자의 명령은 잔액 저장 한 번으로 처리된다")
+    void commands_FoldedIntoSingleWrite() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        blockFirstRead(2L, release);
+        CompletableFuture<UserPoint> blocking = engine.chargeAsync(2L, 1L);
+
+        // when
+        List<CompletableFuture<UserPoint>> results = List.of(
+                engine.chargeAsync(1L, 1000L),
+                engine.chargeAsync(1L, 2000L),
+                engine.useAsync(1L, 500L));
+        release.countDown();
+        blocking.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(results).extracting(result -> result.get(5, TimeUnit.SECONDS).point())
+                .containsExactly(1000L, 3000L, 2500L);
+        verify(userPointRepository, times(1)).selectById(1L);
+        verify(userPointRepository, times(1)).insertOrUpdate(1L, 2500L);
+        InOrder inOrder = inOrder(pointHistoryRepository);
+        inOrder.verify(pointHistoryRepository).insert(eq(1L), eq(1000L), eq(TransactionType.CHARGE), anyLong());
+        inOrder.verify(pointHistoryRepository).insert(eq(1L), eq(2000L), eq(TransactionType.CHARGE), anyLong());
+        inOrder.verify(pointHistoryRepository).insert(eq(1L), eq(500L), eq(TransactionType.USE), anyLong());
+    }
+
+    @Test
+    @DisplayName("잔액 검증에 실패한 명령만 예외로 완료되고 같은 묶음의 다른 명령은 반영된다")
+    void invalidCommand_FailsOnlyItself() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        blockFirstRead(2L, release);
+        engine.chargeAsync(2L, 1L);
+
+        // when
+        CompletableFuture<UserPoint> charge = engine.chargeAsync(1L, 1000L);
+        CompletableFuture<UserPoint> overdraw = engine.useAsync(1L, 5000L);
+        CompletableFuture<UserPoint> use = engine.useAsync(1L, 500L);
+        release.countDown();
+
+        // then
+        assertThat(charge.get(5, TimeUnit.SECONDS).point()).isEqualTo(1000L);
+        assertThatThrownBy(() -> overdraw.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잔액이 부족합니다");
+        assertThat(use.get(5, TimeUnit.SECONDS).point()).isEqualTo(500L);
+        verify(pointHistoryRepository, never()).insert(eq(1L), eq(5000L), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("거래 내역 기록에 실패한 명령만 예외로 완료되고 잔액은 먼저 저장된다")
+    void historyFailure_FailsOnlyUnwrittenCommand() throws Exception {
+        // given
+        when(pointHistoryRepository.insert(eq(1L), eq(2000L), any(), anyLong()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("기록 실패")));
+        CountDownLatch release = new CountDownLatch(1);
+        blockFirstRead(2L, release);
+        engine.chargeAsync(2L, 1L);
+
+        // when
+        CompletableFuture<UserPoint> first = engine.chargeAsync(1L, 1000L);
+        CompletableFuture<UserPoint> failed = engine.chargeAsync(1L, 2000L);
+        CompletableFuture<UserPoint> last = engine.useAsync(1L, 500L);
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).point()).isEqualTo(1000L);
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(last.get(5, TimeUnit.SECONDS).point()).isEqualTo(2500L);
+        InOrder inOrder = inOrder(userPointRepository, pointHistoryRepository);
+        inOrder.verify(userPointRepository).insertOrUpdate(1L, 2500L);
+        inOrder.verify(pointHistoryRepository).insert(eq(1L), eq(1000L), eq(TransactionType.CHARGE), anyLong());
+        inOrder.verify(pointHistoryRepository).insert(eq(1L), eq(2000L), eq(TransactionType.CHARGE), anyLong());
+        inOrder.verify(pointHistoryRepository).insert(eq(1L), eq(500L), eq(TransactionType.USE), anyLong());
+        assertThat(engine.getUserPoint(1L).point()).isEqualTo(2500L);
+    }
+
+    @Test
+    @DisplayName("잔액 저장에 실패하면 묶음의 명령이 모두 실패하고 거래 내역도 남지 않는다")
+    void balanceFailure_FailsAllWithoutHistory() throws Exception {
+        // given
+        PointHistoryRepository historyRepository = new TablePointHistoryRepository(new PointHistoryTable());
+        MailboxUserPointEngine failingEngine = new MailboxUserPointEngine(userPointRepository, historyRepository, 1, 1000, 256);
+        doThrow(new IllegalStateException("저장 실패")).when(userPointRepository).insertOrUpdate(eq(1L), anyLong());
+        CountDownLatch release = new CountDownLatch(1);
+        blockFirstRead(2L, release);
+        failingEngine.chargeAsync(2L, 1L);
+
+        try {
+            // when
+            CompletableFuture<UserPoint> charge = failingEngine.chargeAsync(1L, 1000L);
+            CompletableFuture<UserPoint> use = failingEngine.useAsync(1L, 500L);
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> charge.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> use.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(historyRepository.selectAllByUserId(1L)).isEmpty();
+            assertThat(failingEngine.getUserPoint(1L).point()).isZero();
+        } finally {
+            failingEngine.close();
+        }
+    }
+
+    @Test
+    @DisplayName("동기 호출은 검증 실패 시 IllegalArgumentException 을 그대로 던진다")
+    void use_InsufficientBalance_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> engine.use(1L, 1000L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잔액이 부족합니다");
+    }
+
+    @Test
+    @DisplayName("close 시 대기 중인 명령까지 처리되고 이후 명령은 거부된다")
+    void close_ProcessesPendingAndRejectsCommands() throws InterruptedException {
+        // given
+        CompletableFuture<UserPoint> pending = engine.chargeAsync(1L, 1000L);
+
+        // when
+        engine.close();
+
+        // then
+        assertThat(pending).isCompleted();
+        assertThat(engine.getUserPoint(1L).point()).isEqualTo(1000L);
+        assertThatThrownBy(() -> engine.chargeAsync(1L, 1000L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * 해당 사용자의 첫 조회를 release 전까지 막아 worker 를 붙잡아 둠
+     */
+    private void blockFirstRead(long userId, CountDownLatch release) {
+        doAnswer(invocation -> {
+            release.await();
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(userPointRepository).selectById(userId);
+    }
+}
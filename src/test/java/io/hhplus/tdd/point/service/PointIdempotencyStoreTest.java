@@ -0,0 +1,230 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PointIdempotencyStore 테스트")
+class PointIdempotencyStoreTest {
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 작업을 실행하지 않고 처음 결과를 돌려준다")
+    void execute_SameKey_ReplaysResult() {
+        // given
+        PointIdempotencyStore store = new PointIdempotencyStore(100, Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+        store.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 1000L * calls.incrementAndGet(), 5L));
+
+        // when
+        UserPoint replayed = store.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 1000L * calls.incrementAndGet(), 6L));
+
+        // then
+        assertThat(replayed).isEqualTo(new UserPoint(1L, 1000L, 5L));
+        assertThat(calls).hasValue(1);
+        assertThat(store.stats()).isEqualTo(new PointIdempotencyStore.Stats(1, 1, 0, 0, 1));
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 금액/거래 타입에 쓰면 예외가 발생한다")
+    void execute_DifferentRequest_ThrowsKeyReused() {
+        // given
+        PointIdempotencyStore store = new PointIdempotencyStore(100, Duration.ofMinutes(1));
+        store.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 1000L, 5L));
+
+        // when & then
+        assertThatThrownBy(() -> store.execute("key", 1L, TransactionType.CHARGE, 2000L, () -> new UserPoint(1L, 3000L, 6L)))
+                .isInstanceOf(PointIdempotencyStore.KeyReusedException.class);
+        assertThatThrownBy(() -> store.execute("key", 1L, TransactionType.USE, 1000L, () -> new UserPoint(1L, 0L, 6L)))
+                .isInstanceOf(PointIdempotencyStore.KeyReusedException.class);
+        assertThatThrownBy(() -> store.execute("key", 2L, TransactionType.CHARGE, 1000L, () -> new UserPoint(2L, 1000L, 6L)))
+                .isInstanceOf(PointIdempotencyStore.KeyReusedException.class);
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 키가 남지 않아 재시도 시 다시 실행된다")
+    void execute_Failed_AllowsRetry() {
+        // given
+        PointIdempotencyStore store = new PointIdempotencyStore(100, Duration.ofMinutes(1));
+        assertThatThrownBy(() -> store.execute("key", 1L, TransactionType.USE, 1000L, () -> {
+            throw new IllegalArgumentException("잔액이 부족합니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        // when
+        UserPoint retried = store.execute("key", 1L, TransactionType.USE, 1000L, () -> new UserPoint(1L, 0L, 5L));
+
+        // then
+        assertThat(retried.point()).isZero();
+        assertThat(store.stats().executed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업이 Error 로 끝나도 키가 남지 않아 재시도 시 다시 실행된다")
+    void execute_FailedWithError_AllowsRetry() {
+        // given
+        PointIdempotencyStore store = new PointIdempotencyStore(100, Duration.ofMinutes(1));
+        assertThatThrownBy(() -> store.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> {
+            throw new OutOfMemoryError("테스트");
+        })).isInstanceOf(OutOfMemoryError.class);
+
+        // when
+        UserPoint retried = store.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 1000L, 5L));
+
+        // then
+        assertThat(retried.point()).isEqualTo(1000L);
+        assertThat(store.stats().executed()).isEqualTo(2);
+        assertThat(store.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 실행되고 모두 같은 결과를 받는다")
+    void execute_ConcurrentSameKey_ExecutesOnce() throws Exception {
+        // given
+        PointIdempotencyStore store = new PointIdempotencyStore(100, Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<UserPoint>> results = new ArrayList<>();
+        results.add(executor.submit(() -> store.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return new UserPoint(1L, 1000L, 5L);
+        })));
+        started.await();
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> store.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> {
+                calls.incrementAndGet();
+                return new UserPoint(1L, 2000L, 6L);
+            })));
+        }
+        release.countDown();
+
+        // then
+        for (Future<UserPoint> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(new UserPoint(1L, 1000L, 5L));
+        }
+        assertThat(calls).hasValue(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 키는 새 요청으로 실행된다")
+    void execute_Expired_ExecutesAgain() {
+        // given
+        PointIdempotencyStore store = new PointIdempotencyStore(100, Duration.ZERO);
+        store.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 1000L, 5L));
+
+        // when
+        UserPoint executed = store.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 2000L, 6L));
+
+        // then
+        assertThat(executed.point()).isEqualTo(2000L);
+        assertThat(store.stats().expirations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키 뒤에 있는 만료된 키도 지워진다")
+    void execute_ExpiredBehindPendingKey_Removed() throws Exception {
+        // given
+        PointIdempotencyStore store = new PointIdempotencyStore(10, Duration.ZERO, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<UserPoint> pending = executor.submit(() -> store.execute("a", 1L, TransactionType.CHARGE, 1000L, () -> {
+            started.countDown();
+            await(release);
+            return new UserPoint(1L, 1000L, 5L);
+        }));
+        started.await();
+        store.execute("b", 2L, TransactionType.CHARGE, 1000L, () -> new UserPoint(2L, 1000L, 6L));
+
+        // when
+        store.execute("c", 3L, TransactionType.CHARGE, 1000L, () -> new UserPoint(3L, 1000L, 7L));
+
+        // then
+        assertThat(store.stats().expirations()).isEqualTo(1);
+        assertThat(store.stats().size()).isEqualTo(2);
+        release.countDown();
+        assertThat(pending.get(5, TimeUnit.SECONDS).point()).isEqualTo(1000L);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("최대 키 수를 넘으면 가장 오래된 키가 제거된다")
+    void execute_OverMaxKeys_EvictsOldest() {
+        // given
+        PointIdempotencyStore store = new PointIdempotencyStore(2, Duration.ofMinutes(1), 1);
+        store.execute("a", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 1000L, 5L));
+        store.execute("b", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 2000L, 6L));
+
+        // when
+        store.execute("c", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 3000L, 7L));
+
+        // then
+        assertThat(store.stats().evictions()).isEqualTo(1);
+        assertThat(store.stats().size()).isEqualTo(2);
+        assertThat(store.execute("a", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 4000L, 8L)).point()).isEqualTo(4000L);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키는 제거하지 않고, segment 가 처리 중인 키로 가득 차면 새 키를 거부한다")
+    void execute_FullOfPendingKeys_RejectsNewKey() throws Exception {
+        // given
+        PointIdempotencyStore store = new PointIdempotencyStore(1, Duration.ofMinutes(1), 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<UserPoint> pending = executor.submit(() -> store.execute("a", 1L, TransactionType.CHARGE, 1000L, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return new UserPoint(1L, 1000L, 5L);
+        }));
+        started.await();
+
+        // when & then
+        assertThatThrownBy(() -> store.execute("b", 2L, TransactionType.CHARGE, 1000L, () -> new UserPoint(2L, 1000L, 6L)))
+                .isInstanceOf(PointIdempotencyStore.StoreFullException.class);
+        assertThat(store.stats().evictions()).isZero();
+        release.countDown();
+        assertThat(pending.get(5, TimeUnit.SECONDS).point()).isEqualTo(1000L);
+        assertThat(store.execute("a", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 2000L, 7L)).point()).isEqualTo(1000L);
+        assertThat(calls).hasValue(1);
+        assertThat(store.execute("b", 2L, TransactionType.CHARGE, 1000L, () -> new UserPoint(2L, 1000L, 6L)).point()).isEqualTo(1000L);
+        assertThat(store.stats().evictions()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("비어 있거나 너무 긴 키는 받지 않는다")
+    void isValidKey() {
+        assertThat(PointIdempotencyStore.isValidKey("key")).isTrue();
+        assertThat(PointIdempotencyStore.isValidKey(" ")).isFalse();
+        assertThat(PointIdempotencyStore.isValidKey("k".repeat(PointIdempotencyStore.MAX_KEY_LENGTH + 1))).isFalse();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PointMetrics 테스트")
+class PointMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private UserPointRepository userPointRepository;
+    private PointHistoryRepository pointHistoryRepository;
+    private UserPointService userPointService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        userPointRepository = mock(UserPointRepository.class);
+        pointHistoryRepository = mock(PointHistoryRepository.class);
+        when(pointHistoryRepository.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        PointMetrics pointMetrics = new PointMetrics(registry);
+        LockingUserPointEngine engine = new LockingUserPointEngine(
+                userPointRepository, pointHistoryRepository, new UserPointLockProvider(), pointMetrics);
+        userPointService = new UserPointService(engine, pointHistoryRepository, pointMetrics);
+    }
+
+    @Test
+    @DisplayName("Lock 대기/보유 시간이 작업별로 기록된다")
+    void recordsLockWaitAndHold() {
+        // given
+        when(userPointRepository.selectById(1L)).thenReturn(new UserPoint(1L, 1000L, 0L));
+        when(userPointRepository.insertOrUpdate(eq(1L), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(1L, invocation.getArgument(1), 1L));
+
+        // when
+        userPointService.chargePoint(1L, 100L);
+        userPointService.usePoint(1L, 100L);
+
+        // then
+        assertThat(registry.get("point.lock.wait").tag("operation", "charge").timer().count()).isEqualTo(1);
+        assertThat(registry.get("point.lock.hold").tag("operation", "charge").timer().count()).isEqualTo(1);
+        assertThat(registry.get("point.lock.wait").tag("operation", "use").timer().count()).isEqualTo(1);
+        assertThat(registry.get("point.lock.hold").tag("operation", "use").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잔액 부족과 최대 잔고 초과가 각각 거절 수로 집계된다")
+    void countsRejectedOperations() {
+        // given
+        when(userPointRepository.selectById(1L)).thenReturn(new UserPoint(1L, UserPoint.getMaxPoint(), 0L));
+        when(userPointRepository.insertOrUpdate(eq(1L), anyLong()))
+                .thenThrow(new IllegalArgumentException("최대 잔고는 10,000,000 포인트 입니다."));
+        when(userPointRepository.selectById(2L)).thenReturn(new UserPoint(2L, 0L, 0L));
+
+        // when
+        assertThatThrownBy(() -> userPointService.chargePoint(1L, 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userPointService.usePoint(2L, 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userPointService.usePoint(2L, 1L)).isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(registry.get("point.balance.rejected").tags("operation", "charge", "reason", "max_point_exceeded").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("point.balance.rejected").tags("operation", "use", "reason", "insufficient_balance").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 결과 건수가 기록된다")
+    void recordsHistoryResultSize() {
+        // given
+        when(pointHistoryRepository.selectAllByUserId(1L)).thenReturn(List.of(
+                new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(2L, 1L, 500L, TransactionType.USE, 2L)));
+
+        // when
+        userPointService.getTransactionHistory(1L);
+
+        // then
+        assertThat(registry.get("point.history.result.size").tag("operation", "list").summary().totalAmount()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,193 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationStatus;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PointOperationService 테스트")
+class PointOperationServiceTest {
+
+    private final UserPointService userPointService = mock(UserPointService.class);
+    private PointOperationService pointOperationService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointOperationService.close();
+    }
+
+    @Test
+    @DisplayName("접수하면 PENDING 을 바로 반환하고 처리가 끝나면 결과를 조회할 수 있다")
+    void submit_ReturnsPendingThenSucceeded() {
+        // given
+        pointOperationService = new PointOperationService(userPointService, 2, 100, Duration.ofMinutes(1), 100);
+        CompletableFuture<UserPoint> charged = new CompletableFuture<>();
+        when(userPointService.chargePointAsync(1L, 1000L)).thenReturn(charged);
+
+        // when
+        PointOperationStatus submitted = pointOperationService.submit(new PointOperation(1L, 1000L, TransactionType.CHARGE));
+
+        // then
+        assertThat(submitted.state()).isEqualTo(PointOperationStatus.State.PENDING);
+        assertThat(submitted.operationId()).startsWith("1-");
+        assertThat(pointOperationService.status(submitted.operationId()).state()).isEqualTo(PointOperationStatus.State.PENDING);
+        charged.complete(new UserPoint(1L, 1000L, 5L));
+        PointOperationStatus done = pointOperationService.awaitStatus(submitted.operationId(), Duration.ofSeconds(5)).join();
+        assertThat(done.state()).isEqualTo(PointOperationStatus.State.SUCCEEDED);
+        assertThat(done.userPoint()).isEqualTo(new UserPoint(1L, 1000L, 5L));
+    }
+
+    @Test
+    @DisplayName("잔액 부족 등 검증 실패는 FAILED 와 사유로 남는다")
+    void submit_Rejected_Failed() {
+        // given
+        pointOperationService = new PointOperationService(userPointService, 1, 100, Duration.ofMinutes(1), 100);
+        when(userPointService.usePointAsync(1L, 1000L))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalArgumentException("잔액이 부족합니다.")));
+
+        // when
+        PointOperationStatus submitted = pointOperationService.submit(new PointOperation(1L, 1000L, TransactionType.USE));
+
+        // then
+        PointOperationStatus done = pointOperationService.awaitStatus(submitted.operationId(), Duration.ofSeconds(5)).join();
+        assertThat(done.state()).isEqualTo(PointOperationStatus.State.FAILED);
+        assertThat(done.message()).isEqualTo("잔액이 부족합니다.");
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 요청은 앞 요청이 끝난 뒤 접수 순서대로 처리된다")
+    void submit_SameUser_ProcessedInOrder() {
+        // given
+        pointOperationService = new PointOperationService(userPointService, 4, 1000, Duration.ofMinutes(1), 1000);
+        List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+        when(userPointService.chargePointAsync(eq(1L), anyLong())).thenAnswer(invocation -> {
+            processed.add(invocation.getArgument(1));
+            return CompletableFuture.supplyAsync(() -> new UserPoint(1L, 0L, 0L));
+        });
+
+        // when
+        String last = null;
+        for (long amount = 1; amount <= 200; amount++) {
+            last = pointOperationService.submit(new PointOperation(1L, amount, TransactionType.CHARGE)).operationId();
+        }
+        pointOperationService.awaitStatus(last, Duration.ofSeconds(5)).join();
+
+        // then
+        assertThat(processed).hasSize(200).isSorted();
+    }
+
+    @Test
+    @DisplayName("처리가 끝나지 않으면 wait 가 지난 뒤 PENDING 을 반환하고 다른 조회에는 영향이 없다")
+    void awaitStatus_Timeout_ReturnsPending() {
+        // given
+        pointOperationService = new PointOperationService(userPointService, 1, 100, Duration.ofMinutes(1), 100);
+        CompletableFuture<UserPoint> charged = new CompletableFuture<>();
+        when(userPointService.chargePointAsync(1L, 1000L)).thenReturn(charged);
+        String operationId = pointOperationService.submit(new PointOperation(1L, 1000L, TransactionType.CHARGE)).operationId();
+
+        // when
+        PointOperationStatus timedOut = pointOperationService.awaitStatus(operationId, Duration.ofMillis(50)).join();
+
+        // then
+        assertThat(timedOut.state()).isEqualTo(PointOperationStatus.State.PENDING);
+        charged.complete(new UserPoint(1L, 1000L, 5L));
+        assertThat(pointOperationService.awaitStatus(operationId, Duration.ofSeconds(5)).join().state())
+                .isEqualTo(PointOperationStatus.State.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청이 capacity 건이면 접수하지 않고, 끝나면 다시 접수한다")
+    void submit_OverCapacity_Rejected() {
+        // given
+        pointOperationService = new PointOperationService(userPointService, 1, 2, Duration.ofMinutes(1), 100);
+        CompletableFuture<UserPoint> charged = new CompletableFuture<>();
+        when(userPointService.chargePointAsync(anyLong(), anyLong())).thenReturn(charged);
+        pointOperationService.submit(new PointOperation(1L, 1L, TransactionType.CHARGE));
+        String last = pointOperationService.submit(new PointOperation(2L, 2L, TransactionType.CHARGE)).operationId();
+
+        // when & then
+        assertThatThrownBy(() -> pointOperationService.submit(new PointOperation(1L, 3L, TransactionType.CHARGE)))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(pointOperationService.pendingCount()).isEqualTo(2);
+        charged.complete(new UserPoint(1L, 1L, 0L));
+        pointOperationService.awaitStatus(last, Duration.ofSeconds(5)).join();
+        assertThat(pointOperationService.pendingCount()).isZero();
+        assertThat(pointOperationService.submit(new PointOperation(1L, 3L, TransactionType.CHARGE)).state())
+                .isEqualTo(PointOperationStatus.State.PENDING);
+    }
+
+    @Test
+    @DisplayName("한 사용자의 요청이 끝나지 않아도 다른 사용자의 요청은 기다리지 않는다")
+    void submit_SlowUser_DoesNotBlockOthers() {
+        // given
+        pointOperationService = new PointOperationService(userPointService, 1, 100, Duration.ofMinutes(1), 100);
+        CompletableFuture<UserPoint> slowCharged = new CompletableFuture<>();
+        when(userPointService.chargePointAsync(1L, 1000L)).thenReturn(slowCharged);
+        when(userPointService.chargePointAsync(2L, 1000L)).thenReturn(CompletableFuture.completedFuture(new UserPoint(2L, 1000L, 5L)));
+        String slow = pointOperationService.submit(new PointOperation(1L, 1000L, TransactionType.CHARGE)).operationId();
+
+        // when
+        String other = pointOperationService.submit(new PointOperation(2L, 1000L, TransactionType.CHARGE)).operationId();
+
+        // then
+        assertThat(pointOperationService.awaitStatus(other, Duration.ofSeconds(5)).join().state())
+                .isEqualTo(PointOperationStatus.State.SUCCEEDED);
+        assertThat(pointOperationService.status(slow).state()).isEqualTo(PointOperationStatus.State.PENDING);
+        slowCharged.complete(new UserPoint(1L, 1000L, 6L));
+    }
+
+    @Test
+    @DisplayName("awaitUser 는 사용자의 접수된 요청이 모두 끝날 때까지 기다린다")
+    void awaitUser_WaitsForAcceptedOperations() throws InterruptedException {
+        // given
+        pointOperationService = new PointOperationService(userPointService, 1, 100, Duration.ofMinutes(1), 100);
+        CompletableFuture<UserPoint> first = new CompletableFuture<>();
+        CompletableFuture<UserPoint> second = new CompletableFuture<>();
+        when(userPointService.chargePointAsync(1L, 1000L)).thenReturn(first);
+        when(userPointService.chargePointAsync(1L, 2000L)).thenReturn(second);
+        pointOperationService.submit(new PointOperation(1L, 1000L, TransactionType.CHARGE));
+        pointOperationService.submit(new PointOperation(1L, 2000L, TransactionType.CHARGE));
+
+        // when & then
+        assertThat(pointOperationService.awaitUser(2L, Duration.ZERO)).isTrue();
+        first.complete(new UserPoint(1L, 1000L, 5L));
+        assertThat(pointOperationService.awaitUser(1L, Duration.ofMillis(50))).isFalse();
+        second.complete(new UserPoint(1L, 3000L, 6L));
+        assertThat(pointOperationService.awaitUser(1L, Duration.ofSeconds(5))).isTrue();
+        assertThat(pointOperationService.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 건수를 넘은 완료 요청은 오래된 것부터 조회되지 않는다")
+    void status_OverMaxRetained_EvictsOldest() {
+        // given
+        pointOperationService = new PointOperationService(userPointService, 1, 100, Duration.ofMinutes(1), 2);
+        when(userPointService.chargePointAsync(eq(1L), anyLong())).thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 0L, 0L)));
+        List<String> operationIds = new ArrayList<>();
+        for (long amount = 1; amount <= 3; amount++) {
+            operationIds.add(pointOperationService.submit(new PointOperation(1L, amount, TransactionType.CHARGE)).operationId());
+        }
+
+        // when
+        pointOperationService.awaitStatus(operationIds.get(2), Duration.ofSeconds(5)).join();
+
+        // then
+        assertThat(pointOperationService.status(operationIds.get(0))).isNull();
+        assertThat(pointOperationService.status(operationIds.get(2)).state()).isEqualTo(PointOperationStatus.State.SUCCEEDED);
+        assertThat(pointOperationService.status("9-999")).isNull();
+    }
+}
@@ -0,0 +1,157 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReactiveUserPointService 테스트")
+class ReactiveUserPointServiceTest {
+
+    private UserPointService userPointService;
+    private Scheduler scheduler;
+    private ReactiveUserPointService reactiveUserPointService;
+
+    @BeforeEach
+    void setUp() {
+        userPointService = mock(UserPointService.class);
+        scheduler = Schedulers.newBoundedElastic(8, 1000, "point-blocking-test");
+        reactiveUserPointService = new ReactiveUserPointService(userPointService, scheduler, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 충전은 동시에 구독해도 하나씩 구독 순서대로 실행된다")
+    void chargePoint_SameUser_RunsOneAtATime() {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Long> applied = Collections.synchronizedList(new ArrayList<>());
+        when(userPointService.chargePoint(eq(1L), anyLong())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            applied.add(invocation.getArgument(1));
+            running.decrementAndGet();
+            return new UserPoint(1L, invocation.getArgument(1), 1L);
+        });
+
+        // when
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        for (long amount = 1; amount <= 20; amount++) {
+            results.add(reactiveUserPointService.chargePoint(1L, amount).toFuture());
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(applied).containsExactlyElementsOf(LongStream.rangeClosed(1, 20).boxed().toList());
+        assertThat(reactiveUserPointService.pendingUserCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("앞선 작업이 실패해도 같은 사용자의 다음 작업은 실행된다")
+    void usePoint_FailureDoesNotBlockNext() {
+        // given
+        when(userPointService.usePoint(1L, 5000L))
+                .thenThrow(new IllegalArgumentException("잔액이 부족합니다. 현재 잔액: 0, 사용 금액: 5000"));
+        when(userPointService.chargePoint(1L, 1000L)).thenReturn(new UserPoint(1L, 1000L, 1L));
+
+        // when & then
+        StepVerifier.create(reactiveUserPointService.usePoint(1L, 5000L))
+                .expectErrorMatches(e -> e instanceof IllegalArgumentException && e.getMessage().contains("잔액이 부족합니다"))
+                .verify(Duration.ofSeconds(5));
+        StepVerifier.create(reactiveUserPointService.chargePoint(1L, 1000L))
+                .expectNextMatches(userPoint -> userPoint.point() == 1000L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("awaitUser 는 구독된 사용자의 변경 작업이 끝날 때까지 기다린다")
+    void awaitUser_WaitsForSubscribedMutation() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(userPointService.chargePoint(1L, 1000L)).thenAnswer(invocation -> {
+            release.await();
+            return new UserPoint(1L, 1000L, 1L);
+        });
+        CompletableFuture<UserPoint> charged = reactiveUserPointService.chargePoint(1L, 1000L).toFuture();
+
+        // when & then
+        assertThat(reactiveUserPointService.awaitUser(1L, Duration.ofMillis(50))).isFalse();
+        assertThat(reactiveUserPointService.awaitUser(2L, Duration.ZERO)).isTrue();
+        release.countDown();
+        assertThat(reactiveUserPointService.awaitUser(1L, Duration.ofSeconds(5))).isTrue();
+        assertThat(charged.join().point()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("구독 전에는 아무 작업도 실행되지 않는다")
+    void chargePoint_Lazy() {
+        // when
+        reactiveUserPointService.chargePoint(1L, 1000L);
+
+        // then
+        verifyNoInteractions(userPointService);
+    }
+
+    @Test
+    @DisplayName("거래 내역은 페이지 크기만큼씩 이어 읽어 최신순으로 흘려보낸다")
+    void streamTransactionHistory_FollowsCursor() {
+        // given
+        PointHistory third = new PointHistory(3L, 1L, 300L, TransactionType.CHARGE, 3L);
+        PointHistory second = new PointHistory(2L, 1L, 200L, TransactionType.USE, 2L);
+        PointHistory first = new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1L);
+        when(userPointService.getTransactionHistoryPage(1L, new PointHistoryCondition(null, null, null, null), 2))
+                .thenReturn(new PointHistoryPage(List.of(third, second), 2L));
+        when(userPointService.getTransactionHistoryPage(1L, new PointHistoryCondition(2L, null, null, null), 2))
+                .thenReturn(new PointHistoryPage(List.of(first), null));
+
+        // when & then
+        StepVerifier.create(reactiveUserPointService.streamTransactionHistory(1L))
+                .expectNext(third, second, first)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("포인트 조회는 scheduler 스레드에서 실행된다")
+    void getUserPoint_RunsOnScheduler() {
+        // given
+        List<String> threads = new ArrayList<>();
+        when(userPointService.getUserPoint(1L)).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return new UserPoint(1L, 1000L, 1L);
+        });
+
+        // when
+        UserPoint userPoint = reactiveUserPointService.getUserPoint(1L).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(1000L);
+        assertThat(threads).singleElement().asString().startsWith("point-blocking-test");
+    }
+}
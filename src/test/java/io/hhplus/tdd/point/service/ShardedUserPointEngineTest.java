@@ -0,0 +1,179 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ShardedUserPointEngine 테스트")
+class ShardedUserPointEngineTest {
+
+    private UserPointRepository userPointRepository;
+    private PointHistoryRepository pointHistoryRepository;
+
+    private ShardedUserPointEngine engine(int workerCapacity) {
+        return engine(4, workerCapacity);
+    }
+
+    private ShardedUserPointEngine engine(int shardCount, int workerCapacity) {
+        userPointRepository = mock(UserPointRepository.class);
+        when(userPointRepository.selectById(anyLong())).thenAnswer(invocation -> UserPoint.empty(invocation.getArgument(0)));
+        pointHistoryRepository = mock(PointHistoryRepository.class);
+        when(pointHistoryRepository.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        return new ShardedUserPointEngine(userPointRepository, pointHistoryRepository, shardCount, 16, workerCapacity);
+    }
+
+    @ParameterizedTest(name = "workerCapacity={0}")
+    @ValueSource(ints = {0, 100})
+    @DisplayName("여러 스레드가 여러 사용자에게 동시에 충전/사용해도 잔액이 정확하다")
+    void concurrentChargeAndUse_BalancesConsistent(int workerCapacity) throws Exception {
+        // given
+        ShardedUserPointEngine engine = engine(workerCapacity);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int thread = 0; thread < 8; thread++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    long userId = i % 20;
+                    engine.charge(userId, 3L);
+                    engine.use(userId, 1L);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        for (long userId = 0; userId < 20; userId++) {
+            assertThat(engine.getUserPoint(userId).point()).isEqualTo(8 * 25 * 2L);
+        }
+        assertThat(engine.userCounts()).containsExactly(5, 5, 5, 5);
+        verify(pointHistoryRepository, times(8 * 500 * 2)).insert(anyLong(), anyLong(), any(), anyLong());
+        engine.close();
+    }
+
+    @ParameterizedTest(name = "workerCapacity={0}")
+    @ValueSource(ints = {0, 100})
+    @DisplayName("처음 보는 사용자의 잔액은 잔액 저장소에서 한 번만 읽고 변경마다 저장소에 저장한다")
+    void initialBalance_LoadedOnceAndPersisted(int workerCapacity) throws Exception {
+        // given
+        ShardedUserPointEngine engine = engine(workerCapacity);
+        when(userPointRepository.selectById(1L)).thenReturn(new UserPoint(1L, 5000L, 0L));
+
+        // when
+        engine.charge(1L, 1000L);
+        UserPoint used = engine.use(1L, 2000L);
+
+        // then
+        assertThat(used.point()).isEqualTo(4000L);
+        assertThat(engine.getUserPoint(1L).point()).isEqualTo(4000L);
+        verify(userPointRepository, times(1)).selectById(1L);
+        verify(userPointRepository).insertOrUpdate(1L, 6000L);
+        verify(userPointRepository).insertOrUpdate(1L, 4000L);
+        engine.close();
+    }
+
+    @ParameterizedTest(name = "workerCapacity={0}")
+    @ValueSource(ints = {0, 100})
+    @DisplayName("잔액 검증이나 내역 기록에 실패하면 잔액이 바뀌지 않는다")
+    void failure_LeavesBalanceUnchanged(int workerCapacity) throws Exception {
+        // given
+        ShardedUserPointEngine engine = engine(workerCapacity);
+        engine.charge(1L, 1000L);
+        when(pointHistoryRepository.insert(eq(1L), eq(500L), any(), anyLong()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("기록 실패")));
+
+        // when & then
+        assertThatThrownBy(() -> engine.use(1L, 5000L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잔액이 부족합니다");
+        assertThatThrownBy(() -> engine.charge(1L, 500L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("기록 실패");
+        assertThat(engine.getUserPoint(1L).point()).isEqualTo(1000L);
+        engine.close();
+    }
+
+    @ParameterizedTest(name = "workerCapacity={0}")
+    @ValueSource(ints = {0, 100})
+    @DisplayName("내역 ack 를 기다리는 동안 같은 shard 의 다른 사용자는 막히지 않고 같은 사용자는 순서대로 기다린다")
+    void pendingHistory_BlocksOnlySameUser(int workerCapacity) throws Exception {
+        // given
+        ShardedUserPointEngine engine = engine(1, workerCapacity);
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        when(pointHistoryRepository.insert(eq(1L), eq(1000L), any(), anyLong())).thenReturn(written);
+        CompletableFuture<UserPoint> slow = engine.chargeAsync(1L, 1000L);
+        CompletableFuture<UserPoint> next = engine.useAsync(1L, 300L);
+
+        // when
+        UserPoint other = engine.charge(2L, 500L);
+
+        // then
+        assertThat(other.point()).isEqualTo(500L);
+        assertThat(slow).isNotDone();
+        assertThat(next).isNotDone();
+        assertThat(engine.getUserPoint(1L).point()).isZero();
+        written.complete(null);
+        assertThat(slow.join().point()).isEqualTo(1000L);
+        assertThat(next.join().point()).isEqualTo(700L);
+        engine.close();
+    }
+
+    @ParameterizedTest(name = "workerCapacity={0}")
+    @ValueSource(ints = {0, 100})
+    @DisplayName("일괄 처리는 요청 순서대로 반영하고 실패한 건만 실패 결과로 돌려준다")
+    void applyAll_ReturnsResultsInOrder(int workerCapacity) throws Exception {
+        // given
+        ShardedUserPointEngine engine = engine(workerCapacity);
+        List<PointOperation> operations = List.of(
+                new PointOperation(1L, 1000L, TransactionType.CHARGE),
+                new PointOperation(2L, 500L, TransactionType.USE),
+                new PointOperation(1L, 300L, TransactionType.USE));
+
+        // when
+        List<PointOperationResult> results = engine.applyAll(operations);
+
+        // then
+        assertThat(results).extracting(PointOperationResult::success).containsExactly(true, false, true);
+        assertThat(results.get(2).userPoint().point()).isEqualTo(700L);
+        engine.close();
+    }
+
+    @ParameterizedTest(name = "workerCapacity={0}")
+    @ValueSource(ints = {0, 100})
+    @DisplayName("종료 후에는 조회/변경이 거부된다")
+    void close_RejectsCommands(int workerCapacity) throws Exception {
+        // given
+        ShardedUserPointEngine engine = engine(workerCapacity);
+        CompletableFuture<UserPoint> pending = engine.chargeAsync(1L, 1000L);
+
+        // when
+        engine.close();
+
+        // then
+        assertThat(pending.join().point()).isEqualTo(1000L);
+        assertThatThrownBy(() -> engine.chargeAsync(1L, 1000L)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> engine.getUserPoint(1L)).isInstanceOf(IllegalStateException.class);
+    }
+}
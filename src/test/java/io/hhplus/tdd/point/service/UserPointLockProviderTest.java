@@ -0,0 +1,180 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.service.UserPointLockProvider.Mode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UserPointLockProvider 테스트")
+class UserPointLockProviderTest {
+
+    @Test
+    @DisplayName("Lock 을 놓으면 사용자별 Lock 이 제거된다")
+    void referenceCounted_RemovesIdleLock() {
+        // given
+        UserPointLockProvider lockProvider = new UserPointLockProvider();
+        // when
+        lockProvider.lock(1L);
+        int whileLocked = lockProvider.size();
+        lockProvider.unlock(1L);
+
+        // then
+        assertThat(whileLocked).isEqualTo(1);
+        assertThat(lockProvider.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Lock 을 잡은 스레드가 있으면 같은 사용자의 다른 스레드는 기다린다")
+    void referenceCounted_MutualExclusion() throws InterruptedException {
+        // given
+        UserPointLockProvider lockProvider = new UserPointLockProvider();
+        lockProvider.lock(1L);
+
+        // when
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch acquired = new CountDownLatch(1);
+        executor.submit(() -> {
+            lockProvider.lock(1L);
+            try {
+                acquired.countDown();
+            } finally {
+                lockProvider.unlock(1L);
+            }
+        });
+
+        // then
+        assertThat(acquired.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        lockProvider.unlock(1L);
+        assertThat(acquired.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(lockProvider.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 Lock 을 잡고 놓아도 카운트가 정확하고 남는 Lock 이 없다")
+    void referenceCounted_ManyUsersConcurrently() throws InterruptedException {
+        // given
+        UserPointLockProvider lockProvider = new UserPointLockProvider();
+        int threadCount = 16;
+        int iterations = 10_000;
+        long[] counters = new long[4];
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < iterations; i++) {
+                        int userId = i % counters.length;
+                        lockProvider.lock(userId);
+                        try {
+                            counters[userId]++;
+                        } finally {
+                            lockProvider.unlock(userId);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executor.shutdown();
+
+        // then
+        assertThat(counters).containsOnly((long) threadCount * iterations / counters.length);
+        assertThat(lockProvider.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("tryLock 에 실패하면 참조를 남기지 않는다")
+    void referenceCounted_TryLockFailureReleasesReference() throws Exception {
+        // given
+        UserPointLockProvider lockProvider = new UserPointLockProvider();
+        lockProvider.lock(1L);
+
+        // when
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        boolean locked = executor.submit(() -> lockProvider.tryLock(1L)).get();
+        executor.shutdown();
+        lockProvider.unlock(1L);
+
+        // then
+        assertThat(locked).isFalse();
+        assertThat(lockProvider.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("잡지 않은 Lock 을 반납하면 예외가 발생한다")
+    void referenceCounted_UnlockWithoutLock_Throws() {
+        // given
+        UserPointLockProvider lockProvider = new UserPointLockProvider();
+
+        // when & then
+        assertThatThrownBy(() -> lockProvider.unlock(1L)).isInstanceOf(IllegalMonitorStateException.class);
+        assertThat(lockProvider.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("STRIPED 모드는 같은 사용자를 항상 같은 Lock 으로 막고 Lock 수가 고정된다")
+    void striped_LocksSameUserWithSameLock() throws Exception {
+        // given
+        UserPointLockProvider lockProvider = new UserPointLockProvider(Mode.STRIPED, 100);
+        for (long userId = 0; userId < 10_000; userId++) {
+            lockProvider.lock(userId);
+            lockProvider.unlock(userId);
+        }
+
+        // when
+        lockProvider.lock(42L);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        boolean locked = executor.submit(() -> lockProvider.tryLock(42L)).get();
+        executor.shutdown();
+        lockProvider.unlock(42L);
+
+        // then
+        assertThat(locked).isFalse();
+        assertThat(lockProvider.size()).isEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("가상 스레드가 Lock 을 잡은 채 대기해도 carrier 를 고정하지 않아 carrier 수보다 많이 동시에 진행된다")
+    void virtualThreads_DoNotPinCarriers() throws InterruptedException {
+        // given
+        UserPointLockProvider lockProvider = new UserPointLockProvider();
+        int userCount = 2_000;
+        CountDownLatch done = new CountDownLatch(userCount);
+        long startNanos = System.nanoTime();
+
+        // when: 사용자마다 Lock 을 잡은 채 테이블 호출처럼 50ms 대기
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long userId = 0; userId < userCount; userId++) {
+                long id = userId;
+                executor.submit(() -> {
+                    lockProvider.lock(id);
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        lockProvider.unlock(id);
+                        done.countDown();
+                    }
+                });
+            }
+        }
+
+        // then: carrier 가 고정되면 (사용자 수 / 코어 수) * 50ms 가 걸림
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isLessThan(3_000L);
+        assertThat(lockProvider.size()).isZero();
+    }
+}
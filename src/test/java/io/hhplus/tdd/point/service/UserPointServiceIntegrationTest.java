@@ -13,6 +13,9 @@ import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.TransactionType;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.TablePointHistoryRepository;
+import io.hhplus.tdd.point.repository.TableUserPointRepository;
 
 @DisplayName("UserPointService 통합 테스트")
 class UserPointServiceIntegrationTest {
@@ -22,7 +25,7 @@ class UserPointServiceIntegrationTest {
         UserPointTable userPointTable = new UserPointTable();
         PointHistoryTable pointHistoryTable = new PointHistoryTable();
         UserPointLockProvider lockProvider = new UserPointLockProvider();
-        UserPointService service = new UserPointService(userPointTable, pointHistoryTable, lockProvider);
+        UserPointService service = newService(userPointTable, pointHistoryTable, lockProvider);
 
         // 충전
         UserPoint charged = service.chargePoint(1L, 10000L);
@@ -49,7 +52,7 @@ class UserPointServiceIntegrationTest {
         UserPointTable userPointTable = new UserPointTable();
         PointHistoryTable pointHistoryTable = new PointHistoryTable();
         UserPointLockProvider lockProvider = new UserPointLockProvider();
-        UserPointService service = new UserPointService(userPointTable, pointHistoryTable, lockProvider);
+        UserPointService service = newService(userPointTable, pointHistoryTable, lockProvider);
 
         int threadCount = 10;
         long chargeAmount = 1000L;
@@ -82,7 +85,7 @@ class UserPointServiceIntegrationTest {
         UserPointTable userPointTable = new UserPointTable();
         PointHistoryTable pointHistoryTable = new PointHistoryTable();
         UserPointLockProvider lockProvider = new UserPointLockProvider();
-        UserPointService service = new UserPointService(userPointTable, pointHistoryTable, lockProvider);
+        UserPointService service = newService(userPointTable, pointHistoryTable, lockProvider);
 
         // 5000원 충전
         service.chargePoint(1L, 5000L);
@@ -121,4 +124,11 @@ class UserPointServiceIntegrationTest {
         List<PointHistory> histories = service.getTransactionHistory(1L);
         assertThat(histories.stream().filter(h -> h.type() == TransactionType.USE)).hasSize(5);
     }
-}
\ No newline at end of file
+
+    private static UserPointService newService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, UserPointLockProvider lockProvider) {
+        PointHistoryRepository pointHistoryRepository = new TablePointHistoryRepository(pointHistoryTable);
+        UserPointEngine userPointEngine = new LockingUserPointEngine(
+                new TableUserPointRepository(userPointTable), pointHistoryRepository, lockProvider);
+        return new UserPointService(userPointEngine, pointHistoryRepository, PointMetrics.noop());
+    }
+}
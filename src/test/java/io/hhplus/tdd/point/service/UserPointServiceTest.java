@@ -2,22 +2,26 @@ package io.hhplus.tdd.point.service;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
 
 import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.TablePointHistoryRepository;
+import io.hhplus.tdd.point.repository.TableUserPointRepository;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,9 +40,15 @@ class UserPointServiceTest {
     @Mock
     UserPointLockProvider lockProvider;
 
-    @InjectMocks
     UserPointService userPointService;
 
+    @BeforeEach
+    void setUp() {
+        PointHistoryRepository pointHistoryRepository = new TablePointHistoryRepository(pointHistoryTable);
+        UserPointEngine userPointEngine = new LockingUserPointEngine(
+                new TableUserPointRepository(userPointTable), pointHistoryRepository, lockProvider);
+        userPointService = new UserPointService(userPointEngine, pointHistoryRepository, PointMetrics.noop());
+    }
 
     @Test
     @DisplayName("사용자 포인트 조회")
@@ -67,8 +77,6 @@ class UserPointServiceTest {
         UserPoint currentUserPoint = new UserPoint(userId, currentBalance, System.currentTimeMillis());
         UserPoint updatedUserPoint = new UserPoint(userId, newBalance, System.currentTimeMillis());
         
-        // 0708 lock 취득 추가
-        when(lockProvider.getLock(userId)).thenReturn(new ReentrantLock());
         when(userPointTable.selectById(userId)).thenReturn(currentUserPoint);
         when(userPointTable.insertOrUpdate(userId, newBalance)).thenReturn(updatedUserPoint);
         when(pointHistoryTable.insert(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong()))
@@ -94,8 +102,6 @@ class UserPointServiceTest {
         UserPoint currentUserPoint = new UserPoint(userId, currentBalance, System.currentTimeMillis());
         UserPoint updatedUserPoint = new UserPoint(userId, newBalance, System.currentTimeMillis());
         
-        // 0708 lock 취득 추가
-        when(lockProvider.getLock(userId)).thenReturn(new ReentrantLock());
         when(userPointTable.selectById(userId)).thenReturn(currentUserPoint);
         when(userPointTable.insertOrUpdate(userId, newBalance)).thenReturn(updatedUserPoint);
         when(pointHistoryTable.insert(eq(userId), eq(useAmount), eq(TransactionType.USE), anyLong()))
@@ -118,8 +124,6 @@ class UserPointServiceTest {
         long currentBalance = 500L;
         
         UserPoint currentUserPoint = new UserPoint(userId, currentBalance, System.currentTimeMillis());
-        // 0708 lock 취득 추가
-        when(lockProvider.getLock(userId)).thenReturn(new ReentrantLock());
         when(userPointTable.selectById(userId)).thenReturn(currentUserPoint);
 
         // when & then
@@ -145,4 +149,76 @@ class UserPointServiceTest {
         // then
         assertThat(result).isEqualTo(expectedHistory);
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("포인트 거래 내역 조회 - 시간순 내역을 최신순으로 반환 (같은 시각은 기록 순서 유지)")
+    void getTransactionHistory_ShouldReturnLatestFirst() {
+        // given
+        long userId = 1L;
+        PointHistory h1 = new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 100L);
+        PointHistory h2 = new PointHistory(2L, userId, 500L, TransactionType.USE, 200L);
+        PointHistory h3 = new PointHistory(3L, userId, 300L, TransactionType.USE, 200L);
+        PointHistory h4 = new PointHistory(4L, userId, 2000L, TransactionType.CHARGE, 300L);
+        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(List.of(h1, h2, h3, h4));
+
+        // when
+        List<PointHistory> result = userPointService.getTransactionHistory(userId);
+
+        // then
+        assertThat(result).containsExactly(h4, h2, h3, h1);
+    }
+
+    @Test
+    @DisplayName("포인트 거래 내역 페이지 조회 - 다음 페이지가 있으면 마지막 내역 ID 를 커서로 반환")
+    void getTransactionHistoryPage_ShouldReturnNextCursor() {
+        // given
+        long userId = 1L;
+        List<PointHistory> histories = List.of(
+            new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 100L),
+            new PointHistory(2L, userId, 500L, TransactionType.USE, 200L),
+            new PointHistory(3L, userId, 300L, TransactionType.USE, 300L)
+        );
+        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(histories);
+
+        // when
+        PointHistoryPage firstPage = userPointService.getTransactionHistoryPage(userId, PointHistoryCondition.none(), 2);
+        PointHistoryPage lastPage = userPointService.getTransactionHistoryPage(
+            userId, new PointHistoryCondition(firstPage.nextCursor(), null, null, null), 2);
+
+        // then
+        assertThat(firstPage.items()).extracting(PointHistory::id).containsExactly(3L, 2L);
+        assertThat(firstPage.nextCursor()).isEqualTo(2L);
+        assertThat(lastPage.items()).extracting(PointHistory::id).containsExactly(1L);
+        assertThat(lastPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("포인트 일괄 처리 - 사용자별로 한 번만 조회/저장하고 잔액 부족 건은 실패로 반환")
+    void applyPoints_ShouldGroupByUserAndReportFailures() {
+        // given
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 1000L, 0L));
+        when(userPointTable.selectById(2L)).thenReturn(new UserPoint(2L, 0L, 0L));
+        when(userPointTable.insertOrUpdate(1L, 1700L)).thenReturn(new UserPoint(1L, 1700L, 10L));
+        when(userPointTable.insertOrUpdate(2L, 300L)).thenReturn(new UserPoint(2L, 300L, 20L));
+        List<PointOperation> operations = List.of(
+            new PointOperation(2L, 300L, TransactionType.CHARGE),
+            new PointOperation(1L, 500L, TransactionType.CHARGE),
+            new PointOperation(1L, 5000L, TransactionType.USE),
+            new PointOperation(1L, 800L, TransactionType.USE),
+            new PointOperation(1L, 1000L, TransactionType.CHARGE)
+        );
+
+        // when
+        List<PointOperationResult> results = userPointService.applyPoints(operations);
+
+        // then
+        assertThat(results).extracting(PointOperationResult::success).containsExactly(true, true, false, true, true);
+        assertThat(results).extracting(result -> result.userPoint() == null ? null : result.userPoint().point())
+            .containsExactly(300L, 1500L, null, 700L, 1700L);
+        assertThat(results.get(2).message()).contains("잔액이 부족합니다");
+        verify(userPointTable, times(1)).selectById(1L);
+        verify(userPointTable, times(1)).insertOrUpdate(anyLong(), eq(1700L));
+        verify(pointHistoryTable, times(3)).insert(eq(1L), anyLong(), any(), eq(10L));
+        verify(pointHistoryTable, never()).insert(eq(1L), eq(5000L), any(), anyLong());
+    }
+}